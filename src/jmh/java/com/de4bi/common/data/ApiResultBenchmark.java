@@ -0,0 +1,69 @@
+package com.de4bi.common.data;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * <p>{@code ApiResult.toString()}(로깅용)과 Jackson 직렬화(응답용)의 단일/다중 스레드 성능을 측정합니다.</p>
+ * {@code ./gradlew jmh -Pjmh.includes=ApiResultBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class ApiResultBenchmark {
+
+    /**
+     * 같은 벤치마크를 4개의 스레드로 수행합니다.
+     */
+    @Threads(4)
+    public static class MultiThread extends ApiResultBenchmark {
+    }
+
+    /**
+     * 응답 데이터 예시입니다.
+     */
+    public static class SampleData {
+
+        public long seq = 1L;
+        public String id = "benchmark@de4bi.com";
+        public String nickname = "benchmark";
+        public String joinDate = "2021-01-01 00:00:00";
+    }
+
+    private ObjectMapper objMapper;     // Spring MessageConverter처럼 공유되는 ObjectMapper
+    private ApiResult<SampleData> apiResult;
+
+    @Setup
+    public void setup() {
+        this.objMapper = new ObjectMapper();
+        this.apiResult = ApiResult.of(true, "A0000", "정상 처리되었습니다.", new SampleData());
+    }
+
+    @Benchmark
+    public String apiResultToString() {
+        return this.apiResult.toString();
+    }
+
+    @Benchmark
+    public String jacksonSerialize() throws JsonProcessingException {
+        return this.objMapper.writeValueAsString(this.apiResult);
+    }
+}
@@ -0,0 +1,94 @@
+package com.de4bi.common.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>{@code CipherUtil}의 해싱/암호화 단일/다중 스레드 성능을 측정합니다.</p>
+ * {@code hashingGetInstance}는 매번 MessageDigest를 생성하고 SALT를 이어붙이는 기존 방식의 기준값입니다.
+ * {@code ./gradlew jmh -Pjmh.includes=CipherUtilBenchmark} (gc 프로파일러로 할당량 비교)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+public class CipherUtilBenchmark {
+
+    /**
+     * 같은 벤치마크를 4개의 스레드로 수행합니다.
+     */
+    @Threads(4)
+    public static class MultiThread extends CipherUtilBenchmark {
+    }
+
+    private byte[] originBytes;
+    private byte[] saltBytes;
+    private ByteBuffer originDirectBuf;
+    private ByteBuffer saltDirectBuf;
+    private SecretKeySpec secretKeySpec;
+    private ByteBuffer cipherOutBuf;
+
+    @Setup
+    public void setup() {
+        this.originBytes = "benchmark-password-1234!".getBytes(StandardCharsets.UTF_8);
+        this.saltBytes = "benchmark-server-salt-0123456789abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.UTF_8);
+        this.originDirectBuf = ByteBuffer.allocateDirect(this.originBytes.length).put(this.originBytes);
+        this.saltDirectBuf = ByteBuffer.allocateDirect(this.saltBytes.length).put(this.saltBytes);
+        this.secretKeySpec = new SecretKeySpec("0123456789abcdef".getBytes(StandardCharsets.UTF_8), "AES");
+        this.cipherOutBuf = ByteBuffer.allocateDirect(this.originBytes.length + 16);
+    }
+
+    @Benchmark
+    public byte[] hashingGetInstance() throws NoSuchAlgorithmException {
+        final byte[] saltedOriginBytes = new byte[this.originBytes.length + this.saltBytes.length];
+        System.arraycopy(this.originBytes, 0, saltedOriginBytes, 0, this.originBytes.length);
+        System.arraycopy(this.saltBytes, 0, saltedOriginBytes, this.originBytes.length, this.saltBytes.length);
+        final MessageDigest md = MessageDigest.getInstance("SHA-256");
+        md.update(saltedOriginBytes);
+        return md.digest();
+    }
+
+    @Benchmark
+    public byte[] hashingBytes() {
+        return CipherUtil.hashing(CipherUtil.SHA256, this.originBytes, this.saltBytes);
+    }
+
+    @Benchmark
+    public byte[] hashingDirectBuffer() {
+        this.originDirectBuf.rewind();
+        this.saltDirectBuf.rewind();
+        return CipherUtil.hashing(CipherUtil.SHA256, this.originDirectBuf, this.saltDirectBuf);
+    }
+
+    @Benchmark
+    public byte[] encryptBytes() {
+        return CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, this.originBytes, this.secretKeySpec);
+    }
+
+    @Benchmark
+    public int encryptDirectBuffer() {
+        this.originDirectBuf.rewind();
+        this.cipherOutBuf.clear();
+        return CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, this.originDirectBuf, this.cipherOutBuf, this.secretKeySpec);
+    }
+}
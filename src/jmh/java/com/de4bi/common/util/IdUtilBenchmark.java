@@ -0,0 +1,55 @@
+package com.de4bi.common.util;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>여러 요청 스레드가 동시에 tid/nonce를 생성하는 상황에서 {@code RandomStringUtils}(전역 Random 공유)와
+ * {@link IdUtil}(스레드별 난수 생성기)의 처리량을 비교합니다.</p>
+ * {@code ./gradlew jmh -Pjmh.includes=IdUtilBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class IdUtilBenchmark {
+
+    private final SecureRandom sharedSecureRandom = new SecureRandom();
+
+    // 기존 방식: 전역 java.util.Random 공유
+    @Benchmark
+    public String legacyTraceId() {
+        return RandomStringUtils.randomAlphanumeric(16);
+    }
+
+    @Benchmark
+    public String traceId() {
+        return IdUtil.newTraceId();
+    }
+
+    // 보안 용도 nonce를 하나의 SecureRandom으로 생성하는 경우
+    @Benchmark
+    public String legacySharedSecureNonce() {
+        return RandomStringUtils.random(32, 0, 0, true, true, null, this.sharedSecureRandom);
+    }
+
+    @Benchmark
+    public String nonce() {
+        return IdUtil.newNonce(32);
+    }
+}
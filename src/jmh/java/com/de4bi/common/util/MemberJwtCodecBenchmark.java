@@ -0,0 +1,79 @@
+package com.de4bi.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * <p>MemberJwt 발급/검증 성능을 기존 방식(jjwt 빌더/파서를 매번 생성)과 {@link MemberJwtCodec}으로 비교합니다.</p>
+ * {@code ./gradlew jmh -Pjmh.includes=MemberJwtCodecBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemberJwtCodecBenchmark {
+
+    private static final String SECRET = "benchmark-member-jwt-secret-0123456789-abcdefghijklmnopqrstuvwxyz";
+
+    private Map<String, Object> headerMap;
+    private Map<String, Object> claimsMap;
+    private String memberJwt;
+
+    @Setup
+    public void setup() {
+        final long curTime = System.currentTimeMillis() / 1000L;
+        this.headerMap = new LinkedHashMap<>();
+        this.headerMap.put(MemberJwtUtil.HEADER_KEY_PADDING, "0123456789abcdef");
+        this.claimsMap = new LinkedHashMap<>();
+        this.claimsMap.put(Claims.ID, "0123456789ABCDEF");
+        this.claimsMap.put(Claims.SUBJECT, "benchmark@de4bi.com");
+        this.claimsMap.put(Claims.ISSUER, "members.de4bi.com");
+        this.claimsMap.put(Claims.AUDIENCE, "*.de4bi.com");
+        this.claimsMap.put(Claims.ISSUED_AT, curTime);
+        this.claimsMap.put(Claims.EXPIRATION, curTime + 86400L);
+        this.claimsMap.put(Claims.NOT_BEFORE, curTime);
+        this.memberJwt = MemberJwtCodec.of(SECRET).issue(this.headerMap, this.claimsMap);
+    }
+
+    // 기존 방식: 매 호출마다 makeSignKey() + JwtBuilder
+    @Benchmark
+    public String legacyIssue() {
+        return Jwts.builder().setHeader(this.headerMap).setClaims(this.claimsMap)
+            .signWith(MemberJwtUtil.makeSignKey(SECRET), SignatureAlgorithm.HS256).compact();
+    }
+
+    // 기존 방식: 매 호출마다 makeSignKey() + JwtParserBuilder.build()
+    @Benchmark
+    public Jws<Claims> legacyValidate() {
+        return Jwts.parserBuilder().setSigningKey(MemberJwtUtil.makeSignKey(SECRET)).build().parseClaimsJws(this.memberJwt);
+    }
+
+    @Benchmark
+    public String codecIssue() {
+        return MemberJwtCodec.of(SECRET).issue(this.headerMap, this.claimsMap);
+    }
+
+    @Benchmark
+    public Jws<Claims> codecValidate() {
+        return MemberJwtCodec.of(SECRET).verify(this.memberJwt, null);
+    }
+}
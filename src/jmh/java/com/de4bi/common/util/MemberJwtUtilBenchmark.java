@@ -0,0 +1,71 @@
+package com.de4bi.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+
+/**
+ * <p>{@code MemberJwtUtil.issue()/validate()}의 단일/다중 스레드 성능을 측정합니다.</p>
+ * {@code ./gradlew jmh -Pjmh.includes=MemberJwtUtilBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class MemberJwtUtilBenchmark {
+
+    /**
+     * 같은 벤치마크를 4개의 스레드로 수행합니다.
+     */
+    @Threads(4)
+    public static class MultiThread extends MemberJwtUtilBenchmark {
+    }
+
+    private static final String SECRET = "benchmark-member-jwt-secret-0123456789-abcdefghijklmnopqrstuvwxyz";
+
+    private MemberJwtKeyring keyring;
+    private MemberJwtUtil.JwtClaims jwtClaims;
+    private String memberJwt;
+
+    @Setup
+    public void setup() {
+        final long curTime = System.currentTimeMillis() / 1000L;
+        this.keyring = MemberJwtKeyring.of(SECRET);
+        this.jwtClaims = MemberJwtUtil.JwtClaims.builder()
+            .id("0123456789ABCDEF")
+            .subject("benchmark@de4bi.com")
+            .issuer("members.de4bi.com")
+            .audience("*.de4bi.com")
+            .issuedAt(curTime)
+            .expiration(curTime + 86400L)
+            .notBefore(curTime)
+            .build();
+        this.memberJwt = MemberJwtUtil.issue(null, this.jwtClaims, this.keyring);
+    }
+
+    @Benchmark
+    public String issue() {
+        return MemberJwtUtil.issue(null, this.jwtClaims, this.keyring);
+    }
+
+    @Benchmark
+    public Jws<Claims> validate() {
+        return MemberJwtUtil.validate(this.memberJwt, this.keyring, null);
+    }
+}
@@ -0,0 +1,50 @@
+package com.de4bi.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>{@code SecurityUtil.passwordSecureHashing()}의 단일/다중 스레드 성능을 측정합니다.</p>
+ * {@code ./gradlew jmh -Pjmh.includes=SecurityUtilBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class SecurityUtilBenchmark {
+
+    /**
+     * 같은 벤치마크를 4개의 스레드로 수행합니다.
+     */
+    @Threads(4)
+    public static class MultiThread extends SecurityUtilBenchmark {
+    }
+
+    private String password;
+    private String salt;
+
+    @Setup
+    public void setup() {
+        this.password = "benchmark-password-1234!";
+        this.salt = "benchmark-server-salt-0123456789abcdefghijklmnopqrstuvwxyz";
+    }
+
+    @Benchmark
+    public String passwordSecureHashing() {
+        return SecurityUtil.passwordSecureHashing(this.password, this.salt);
+    }
+}
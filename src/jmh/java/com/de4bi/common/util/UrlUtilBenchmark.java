@@ -0,0 +1,62 @@
+package com.de4bi.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>{@code UrlUtil.makeUrlParam()/parseUrlParam()}의 단일/다중 스레드 성능을 측정합니다.</p>
+ * {@code ./gradlew jmh -Pjmh.includes=UrlUtilBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class UrlUtilBenchmark {
+
+    /**
+     * 같은 벤치마크를 4개의 스레드로 수행합니다.
+     */
+    @Threads(4)
+    public static class MultiThread extends UrlUtilBenchmark {
+    }
+
+    private static final String DELIMITER = "`";
+
+    private Map<String, Object> paramMap;
+    private String urlParam;
+
+    @Setup
+    public void setup() {
+        this.paramMap = new LinkedHashMap<>();
+        this.paramMap.put("returnUrl", "https://www.de4bi.com/members/mypage?tab=info");
+        this.paramMap.put("nonce", "0123456789abcdefghijklmnopqrstuv");
+        this.paramMap.put("time", "1609459200000");
+        this.urlParam = UrlUtil.makeUrlParam(this.paramMap, DELIMITER);
+    }
+
+    @Benchmark
+    public String makeUrlParam() {
+        return UrlUtil.makeUrlParam(this.paramMap, DELIMITER);
+    }
+
+    @Benchmark
+    public Map<String, Object> parseUrlParam() {
+        return UrlUtil.parseUrlParam(this.urlParam, DELIMITER);
+    }
+}
@@ -0,0 +1,65 @@
+package com.de4bi.members.manager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * <p>{@code CodeMsgManager.getMsg()}의 단일/다중 스레드 성능을 측정합니다.</p>
+ * 로케일 파일은 프로젝트 경로({@code src/main/resources/locale})에서 읽으므로 프로젝트 루트에서 실행합니다.
+ * {@code ./gradlew jmh -Pjmh.includes=CodeMsgManagerBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class CodeMsgManagerBenchmark {
+
+    /**
+     * 같은 벤치마크를 4개의 스레드로 수행합니다.
+     */
+    @Threads(4)
+    public static class MultiThread extends CodeMsgManagerBenchmark {
+    }
+
+    private CodeMsgManager codeMsgManager;
+    private List<String> paramList;
+
+    @Setup
+    public void setup() {
+        final StandardEnvironment env = new StandardEnvironment();
+        env.getPropertySources().addFirst(new MapPropertySource("benchmark",
+            Collections.singletonMap("locale.string-path", (Object) "src/main/resources/locale")));
+        this.codeMsgManager = new CodeMsgManager(env);
+        this.codeMsgManager.init();
+        this.paramList = Arrays.asList("2021-01-31 00:00:00");
+    }
+
+    @Benchmark
+    public String getMsg() {
+        return this.codeMsgManager.getMsg("A0000", null);
+    }
+
+    @Benchmark
+    public String getMsgWithParams() {
+        return this.codeMsgManager.getMsg("M0014", this.paramList);
+    }
+}
@@ -0,0 +1,15 @@
+package com.de4bi.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조회(select) 매퍼 메서드라도 복제본(replica)이 아닌 주(primary) DB에서 조회합니다.
+ * 정지/권한 변경처럼 복제 지연된 값을 사용하면 안 되는 보안 검사용 조회에만 사용합니다.
+ * 같은 요청에서 쓰기 이후의 조회는 지정하지 않아도 주 DB에서 수행됩니다. (sticky primary)
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadFromPrimary {}
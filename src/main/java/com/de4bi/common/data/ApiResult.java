@@ -34,6 +34,10 @@ public final class ApiResult<T> {
     public static final String KEY_MESSAGE  = "message";    // 메시지 (Result message)
     public static final String KEY_DATA     = "data";       // 데이터 (Result data)
 
+    // [Note] ObjectMapper는 설정을 마친 후에는 thread-safe하므로, toString()마다 생성하지 않고 공유한다
+    private static final ObjectMapper TO_STRING_MAPPER =
+        new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+
     /**
      * <p>ApiResult객체를 생성합니다.</p>
      * @param resultMap : 객체 내부에서 데이터를 관리하기 위해 사용할 Map입니다. null전달 시 HashMap을 사용합니다.
@@ -204,11 +208,9 @@ public final class ApiResult<T> {
      */
     @Override
     public String toString() {
-        final ObjectMapper objMapper = new ObjectMapper();
         String rtStr = null;
         try {
-            objMapper.setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
-            rtStr = objMapper.writeValueAsString(this.resultMap);
+            rtStr = TO_STRING_MAPPER.writeValueAsString(this.resultMap);
         }
         catch (JsonProcessingException e) {
             throw new IllegalStateException("Fail to convert 'this.resultMap' to 'rtStr'!", e.getCause());
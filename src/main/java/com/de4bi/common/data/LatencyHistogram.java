@@ -0,0 +1,180 @@
+package com.de4bi.common.data;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * <p>소요시간(ns) 분포를 기록하는 히스토그램입니다. thread-safe하며, 기록은 lock-free로 수행됩니다.</p>
+ * 값은 2의 거듭제곱 구간을 다시 8개로 나눈 구간(상대오차 12.5% 이내)에 기록되므로
+ * 기록 횟수와 관계없이 고정된 메모리(약 4KB)만 사용합니다.
+ * 백분위수는 해당 구간의 상한값으로 계산합니다.
+ */
+public class LatencyHistogram {
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 히스토그램의 요약 정보입니다. (단위: us)
+     */
+    @AllArgsConstructor
+    @Data
+    @JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+    public static class Snapshot {
+
+        private long count;         // 기록 횟수
+        private long meanUs;        // 평균
+        private long p50Us;         // 50 백분위수
+        private long p90Us;         // 90 백분위수
+        private long p99Us;         // 99 백분위수
+        private long p999Us;        // 99.9 백분위수
+        private long maxUs;         // 최대
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private static final int SUB_BUCKET_BITS = 3;                       // 2의 거듭제곱 구간당 하위 구간 비트 수
+    private static final int SUB_BUCKET_CNT = 1 << SUB_BUCKET_BITS;     // 2의 거듭제곱 구간당 하위 구간 수
+    private static final int BUCKET_CNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKET_CNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_CNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>소요시간을 기록합니다.</p>
+     * @param nanos : 소요시간(ns), 음수는 0으로 기록합니다.
+     */
+    public void record(long nanos) {
+        final long value = Math.max(0L, nanos);
+        this.buckets.incrementAndGet(bucketIndexOf(value));
+        this.count.increment();
+        this.sumNanos.add(value);
+
+        long curMax;
+        while (value > (curMax = this.maxNanos.get()) && this.maxNanos.compareAndSet(curMax, value) == false) {
+            // CAS 재시도
+        }
+    }
+
+    /**
+     * <p>소요시간을 기록합니다.</p>
+     * @param duration : 소요시간
+     * @param unit : 소요시간 단위
+     */
+    public void record(long duration, TimeUnit unit) {
+        record(unit.toNanos(duration));
+    }
+
+    /**
+     * @return 기록 횟수
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * @param percentile : 백분위 (0.0 ~ 100.0)
+     * @return 백분위수(ns), 기록이 없다면 0.
+     */
+    public long getPercentileNanos(double percentile) {
+        final long[] counts = new long[BUCKET_CNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_CNT; ++i) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        return percentileOf(counts, total, percentile);
+    }
+
+    /**
+     * @return 현재까지 기록된 값의 요약 정보
+     */
+    public Snapshot getSnapshot() {
+        final long[] counts = new long[BUCKET_CNT];
+        long total = 0L;
+        for (int i = 0; i < BUCKET_CNT; ++i) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+
+        final long sum = this.sumNanos.sum();
+        final long max = this.maxNanos.get();
+        return new Snapshot(
+            total,
+            (total == 0L ? 0L : toMicros(sum / total)),
+            toMicros(Math.min(max, percentileOf(counts, total, 50.0d))),
+            toMicros(Math.min(max, percentileOf(counts, total, 90.0d))),
+            toMicros(Math.min(max, percentileOf(counts, total, 99.0d))),
+            toMicros(Math.min(max, percentileOf(counts, total, 99.9d))),
+            toMicros(max));
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>값이 기록될 구간의 인덱스를 계산합니다.</p>
+     * {@code SUB_BUCKET_CNT}보다 작은 값은 값 그대로, 그 이상은 (최상위 비트 위치, 다음 {@code SUB_BUCKET_BITS}비트)로 구간을 정합니다.
+     */
+    private static int bucketIndexOf(long value) {
+        if (value < SUB_BUCKET_CNT) {
+            return (int) value;
+        }
+
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        final int subIdx = (int) (value >>> shift) & (SUB_BUCKET_CNT - 1);
+        return ((shift + 1) << SUB_BUCKET_BITS) + subIdx;
+    }
+
+    /**
+     * @return 구간에 기록될 수 있는 최대값
+     */
+    private static long bucketUpperBoundOf(int bucketIdx) {
+        if (bucketIdx < SUB_BUCKET_CNT) {
+            return bucketIdx;
+        }
+
+        final int shift = (bucketIdx >>> SUB_BUCKET_BITS) - 1;
+        final long subIdx = bucketIdx & (SUB_BUCKET_CNT - 1);
+        final long lowerBound = (SUB_BUCKET_CNT + subIdx) << shift;
+        return lowerBound + ((1L << shift) - 1L);
+    }
+
+    private static long percentileOf(long[] counts, long total, double percentile) {
+        if (total == 0L) {
+            return 0L;
+        }
+
+        final long rank = Math.max(1L, (long) Math.ceil(total * Math.min(100.0d, Math.max(0.0d, percentile)) / 100.0d));
+        long accumulated = 0L;
+        for (int i = 0; i < counts.length; ++i) {
+            accumulated += counts[i];
+            if (accumulated >= rank) {
+                return bucketUpperBoundOf(i);
+            }
+        }
+        return bucketUpperBoundOf(counts.length - 1);
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
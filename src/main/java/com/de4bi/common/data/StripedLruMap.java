@@ -0,0 +1,143 @@
+package com.de4bi.common.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>최대 보관개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거하는 맵입니다. thread-safe합니다.</p>
+ * 키의 해시로 나눈 세그먼트별 접근순서(access-order) LRU로 관리하므로,
+ * 가득 찬 경우에도 맵 전체를 비우지 않고 해당 세그먼트에서 한 항목씩만 제거합니다.
+ * null 키/값은 허용하지 않습니다.
+ */
+public class StripedLruMap<K, V> {
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 접근순서(access-order) LRU 세그먼트입니다. 동기화는 호출부에서 수행합니다.
+     */
+    private static class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > this.maxSize;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private static final int SEGMENT_CNT = 16; // 락 경합을 줄이기 위한 세그먼트 수 (2의 거듭제곱)
+
+    private final Segment<K, V>[] segments;
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @param maxSize : 최대 보관개수 (세그먼트별로 나누어 적용되므로 근사값)
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public StripedLruMap(int maxSize) {
+        final int segMaxSize = Math.max(1, maxSize / SEGMENT_CNT);
+        this.segments = new Segment[SEGMENT_CNT];
+        for (int i = 0; i < SEGMENT_CNT; ++i) {
+            this.segments[i] = new Segment<>(segMaxSize);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return 키에 해당하는 값, 없다면 null.
+     */
+    public V get(K key) {
+        final Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * <p>값을 저장합니다. 세그먼트가 가득 찬 경우 가장 오래 사용하지 않은 항목을 제거합니다.</p>
+     * @return 이전 값, 없었다면 null.
+     */
+    public V put(K key, V value) {
+        Objects.requireNonNull(value);
+        final Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            return segment.put(key, value);
+        }
+    }
+
+    /**
+     * <p>키가 전달된 이전 값을 가리키는 경우에만 새 값으로 교체합니다.</p>
+     * @return true: 교체됨<li>false: 교체되지 않음</li>
+     */
+    public boolean replace(K key, V oldValue, V newValue) {
+        Objects.requireNonNull(newValue);
+        final Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            return segment.replace(key, oldValue, newValue);
+        }
+    }
+
+    /**
+     * @return 제거된 값, 없었다면 null.
+     */
+    public V remove(K key) {
+        final Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            return segment.remove(key);
+        }
+    }
+
+    /**
+     * <p>키가 전달된 값을 가리키는 경우에만 제거합니다.</p>
+     * @return true: 제거됨<li>false: 제거되지 않음</li>
+     */
+    public boolean remove(K key, V value) {
+        final Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            return segment.remove(key, value);
+        }
+    }
+
+    /**
+     * @return 보관중인 항목 수
+     */
+    public int size() {
+        int rtSize = 0;
+        for (Segment<K, V> segment : this.segments) {
+            synchronized (segment) {
+                rtSize += segment.size();
+            }
+        }
+        return rtSize;
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    private Segment<K, V> segmentOf(K key) {
+        final int hash = key.hashCode();
+        return this.segments[(hash ^ (hash >>> 16)) & (SEGMENT_CNT - 1)];
+    }
+}
@@ -0,0 +1,195 @@
+package com.de4bi.common.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>JWT 사용처(aud)와 요청 사용처를 도메인 레이블 단위로 비교합니다.</p>
+ * <ul><li>레이블은 '.'으로 구분하며, 레이블 수가 같아야 합니다.</li>
+ * <li>양쪽 중 한 쪽의 레이블이 '*'라면 해당 레이블은 어떤 값과도 일치합니다. ex) {@code *.de4bi.com} = {@code members.de4bi.com}</li>
+ * <li>레이블은 대소문자를 구분하지 않습니다. (도메인 규칙)</li>
+ * <li>콤마(,)로 구분된 문자열이나 목록(JSON 배열)의 사용처는 하나라도 일치하면 일치로 판정합니다.</li></ul>
+ * 패턴은 최초 1회만 레이블 경계를 계산하여 캐시하고, 비교 시에는 문자열 분리나 객체 생성 없이 원본 문자열의 구간을 비교합니다.
+ * 캐시 조회는 락 없이 수행되며, 최대 개수에 도달하면 새 패턴을 저장할 때마다 임의의 패턴 하나를 제거하므로
+ * 클라이언트가 임의의 사용처를 보내도 캐시 크기는 제한되고, 자주 쓰는 패턴은 제거되더라도 다음 요청에서 다시 캐시됩니다.
+ */
+public class AudienceMatcher {
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 레이블 경계가 계산된 사용처 패턴입니다. (immutable)
+     */
+    public static class Pattern {
+
+        private final String[] sources;     // 대안별 원본 문자열
+        private final int[][] labelBgns;    // 대안별 레이블 시작 인덱스
+        private final int[][] labelEnds;    // 대안별 레이블 끝 인덱스 (exclusive)
+
+        private Pattern(String[] sources, int[][] labelBgns, int[][] labelEnds) {
+            this.sources = sources;
+            this.labelBgns = labelBgns;
+            this.labelEnds = labelEnds;
+        }
+
+        /**
+         * @param other : 비교할 패턴
+         * @return true: 한 쌍 이상의 대안이 일치<li>false: 불일치</li>
+         */
+        public boolean matches(Pattern other) {
+            for (int i = 0; i < this.sources.length; ++i) {
+                for (int j = 0; j < other.sources.length; ++j) {
+                    if (matchesAlternative(this, i, other, j)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private static
+    ////////////////////////////////////////////////////////////////
+
+    private static final int MAX_CACHE_SIZE = 4096; // 캐시할 최대 패턴 수 (요청 사용처는 종류가 많지 않음)
+    private static final char LABEL_DELIMITER = '.';
+    private static final char AUD_DELIMITER = ',';
+    private static final char WILDCARD = '*';
+
+    private static final ConcurrentMap<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>사용처 문자열을 패턴으로 변환합니다. 변환된 패턴은 최대 개수까지 캐시됩니다.</p>
+     * @param audience : 사용처 문자열, 콤마(,)로 여러 사용처를 지정할 수 있음 (not null)
+     * @return 변환된 패턴
+     */
+    public static Pattern compile(String audience) {
+        final Pattern cached = PATTERN_CACHE.get(audience);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (PATTERN_CACHE.size() >= MAX_CACHE_SIZE) {
+            // [Note] 동시에 여러 스레드가 제거할 수 있으므로 최대 개수는 근사값이다
+            final Iterator<String> iter = PATTERN_CACHE.keySet().iterator();
+            if (iter.hasNext()) {
+                PATTERN_CACHE.remove(iter.next());
+            }
+        }
+
+        // 동시에 변환된 경우 먼저 들어간 패턴을 사용한다
+        final Pattern rtPattern = doCompile(audience);
+        final Pattern prevPattern = PATTERN_CACHE.putIfAbsent(audience, rtPattern);
+        return (prevPattern != null ? prevPattern : rtPattern);
+    }
+
+    /**
+     * <p>JWT의 사용처(aud)와 요청 사용처를 비교합니다.</p>
+     * @param jwtAud : JWT의 'aud' Claim 값. 문자열 또는 문자열 목록. (nullable)
+     * @param audience : 요청 사용처 (nullable)
+     * @return true: 사용 가능<li>false: 사용 불가 (어느 한 쪽이 null인 경우 포함)</li>
+     */
+    public static boolean matches(Object jwtAud, String audience) {
+        if (jwtAud == null || audience == null) {
+            return false;
+        }
+
+        final Pattern reqPattern = compile(audience);
+        if (jwtAud instanceof String) {
+            return compile((String) jwtAud).matches(reqPattern);
+        }
+
+        if (jwtAud instanceof Collection) {
+            for (Object aud : (Collection<?>) jwtAud) {
+                if (aud != null && compile(aud.toString()).matches(reqPattern)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    private static Pattern doCompile(String audience) {
+        final List<String> sources = new ArrayList<>();
+        int bgn = 0;
+        for (int i = 0, len = audience.length(); i <= len; ++i) {
+            if (i == len || audience.charAt(i) == AUD_DELIMITER) {
+                final String source = audience.substring(bgn, i).trim();
+                if (source.isEmpty() == false || sources.isEmpty() && i == len) {
+                    sources.add(source);
+                }
+                bgn = i + 1;
+            }
+        }
+
+        final int altCnt = sources.size();
+        final int[][] labelBgns = new int[altCnt][];
+        final int[][] labelEnds = new int[altCnt][];
+        for (int i = 0; i < altCnt; ++i) {
+            final String source = sources.get(i);
+            int labelCnt = 1;
+            for (int j = 0; j < source.length(); ++j) {
+                if (source.charAt(j) == LABEL_DELIMITER) {
+                    ++labelCnt;
+                }
+            }
+
+            labelBgns[i] = new int[labelCnt];
+            labelEnds[i] = new int[labelCnt];
+            int labelIdx = 0;
+            int labelBgn = 0;
+            for (int j = 0; j <= source.length(); ++j) {
+                if (j == source.length() || source.charAt(j) == LABEL_DELIMITER) {
+                    labelBgns[i][labelIdx] = labelBgn;
+                    labelEnds[i][labelIdx] = j;
+                    ++labelIdx;
+                    labelBgn = j + 1;
+                }
+            }
+        }
+
+        return new Pattern(sources.toArray(new String[altCnt]), labelBgns, labelEnds);
+    }
+
+    private static boolean matchesAlternative(Pattern a, int aIdx, Pattern b, int bIdx) {
+        final String aSrc = a.sources[aIdx];
+        final String bSrc = b.sources[bIdx];
+        final int[] aBgns = a.labelBgns[aIdx];
+        final int[] aEnds = a.labelEnds[aIdx];
+        final int[] bBgns = b.labelBgns[bIdx];
+        final int[] bEnds = b.labelEnds[bIdx];
+        if (aBgns.length != bBgns.length) {
+            return false;
+        }
+
+        for (int i = 0; i < aBgns.length; ++i) {
+            final int aLen = aEnds[i] - aBgns[i];
+            final int bLen = bEnds[i] - bBgns[i];
+            if ((aLen == 1 && aSrc.charAt(aBgns[i]) == WILDCARD) || (bLen == 1 && bSrc.charAt(bBgns[i]) == WILDCARD)) {
+                continue; // '*' : 와일드카드
+            }
+
+            if (aLen != bLen || aSrc.regionMatches(true, aBgns[i], bSrc, bBgns[i], aLen) == false) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.de4bi.common.util;
 
+import java.nio.ByteBuffer;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
@@ -10,11 +11,34 @@ import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
+import javax.crypto.ShortBufferException;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
+/**
+ * <p>암복호화/해싱 유틸리티입니다.</p>
+ * {@code MessageDigest}, {@code Cipher}는 생성 비용(프로바이더 조회)이 크고 thread-safe하지 않으므로 스레드별로 생성하여 재사용합니다.
+ */
 public class CipherUtil {
 
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 스레드별로 재사용하는 Cipher와 마지막 초기화 정보입니다.
+     */
+    private static class CachedCipher {
+
+        private Cipher cipher;
+        private int opMode = -1;            // 마지막 초기화 모드 (-1: 초기화 필요)
+        private SecretKeySpec secretKeySpec; // 마지막 초기화 키 (같은 인스턴스인 경우 재초기화 생략)
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
     // CipherType
     private static final String TF_AES_CBC_PKCS5 = "AES/CBC/PKCS5Padding";
     public static final int AES_CBC_PKCS5 = 0;
@@ -27,6 +51,15 @@ public class CipherUtil {
     // 내부 상수
     private static final byte[] IV_ARY = "ABC0abc1DEF2def3GHI4ghi5JKL6jkl7MNO8mno9PQR+pqr-STU_stu=VWX~vwx/YZ.yz".getBytes();
     private static final IvParameterSpec IV_AES_CBC_PKCS5 = new IvParameterSpec(Arrays.copyOfRange(IV_ARY, 0, 16));
+
+    // 스레드별 인스턴스
+    private static final ThreadLocal<MessageDigest[]> TL_DIGESTS =
+        ThreadLocal.withInitial(() -> new MessageDigest[HASHING_ALGORITHMS.length]);
+    private static final ThreadLocal<CachedCipher> TL_AES_CIPHER = ThreadLocal.withInitial(CachedCipher::new);
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
     
     /**
      * <p>입력된 바이트 배열을 암호화하여 반환합니다.</p>
@@ -108,6 +141,30 @@ public class CipherUtil {
         return plainBytes;
     }
 
+    /**
+     * <p>입력 버퍼를 암호화하여 출력 버퍼에 기록합니다. (direct 버퍼 사용 가능)</p>
+     * @param cipherType : 암호화 알고리즘, 모드 및 패딩. ({@link #encrypt(int, byte[], SecretKeySpec)} 참고)
+     * @param plainBuf : 평문 버퍼. position부터 limit까지 암호화하며, position은 limit으로 이동합니다.
+     * @param cipherBuf : 암호문을 기록할 버퍼. (남은 공간이 평문 길이 + 블록 크기 이상이어야 함)
+     * @param secretKeySpec : 암호화 키.
+     * @return 출력 버퍼에 기록된 바이트 수.
+     */
+    public static int encrypt(int cipherType, ByteBuffer plainBuf, ByteBuffer cipherBuf, SecretKeySpec secretKeySpec) {
+        return cipherBuffer(cipherType, Cipher.ENCRYPT_MODE, plainBuf, cipherBuf, secretKeySpec);
+    }
+
+    /**
+     * <p>입력 버퍼를 복호화하여 출력 버퍼에 기록합니다. (direct 버퍼 사용 가능)</p>
+     * @param cipherType : 복호화 알고리즘, 모드 및 패딩. ({@link #decrypt(int, byte[], SecretKeySpec)} 참고)
+     * @param cipherBuf : 암호문 버퍼. position부터 limit까지 복호화하며, position은 limit으로 이동합니다.
+     * @param plainBuf : 평문을 기록할 버퍼. (남은 공간이 암호문 길이 이상이어야 함)
+     * @param secretKeySpec : 복호화 키.
+     * @return 출력 버퍼에 기록된 바이트 수.
+     */
+    public static int decrypt(int cipherType, ByteBuffer cipherBuf, ByteBuffer plainBuf, SecretKeySpec secretKeySpec) {
+        return cipherBuffer(cipherType, Cipher.DECRYPT_MODE, cipherBuf, plainBuf, secretKeySpec);
+    }
+
     /**
      * <p>입력된 바이트 배열을 해싱하여 반환합니다.</p>
      * @param hashingType : 해시 알고리즘
@@ -130,29 +187,44 @@ public class CipherUtil {
             throw new IllegalArgumentException("'originBytes' length is zero!");
         }
 
-        // SALTING
-        byte[] hashingTargetBytes = originBytes;
-
+        // 해싱 수행 (SALTING은 이어붙인 배열을 만들지 않고 이어서 입력)
+        final MessageDigest md = getDigest(hashingType);
+        md.update(originBytes);
         if (saltBytes != null && saltBytes.length > 0) {
-            byte[] saltedOriginBytes = new byte[originBytes.length + saltBytes.length];
-            System.arraycopy(originBytes, 0, saltedOriginBytes, 0, originBytes.length);
-            System.arraycopy(saltBytes, 0, saltedOriginBytes, originBytes.length, saltBytes.length);
-            hashingTargetBytes = saltedOriginBytes;
+            md.update(saltBytes);
         }
 
-        // 해싱 수행
-        byte[] hashingResultBytes = null;
+        return md.digest();
+    }
 
-        try {
-            MessageDigest md = MessageDigest.getInstance(HASHING_ALGORITHMS[hashingType]);
-            md.update(hashingTargetBytes);
-            hashingResultBytes = md.digest();
+    /**
+     * <p>입력된 버퍼를 해싱하여 반환합니다. (direct 버퍼 사용 가능)</p>
+     * @param hashingType : 해시 알고리즘 ({@link #hashing(int, byte[], byte[])} 참고)
+     * @param originBuf : 원본 데이터 버퍼. position부터 limit까지 해싱하며, position은 limit으로 이동합니다.
+     * @param saltBuf : SALTING을 위한 버퍼. (null이거나 남은 데이터가 없을 경우 Salting 생략)
+     * @return 해싱된 바이트 배열.
+     */
+    public static byte[] hashing(int hashingType, ByteBuffer originBuf, ByteBuffer saltBuf) {
+        // 파라미터 검사
+        if (hashingType != MD5 && hashingType != SHA256) {
+            throw new IllegalArgumentException("Undefined 'hashingType'! (hashingType:" + hashingType + ")");
         }
-        catch (NoSuchAlgorithmException | ArrayIndexOutOfBoundsException e) {
-            throw new IllegalStateException("Hashing Fail!", e);
+
+        if (originBuf == null) {
+            throw new NullPointerException("'originBuf' is null!");
+        }
+        else if (originBuf.hasRemaining() == false) {
+            throw new IllegalArgumentException("'originBuf' has no remaining!");
+        }
+
+        // 해싱 수행
+        final MessageDigest md = getDigest(hashingType);
+        md.update(originBuf);
+        if (saltBuf != null && saltBuf.hasRemaining()) {
+            md.update(saltBuf);
         }
 
-        return hashingResultBytes;
+        return md.digest();
     }
 
     /**
@@ -166,7 +238,11 @@ public class CipherUtil {
     public static byte[] hashing(int hashingType, String originStr) {
         return hashing(hashingType, originStr.getBytes(), null);
     }
-    
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
     /**
      * <p>AES 암복호화를 수행합니다.</p>
      * Algorithm    : AES-128 (16byte block) /
@@ -180,19 +256,91 @@ public class CipherUtil {
      * @return 암/복호화된 바이트 배열을 반환합니다.
      */
     private static byte[] cipherAES(int opMode, byte[] inBytes, SecretKeySpec secretKeySpec) {
-        byte[] outBytes = null;
-        
+        final CachedCipher cachedCipher = TL_AES_CIPHER.get();
         try {
-            Cipher aesCipher = Cipher.getInstance(TF_AES_CBC_PKCS5);
-            aesCipher.init(opMode, secretKeySpec, IV_AES_CBC_PKCS5);
-            outBytes = aesCipher.doFinal(inBytes);
+            return getAesCipher(cachedCipher, opMode, secretKeySpec).doFinal(inBytes);
         }
         catch (InvalidKeyException | InvalidAlgorithmParameterException | 
                IllegalBlockSizeException | BadPaddingException | 
                NoSuchAlgorithmException | NoSuchPaddingException e) {
+            cachedCipher.opMode = -1; // 실패한 Cipher는 다음 사용 시 다시 초기화
             throw new IllegalStateException("Fail to En/decrypt!" , e);
         }
-        
-        return outBytes;
+    }
+
+    /**
+     * <p>버퍼 암복호화를 수행합니다.</p>
+     * @return 출력 버퍼에 기록된 바이트 수.
+     */
+    private static int cipherBuffer(int cipherType, int opMode, ByteBuffer inBuf, ByteBuffer outBuf, SecretKeySpec secretKeySpec) {
+        // 파라미터 검사
+        if (inBuf == null || outBuf == null) {
+            throw new NullPointerException("'inBuf' or 'outBuf' is null!");
+        }
+        else if (inBuf.hasRemaining() == false) {
+            throw new IllegalArgumentException("'inBuf' has no remaining!");
+        }
+
+        if (secretKeySpec == null) {
+            throw new NullPointerException("'secretKeySpec' is null!");
+        }
+
+        if (cipherType != AES_CBC_PKCS5) {
+            throw new IllegalArgumentException("Undefined 'cipherType'! (cipherType:" + cipherType + ")");
+        }
+
+        // 암복호화 수행
+        final CachedCipher cachedCipher = TL_AES_CIPHER.get();
+        try {
+            return getAesCipher(cachedCipher, opMode, secretKeySpec).doFinal(inBuf, outBuf);
+        }
+        catch (InvalidKeyException | InvalidAlgorithmParameterException | 
+               IllegalBlockSizeException | BadPaddingException | ShortBufferException |
+               NoSuchAlgorithmException | NoSuchPaddingException e) {
+            cachedCipher.opMode = -1; // 실패한 Cipher는 다음 사용 시 다시 초기화
+            throw new IllegalStateException("Fail to En/decrypt!" , e);
+        }
+    }
+
+    /**
+     * <p>스레드의 AES Cipher를 반환합니다.</p>
+     * 같은 모드와 같은 키 인스턴스로 초기화되어 있다면 다시 초기화하지 않습니다.
+     * ({@code doFinal()}은 Cipher를 마지막으로 초기화된 상태로 되돌리며, IV는 고정값입니다.)
+     */
+    private static Cipher getAesCipher(CachedCipher cachedCipher, int opMode, SecretKeySpec secretKeySpec)
+        throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException, InvalidAlgorithmParameterException {
+        if (cachedCipher.cipher == null) {
+            cachedCipher.cipher = Cipher.getInstance(TF_AES_CBC_PKCS5);
+        }
+
+        if (cachedCipher.opMode != opMode || cachedCipher.secretKeySpec != secretKeySpec) {
+            cachedCipher.opMode = -1;
+            cachedCipher.cipher.init(opMode, secretKeySpec, IV_AES_CBC_PKCS5);
+            cachedCipher.opMode = opMode;
+            cachedCipher.secretKeySpec = secretKeySpec;
+        }
+
+        return cachedCipher.cipher;
+    }
+
+    /**
+     * <p>스레드의 MessageDigest를 초기화하여 반환합니다.</p>
+     */
+    private static MessageDigest getDigest(int hashingType) {
+        final MessageDigest[] digests = TL_DIGESTS.get();
+        MessageDigest md = digests[hashingType];
+        if (md == null) {
+            try {
+                md = MessageDigest.getInstance(HASHING_ALGORITHMS[hashingType]);
+            }
+            catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Hashing Fail!", e);
+            }
+            digests[hashingType] = md;
+        }
+        else {
+            md.reset(); // 이전 사용 중 예외가 발생한 경우를 대비
+        }
+        return md;
     }
 }
@@ -0,0 +1,127 @@
+package com.de4bi.common.util;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>추적 ID(tid), 패딩, nonce등의 식별 문자열을 생성합니다.</p>
+ * {@code RandomStringUtils.randomAlphanumeric()}은 하나의 전역 {@code java.util.Random}을 공유하므로
+ * 요청 스레드가 많아지면 시드 갱신(CAS)에서 경합이 발생합니다. 이 클래스는 스레드별 난수 생성기를 사용합니다.
+ * <ul><li>tid, 패딩: {@link ThreadLocalRandom} (보안 용도가 아닌 값)</li>
+ * <li>nonce: 스레드별 {@link SecureRandom} (보안 용도의 값)</li></ul>
+ */
+public class IdUtil {
+
+    ////////////////////////////////////////////////////////////////
+    // private static
+    ////////////////////////////////////////////////////////////////
+
+    // [Note] ASCII 순서와 같은 순서로 정렬된 base62 문자이므로, 생성된 문자열은 사전순 정렬 시 값의 순서를 유지한다
+    private static final char[] BASE62_CHARS =
+        "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int BASE62 = BASE62_CHARS.length;
+
+    private static final int TRACE_ID_LEN = 16;         // tid 길이
+    private static final int TRACE_ID_TIME_LEN = 7;     // tid 중 시간(ms) 부분의 길이 (62^7ms = 약 111년)
+
+    private static final ThreadLocal<SecureRandom> SECURE_RANDOM_HOLDER = ThreadLocal.withInitial(IdUtil::newSecureRandom);
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>시간 순으로 정렬 가능한 16자리 추적 ID를 생성합니다.</p>
+     * 앞 7자리는 생성시간(epoch ms)의 base62, 뒤 9자리는 스레드별 난수(약 53bit)입니다.
+     * 같은 ms에 생성된 ID들 사이의 순서는 보장하지 않습니다.
+     * @return 16자리 영문/숫자 문자열
+     */
+    public static String newTraceId() {
+        final char[] rtChars = new char[TRACE_ID_LEN];
+        long time = System.currentTimeMillis();
+        for (int i = TRACE_ID_TIME_LEN - 1; i >= 0; --i) {
+            rtChars[i] = BASE62_CHARS[(int) (time % BASE62)];
+            time /= BASE62;
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = TRACE_ID_TIME_LEN; i < TRACE_ID_LEN; ++i) {
+            rtChars[i] = BASE62_CHARS[random.nextInt(BASE62)];
+        }
+
+        return new String(rtChars);
+    }
+
+    /**
+     * <p>보안 용도가 아닌 임의의 영문/숫자 문자열을 생성합니다. (ex: JWT 패딩)</p>
+     * @param len : 생성할 문자열 길이
+     * @return 영문/숫자 문자열
+     */
+    public static String randomAlphanumeric(int len) {
+        final char[] rtChars = new char[len];
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < len; ++i) {
+            rtChars[i] = BASE62_CHARS[random.nextInt(BASE62)];
+        }
+        return new String(rtChars);
+    }
+
+    /**
+     * <p>보안 용도의 nonce를 생성합니다. 스레드별 {@link SecureRandom}을 사용합니다.</p>
+     * @param len : 생성할 문자열 길이
+     * @return 영문/숫자 문자열
+     */
+    public static String newNonce(int len) {
+        final char[] rtChars = new char[len];
+        final SecureRandom random = currentSecureRandom();
+        final byte[] randBytes = new byte[len + (len >>> 1)]; // 거부되는 값을 고려하여 여유있게 생성
+
+        int charIdx = 0;
+        while (charIdx < len) {
+            random.nextBytes(randBytes);
+            for (int i = 0; i < randBytes.length && charIdx < len; ++i) {
+                final int value = randBytes[i] & 0x3F; // 0~63
+                if (value < BASE62) {
+                    rtChars[charIdx++] = BASE62_CHARS[value]; // 62, 63은 버려서 치우침을 없앤다
+                }
+            }
+        }
+
+        return new String(rtChars);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // package-private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return 현재 스레드의 {@link SecureRandom} (스레드 밖으로 전달하지 않아야 합니다)
+     */
+    static SecureRandom currentSecureRandom() {
+        return SECURE_RANDOM_HOLDER.get();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return 스레드에서 단독으로 사용할 {@link SecureRandom}
+     */
+    private static SecureRandom newSecureRandom() {
+        // [Note] 기본 SecureRandom(NativePRNG)은 내부적으로 전역 락을 사용하므로, 스레드별 인스턴스로 사용할 수 있는
+        //        DRBG(Java 9+)또는 SHA1PRNG를 사용한다. 두 알고리즘 모두 최초 사용 시 시스템 엔트로피로 자동 시딩된다.
+        try {
+            return SecureRandom.getInstance("DRBG");
+        }
+        catch (NoSuchAlgorithmException e) {
+            try {
+                return SecureRandom.getInstance("SHA1PRNG");
+            }
+            catch (NoSuchAlgorithmException e2) {
+                return new SecureRandom();
+            }
+        }
+    }
+}
@@ -0,0 +1,539 @@
+package com.de4bi.common.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.crypto.Mac;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.MissingClaimException;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.impl.DefaultClaims;
+import io.jsonwebtoken.impl.DefaultJws;
+import io.jsonwebtoken.impl.DefaultJwsHeader;
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * <p>MemberJwt(HS256, ES256)의 발급/검증을 수행하는 코덱입니다.</p>
+ * 키 하나당 서명키를 한 번만 생성하여 보관하고, {@link Mac}과 {@link Signature}는 스레드별로 생성하여 재사용합니다.
+ * 따라서 발급/검증 시 서명키 생성이나 {@code JwtParser}빌드가 매번 발생하지 않습니다.
+ * <ul><li>HS256: {@code MemberJwtCodec.of(secret)} - 발급/검증 서버가 secret을 공유해야 합니다.</li>
+ * <li>ES256: {@code MemberJwtCodec.ofEs256(privateKey, publicKey)} - 공개키만으로 검증할 수 있으므로
+ * 다른 서비스가 JWKS로 공개키를 받아 직접 검증할 수 있습니다.</li></ul>
+ * 획득한 객체는 thread-safe합니다.
+ */
+public class MemberJwtCodec {
+
+    ////////////////////////////////////////////////////////////////
+    // private static
+    ////////////////////////////////////////////////////////////////
+
+    private static final ConcurrentMap<String, MemberJwtCodec> CODEC_MAP = new ConcurrentHashMap<>();
+
+    private static final ObjectMapper OBJ_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REF = new TypeReference<Map<String, Object>>(){};
+    private static final Base64.Encoder B64URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder B64URL_DECODER = Base64.getUrlDecoder();
+
+    private static final String HS256_ALG_NAME = SignatureAlgorithm.HS256.getValue();       // "HS256"
+    private static final String HS256_JCA_NAME = SignatureAlgorithm.HS256.getJcaName();     // "HmacSHA256"
+    private static final String ES256_ALG_NAME = SignatureAlgorithm.ES256.getValue();       // "ES256"
+    private static final String ES256_JCA_NAME = SignatureAlgorithm.ES256.getJcaName();     // "SHA256withECDSA"
+    private static final int ES256_COORD_LEN = 32;  // P-256 좌표 및 서명값(r, s)의 바이트 길이
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private final String algName;                       // 서명 알고리즘 (HS256, ES256)
+    private final Key signKey;                          // HMAC-SHA256 키 또는 EC 개인키 (ES256 검증전용인 경우 null)
+    private final ECPublicKey verifyKey;                // EC 공개키 (HS256인 경우 null)
+    private final ThreadLocal<Mac> macHolder;           // 스레드별로 초기화된 Mac (HS256)
+    private final ThreadLocal<Signature> signerHolder;  // 스레드별로 초기화된 서명용 Signature (ES256)
+    private final ThreadLocal<Signature> verifierHolder;// 스레드별로 초기화된 검증용 Signature (ES256)
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    private MemberJwtCodec(final String secret) {
+        this.algName = HS256_ALG_NAME;
+        this.signKey = MemberJwtUtil.makeSignKey(secret);
+        this.verifyKey = null;
+        this.macHolder = ThreadLocal.withInitial(() -> {
+            try {
+                final Mac mac = Mac.getInstance(HS256_JCA_NAME);
+                mac.init(this.signKey);
+                return mac;
+            }
+            catch (NoSuchAlgorithmException | InvalidKeyException e) {
+                throw new IllegalStateException("Fail to init Mac! (alg: " + HS256_JCA_NAME + ")", e);
+            }
+        });
+        this.signerHolder = null;
+        this.verifierHolder = null;
+    }
+
+    private MemberJwtCodec(final PrivateKey privateKey, final ECPublicKey publicKey) {
+        this.algName = ES256_ALG_NAME;
+        this.signKey = privateKey;
+        this.verifyKey = publicKey;
+        this.macHolder = null;
+        this.signerHolder = (privateKey == null ? null : ThreadLocal.withInitial(() -> {
+            try {
+                final Signature signer = Signature.getInstance(ES256_JCA_NAME);
+                signer.initSign(privateKey);
+                return signer;
+            }
+            catch (NoSuchAlgorithmException | InvalidKeyException e) {
+                throw new IllegalStateException("Fail to init Signature! (alg: " + ES256_JCA_NAME + ")", e);
+            }
+        }));
+        this.verifierHolder = ThreadLocal.withInitial(() -> {
+            try {
+                final Signature verifier = Signature.getInstance(ES256_JCA_NAME);
+                verifier.initVerify(publicKey);
+                return verifier;
+            }
+            catch (NoSuchAlgorithmException | InvalidKeyException e) {
+                throw new IllegalStateException("Fail to init Signature! (alg: " + ES256_JCA_NAME + ")", e);
+            }
+        });
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>secret에 해당하는 코덱을 반환합니다. 최초 요청시에만 서명키를 생성합니다.</p>
+     * @param secret : 서명키 생성에 사용할 값 (not null)
+     * @return secret에 해당하는 {@link MemberJwtCodec}
+     */
+    public static MemberJwtCodec of(final String secret) {
+        Objects.requireNonNull(secret, "'secret' is null!");
+        return CODEC_MAP.computeIfAbsent(secret, MemberJwtCodec::new);
+    }
+
+    /**
+     * <p>EC P-256 키쌍에 해당하는 ES256 코덱을 반환합니다. 최초 요청시에만 키를 생성합니다.</p>
+     * @param privateKeyB64 : PKCS#8 DER 개인키의 Base64 문자열 (nullable, null 또는 빈 문자열이면 검증전용)
+     * @param publicKeyB64 : X.509 DER 공개키의 Base64 문자열 (not null)
+     * @return 키쌍에 해당하는 {@link MemberJwtCodec}
+     * @throws IllegalArgumentException 키를 읽을 수 없거나 P-256 키가 아닌 경우
+     */
+    public static MemberJwtCodec ofEs256(final String privateKeyB64, final String publicKeyB64) {
+        Objects.requireNonNull(publicKeyB64, "'publicKeyB64' is null!");
+        final String privKeyB64 = (StringUtil.isEmpty(privateKeyB64) ? "" : privateKeyB64);
+        return CODEC_MAP.computeIfAbsent(ES256_ALG_NAME + ":" + privKeyB64 + ":" + publicKeyB64, k -> {
+            try {
+                final KeyFactory keyFactory = KeyFactory.getInstance("EC");
+                final ECPublicKey publicKey = (ECPublicKey) keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(publicKeyB64)));
+                if (publicKey.getParams().getCurve().getField().getFieldSize() != ES256_COORD_LEN * 8) {
+                    throw new IllegalArgumentException("ES256 requires P-256 key!");
+                }
+
+                final PrivateKey privateKey = (privKeyB64.isEmpty() ? null :
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privKeyB64))));
+                return new MemberJwtCodec(privateKey, publicKey);
+            }
+            catch (GeneralSecurityException | ClassCastException e) {
+                throw new IllegalArgumentException("Fail to read ES256 key!", e);
+            }
+        });
+    }
+
+    /**
+     * <p>코덱의 알고리즘으로 서명된 JWT를 생성합니다.</p>
+     * @param headerMap : 헤더에 추가할 데이터 (nullable, 'alg'는 항상 코덱의 알고리즘으로 설정)
+     * @param claimsMap : Claims 데이터 (not null)
+     * @return {@code {header}.{claims}.{signature}}포멧의 JWT문자열
+     * @throws JwtException 헤더나 Claims를 JSON으로 변환하지 못한 경우
+     */
+    public String issue(final Map<String, Object> headerMap, final Map<String, Object> claimsMap) throws JwtException {
+        return issue(null, headerMap, claimsMap);
+    }
+
+    /**
+     * <p>JWT의 서명, 유효기간, 필수 Claims를 검증합니다.</p>
+     * @param jwt : 검증할 JWT (not null)
+     * @param reqClaims : Claims에 필수적으로 요구되는 값. null일 시 필수값 없음.
+     * @return 검증된 {@code Jws<Claims>}
+     * @throws JwtException {@code io.jsonwebtoken.JwtParser}와 동일한 종류의 예외를 발생시킵니다.
+     */
+    public Jws<Claims> verify(final String jwt, final MemberJwtUtil.JwtClaims reqClaims) throws JwtException {
+        return verify(jwt, parseHeader(jwt), reqClaims);
+    }
+
+    /**
+     * @return true: JWT를 생성(서명)할 수 있음<li>false: 검증전용 (개인키가 없는 ES256)</li>
+     */
+    public boolean canSign() {
+        return (this.signKey != null);
+    }
+
+    /**
+     * @return 서명 알고리즘 이름 (HS256, ES256)
+     */
+    public String getAlgorithm() {
+        return this.algName;
+    }
+
+    /**
+     * <p>검증용 공개키를 JWK(RFC 7517) 형태로 반환합니다.</p>
+     * @param kid : JWK에 기록할 키 식별자 (nullable)
+     * @return JWK Map, 공개키가 없는 알고리즘(HS256)이라면 null.
+     */
+    public Map<String, Object> toPublicJwk(final String kid) {
+        if (this.verifyKey == null) {
+            return null;
+        }
+
+        final Map<String, Object> rtJwk = new LinkedHashMap<>();
+        rtJwk.put("kty", "EC");
+        rtJwk.put("crv", "P-256");
+        if (kid != null) {
+            rtJwk.put("kid", kid);
+        }
+        rtJwk.put("use", "sig");
+        rtJwk.put("alg", this.algName);
+        rtJwk.put("x", B64URL_ENCODER.encodeToString(toUnsignedFixed(this.verifyKey.getW().getAffineX().toByteArray())));
+        rtJwk.put("y", B64URL_ENCODER.encodeToString(toUnsignedFixed(this.verifyKey.getW().getAffineY().toByteArray())));
+        return rtJwk;
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // package-private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>서명 없이 JWT의 헤더만 분석합니다. 서명키 선택(kid)을 위해 사용합니다.</p>
+     * @param jwt : 분석할 JWT (not null)
+     * @return JWS 헤더
+     * @throws JwtException JWT포멧이 아니거나 헤더를 읽을 수 없는 경우
+     */
+    static JwsHeader<?> parseHeader(final String jwt) throws JwtException {
+        if (StringUtil.isEmpty(jwt)) {
+            throw new IllegalArgumentException("JWT String argument cannot be null or empty.");
+        }
+
+        // {header}.{claims}.{signature} 분리
+        final int firstDot = jwt.indexOf('.');
+        final int lastDot = jwt.lastIndexOf('.');
+        if (firstDot < 0 || firstDot == lastDot || jwt.indexOf('.', firstDot + 1) != lastDot) {
+            // [Note] 토큰 원문은 예외 메시지를 통해 로그에 남을 수 있으므로 길이만 기록한다
+            throw new MalformedJwtException("JWT strings must contain exactly 2 period characters. (jwtLen: " + jwt.length() + ")");
+        }
+
+        return new DefaultJwsHeader(fromJsonB64(jwt, 0, firstDot));
+    }
+
+    /**
+     * <p>코덱의 알고리즘으로 서명된 JWT를 생성합니다.</p>
+     * @param kid : 헤더에 기록할 키 식별자 (nullable)
+     * @param headerMap : 헤더에 추가할 데이터 (nullable, 'alg'는 항상 코덱의 알고리즘으로 설정)
+     * @param claimsMap : Claims 데이터 (not null)
+     * @return {@code {header}.{claims}.{signature}}포멧의 JWT문자열
+     */
+    String issue(final String kid, final Map<String, Object> headerMap, final Map<String, Object> claimsMap) throws JwtException {
+        Objects.requireNonNull(claimsMap, "'claimsMap' is null!");
+
+        final Map<String, Object> jwsHeaderMap = new LinkedHashMap<>();
+        if (headerMap != null) {
+            jwsHeaderMap.putAll(headerMap);
+        }
+        jwsHeaderMap.put(JwsHeader.ALGORITHM, this.algName);
+        if (kid != null) {
+            jwsHeaderMap.put(JwsHeader.KEY_ID, kid);
+        }
+
+        final StringBuilder jwtSb = new StringBuilder(512);
+        jwtSb.append(B64URL_ENCODER.encodeToString(toJsonBytes(jwsHeaderMap))).append('.')
+             .append(B64URL_ENCODER.encodeToString(toJsonBytes(claimsMap)));
+
+        final byte[] signature = sign(jwtSb.toString().getBytes(StandardCharsets.US_ASCII));
+        return jwtSb.append('.').append(B64URL_ENCODER.encodeToString(signature)).toString();
+    }
+
+    /**
+     * <p>{@code parseHeader()}로 분석된 헤더를 사용하여 JWT의 서명, 유효기간, 필수 Claims를 검증합니다.</p>
+     * @param jwt : 검증할 JWT (not null)
+     * @param header : {@code parseHeader(jwt)}의 결과 (not null)
+     * @param reqClaims : Claims에 필수적으로 요구되는 값. null일 시 필수값 없음.
+     * @return 검증된 {@code Jws<Claims>}
+     */
+    Jws<Claims> verify(final String jwt, final JwsHeader<?> header, final MemberJwtUtil.JwtClaims reqClaims) throws JwtException {
+        final int firstDot = jwt.indexOf('.');
+        final int lastDot = jwt.lastIndexOf('.');
+
+        // 헤더 검사
+        if (this.algName.equals(header.getAlgorithm()) == false) {
+            throw new UnsupportedJwtException("Unsupported signature algorithm! (alg: " + header.getAlgorithm() + ")");
+        }
+
+        if (lastDot == jwt.length() - 1) {
+            throw new UnsupportedJwtException("Unsigned Claims JWTs are not supported.");
+        }
+
+        // 서명 검사
+        final String signatureB64 = jwt.substring(lastDot + 1);
+        final byte[] signature;
+        try {
+            signature = B64URL_DECODER.decode(signatureB64);
+        }
+        catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("Unable to decode JWT signature!", e);
+        }
+
+        if (verifySignature(jwt.substring(0, lastDot).getBytes(StandardCharsets.US_ASCII), signature) == false) {
+            throw new SignatureException("JWT signature does not match locally computed signature.");
+        }
+
+        // 유효기간 검사
+        final Claims claims = new DefaultClaims(fromJsonB64(jwt, firstDot + 1, lastDot));
+        final long curTimeMs = System.currentTimeMillis();
+        final Date exp = claims.getExpiration();
+        if (exp != null && curTimeMs > exp.getTime()) {
+            throw new ExpiredJwtException(header, claims,
+                "JWT expired at " + exp.toInstant() + ". (curTime: " + curTimeMs + "ms)");
+        }
+
+        final Date nbf = claims.getNotBefore();
+        if (nbf != null && curTimeMs < nbf.getTime()) {
+            throw new PrematureJwtException(header, claims,
+                "JWT must not be accepted before " + nbf.toInstant() + ". (curTime: " + curTimeMs + "ms)");
+        }
+
+        // 필수 Claims 검사
+        if (reqClaims != null) {
+            requireClaim(header, claims, Claims.ID,         reqClaims.getId());
+            requireClaim(header, claims, Claims.SUBJECT,    reqClaims.getSubject());
+            requireClaim(header, claims, Claims.ISSUER,     reqClaims.getIssuer());
+            requireClaim(header, claims, Claims.AUDIENCE,   reqClaims.getAudience());
+        }
+
+        return new DefaultJws<>(header, claims, signatureB64);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>현재 스레드의 {@link Mac} 또는 {@link Signature}로 서명값을 계산합니다.</p>
+     * @param signingInput : {@code {header}.{claims}}의 ASCII 바이트 배열
+     * @return HMAC-SHA256 서명 또는 JOSE 형식(r||s)의 ECDSA 서명 바이트 배열
+     */
+    private byte[] sign(final byte[] signingInput) {
+        if (this.macHolder != null) {
+            // [Note] doFinal()은 Mac을 초기 상태로 되돌리므로 init()을 다시 호출할 필요가 없다
+            return this.macHolder.get().doFinal(signingInput);
+        }
+
+        if (this.signerHolder == null) {
+            throw new JwtException("No private key for signing! (alg: " + this.algName + ")");
+        }
+
+        try {
+            // [Note] sign()은 Signature를 initSign() 직후 상태로 되돌린다
+            final Signature signer = this.signerHolder.get();
+            signer.update(signingInput);
+            return derToJose(signer.sign());
+        }
+        catch (java.security.SignatureException e) {
+            throw new JwtException("Fail to sign JWT! (alg: " + this.algName + ")", e);
+        }
+    }
+
+    /**
+     * @param signingInput : {@code {header}.{claims}}의 ASCII 바이트 배열
+     * @param signature : 토큰의 서명 바이트 배열
+     * @return true: 서명 일치<li>false: 서명 불일치</li>
+     */
+    private boolean verifySignature(final byte[] signingInput, final byte[] signature) {
+        if (this.macHolder != null) {
+            return MessageDigest.isEqual(signature, sign(signingInput));
+        }
+
+        if (signature.length != ES256_COORD_LEN * 2) {
+            return false;
+        }
+
+        try {
+            final Signature verifier = this.verifierHolder.get();
+            verifier.update(signingInput);
+            return verifier.verify(joseToDer(signature));
+        }
+        catch (java.security.SignatureException e) {
+            return false;
+        }
+    }
+
+    /**
+     * <p>JCA의 DER 인코딩 ECDSA 서명을 JOSE 형식({@code r||s}, 각 32byte)으로 변환합니다.</p>
+     * @param der : {@code SEQUENCE { INTEGER r, INTEGER s }}
+     * @return 64byte 서명
+     */
+    private static byte[] derToJose(final byte[] der) {
+        // 30 len [81] 02 rLen r 02 sLen s
+        int idx = (der[1] == (byte) 0x81 ? 3 : 2);
+        final int rLen = der[idx + 1];
+        final int rOff = idx + 2;
+        idx = rOff + rLen;
+        final int sLen = der[idx + 1];
+        final int sOff = idx + 2;
+
+        final byte[] rtJose = new byte[ES256_COORD_LEN * 2];
+        copyUnsigned(der, rOff, rLen, rtJose, 0);
+        copyUnsigned(der, sOff, sLen, rtJose, ES256_COORD_LEN);
+        return rtJose;
+    }
+
+    /**
+     * <p>JOSE 형식({@code r||s}) ECDSA 서명을 JCA의 DER 인코딩으로 변환합니다.</p>
+     * @param jose : 64byte 서명
+     * @return {@code SEQUENCE { INTEGER r, INTEGER s }}
+     */
+    private static byte[] joseToDer(final byte[] jose) {
+        final byte[] r = toDerInteger(jose, 0);
+        final byte[] s = toDerInteger(jose, ES256_COORD_LEN);
+        final int seqLen = 2 + r.length + 2 + s.length; // P-256은 최대 70byte이므로 단축형 길이만 사용
+
+        final byte[] rtDer = new byte[2 + seqLen];
+        rtDer[0] = 0x30;
+        rtDer[1] = (byte) seqLen;
+        rtDer[2] = 0x02;
+        rtDer[3] = (byte) r.length;
+        System.arraycopy(r, 0, rtDer, 4, r.length);
+        rtDer[4 + r.length] = 0x02;
+        rtDer[5 + r.length] = (byte) s.length;
+        System.arraycopy(s, 0, rtDer, 6 + r.length, s.length);
+        return rtDer;
+    }
+
+    /**
+     * @param src : JOSE 서명
+     * @param off : r 또는 s의 시작 위치
+     * @return 앞자리 0을 제거하고 필요시 부호 바이트(0x00)를 추가한 DER INTEGER 값
+     */
+    private static byte[] toDerInteger(final byte[] src, final int off) {
+        int bgn = off;
+        final int end = off + ES256_COORD_LEN;
+        while (bgn < end - 1 && src[bgn] == 0) {
+            ++bgn;
+        }
+
+        final boolean needSign = (src[bgn] & 0x80) != 0;
+        final byte[] rtInt = new byte[(end - bgn) + (needSign ? 1 : 0)];
+        System.arraycopy(src, bgn, rtInt, (needSign ? 1 : 0), end - bgn);
+        return rtInt;
+    }
+
+    /**
+     * <p>부호있는 큰 정수 바이트를 32byte 고정길이 위치에 오른쪽 정렬하여 복사합니다.</p>
+     */
+    private static void copyUnsigned(final byte[] src, int off, int len, final byte[] dst, final int dstOff) {
+        while (len > ES256_COORD_LEN && src[off] == 0) {
+            ++off; // 부호 바이트(0x00) 제거
+            --len;
+        }
+        System.arraycopy(src, off, dst, dstOff + ES256_COORD_LEN - len, len);
+    }
+
+    /**
+     * @param bigIntBytes : {@code BigInteger.toByteArray()}의 결과
+     * @return 32byte 고정길이 바이트 배열
+     */
+    private static byte[] toUnsignedFixed(final byte[] bigIntBytes) {
+        final byte[] rtBytes = new byte[ES256_COORD_LEN];
+        copyUnsigned(bigIntBytes, 0, bigIntBytes.length, rtBytes, 0);
+        return rtBytes;
+    }
+
+    /**
+     * <p>필수 Claim의 존재 및 일치 여부를 검사합니다.</p>
+     * @param header : JWS 헤더
+     * @param claims : 검사할 Claims
+     * @param claimName : Claim 이름
+     * @param reqValue : 요구되는 값 (null이면 검사 생략)
+     */
+    private static void requireClaim(final JwsHeader<?> header, final Claims claims, final String claimName, final String reqValue) {
+        if (reqValue == null) {
+            return;
+        }
+
+        final Object value = claims.get(claimName);
+        if (value == null) {
+            final MissingClaimException e = new MissingClaimException(header, claims,
+                "Expected " + claimName + " claim to be: " + reqValue + ", but was not present in the JWT claims.");
+            e.setClaimName(claimName);
+            e.setClaimValue(reqValue);
+            throw e;
+        }
+        else if (reqValue.equals(value.toString()) == false) {
+            final IncorrectClaimException e = new IncorrectClaimException(header, claims,
+                "Expected " + claimName + " claim to be: " + reqValue + ", but was: " + value + ".");
+            e.setClaimName(claimName);
+            e.setClaimValue(reqValue);
+            throw e;
+        }
+    }
+
+    /**
+     * @param map : JSON으로 변환할 Map
+     * @return UTF-8 JSON 바이트 배열
+     */
+    private static byte[] toJsonBytes(final Map<String, Object> map) {
+        try {
+            return OBJ_MAPPER.writeValueAsBytes(map);
+        }
+        catch (IOException e) {
+            throw new JwtException("Fail to serialize JWT part to JSON!", e);
+        }
+    }
+
+    /**
+     * @param jwt : JWT 문자열
+     * @param bgnIdx : Base64URL 부분의 시작 인덱스
+     * @param endIdx : Base64URL 부분의 끝 인덱스 (exclusive)
+     * @return 디코딩된 JSON의 Map
+     */
+    private static Map<String, Object> fromJsonB64(final String jwt, final int bgnIdx, final int endIdx) {
+        try {
+            return OBJ_MAPPER.readValue(B64URL_DECODER.decode(jwt.substring(bgnIdx, endIdx)), MAP_TYPE_REF);
+        }
+        catch (IllegalArgumentException | IOException e) {
+            throw new MalformedJwtException("Unable to read JWT JSON value!", e);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.de4bi.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+/**
+ * <p>MemberJwt 서명키 묶음(keyring)입니다. 헤더의 {@code kid}로 서명키를 선택합니다.</p>
+ * 각 키는 활성화 시간을 가지며, 발급 시에는 활성화 시간이 지난 키 중 가장 최근의 키를 사용합니다.
+ * 개인키가 없는 검증전용 ES256 키는 발급키로 선택되지 않습니다.
+ * 검증 시에는 {@code kid}로 키를 바로 찾으므로(O(1)) 여러 키로 차례대로 검증해보는 과정이 없습니다.
+ * <ul><li>교체(rotation): 다음 키를 미리 활성화 시간과 함께 배포하면 모든 서버가 같은 시간에 발급키를 전환합니다.</li>
+ * <li>퇴역(retire): 이전 키는 keyring에 남아있는 동안 검증에 사용되므로, 기존 토큰은 각자의 만료시간까지 유효합니다.
+ * 따라서 재발급(재로그인)이 한 번에 몰리지 않고 토큰 유효기간에 걸쳐 분산됩니다.
+ * 이전 키는 새 키 활성화 후 최대 토큰 유효기간이 지난 뒤 keyring에서 제거합니다.</li>
+ * <li>{@code kid}가 없는 토큰(keyring 도입 이전 발급)은 기존 secret(legacy)으로 검증합니다.</li>
+ * <li>ES256 키는 공개키를 JWKS({@code getPublicJwks()})로 공개하여 다른 서비스가 직접 검증할 수 있습니다.
+ * 활성화 전의 키도 JWKS에 포함되므로, 다른 서비스가 새 키를 미리 받아둘 수 있습니다.</li></ul>
+ * 객체는 불변(immutable)이며 thread-safe합니다.
+ */
+public class MemberJwtKeyring {
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * keyring에 등록된 서명키입니다.
+     */
+    private static class KeyEntry {
+
+        private final String kid;               // 키 식별자
+        private final long activateTimeSec;     // 발급키로 사용하기 시작할 시간(epoch sec)
+        private final MemberJwtCodec codec;     // 서명키가 준비된 코덱
+
+        private KeyEntry(String kid, long activateTimeSec, MemberJwtCodec codec) {
+            this.kid = kid;
+            this.activateTimeSec = activateTimeSec;
+            this.codec = codec;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private static
+    ////////////////////////////////////////////////////////////////
+
+    private static final String KEY_DELIMITER       = ",";  // 키 구분자
+    private static final String FIELD_DELIMITER     = ":";  // 키 내부 항목 구분자
+    private static final String ES256_PREFIX        = "ES256" + FIELD_DELIMITER; // ES256 키 접두어
+
+    private static final ConcurrentMap<String, MemberJwtKeyring> LEGACY_KEYRING_MAP = new ConcurrentHashMap<>(); // secret -> 단일 secret keyring
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private final MemberJwtCodec legacyCodec;           // kid가 없는 토큰용 코덱 (nullable)
+    private final List<KeyEntry> keyEntries;            // 활성화 시간 오름차순
+    private final Map<String, KeyEntry> keyEntryMap;    // kid -> 서명키
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    private MemberJwtKeyring(MemberJwtCodec legacyCodec, List<KeyEntry> keyEntries) {
+        this.legacyCodec = legacyCodec;
+        this.keyEntries = Collections.unmodifiableList(keyEntries);
+
+        final Map<String, KeyEntry> keyEntryMap = new HashMap<>();
+        for (KeyEntry entry : keyEntries) {
+            if (keyEntryMap.put(entry.kid, entry) != null) {
+                throw new IllegalArgumentException("Duplicated kid! (kid: " + entry.kid + ")");
+            }
+        }
+        this.keyEntryMap = Collections.unmodifiableMap(keyEntryMap);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>단일 secret만 사용하는 keyring을 반환합니다. 발급되는 토큰에 {@code kid}가 기록되지 않습니다.</p>
+     * keyring은 불변이므로 secret별로 최초 요청시에만 생성하여 재사용합니다.
+     * @param legacySecret : 서명키 생성에 사용할 값 (not null)
+     * @return secret에 해당하는 keyring
+     */
+    public static MemberJwtKeyring of(String legacySecret) {
+        Objects.requireNonNull(legacySecret, "'legacySecret' is null!");
+        return LEGACY_KEYRING_MAP.computeIfAbsent(legacySecret,
+            secret -> new MemberJwtKeyring(MemberJwtCodec.of(secret), new ArrayList<>()));
+    }
+
+    /**
+     * <p>keyring 설정값으로부터 keyring을 생성합니다.</p>
+     * @param legacySecret : kid가 없는 토큰을 검증할 secret (nullable)
+     * @param keyringSpec : 아래 형식의 키를 콤마(,)로 구분한 문자열 (nullable)
+     * <ul><li>HS256: {@code kid:activateEpochSec:secret}</li>
+     * <li>ES256: {@code kid:activateEpochSec:ES256:pkcs8PrivateKeyB64:x509PublicKeyB64} (개인키를 비우면 검증전용)</li></ul>
+     * <pre>ex) "k202101:1609459200:secret-a,k202107:1625097600:ES256:MIGH...:MFkw..."</pre>
+     * @return 생성된 keyring
+     * @throws IllegalArgumentException 설정값 형식이 올바르지 않거나 사용 가능한 키가 없는 경우
+     */
+    public static MemberJwtKeyring of(String legacySecret, String keyringSpec) {
+        final List<KeyEntry> keyEntries = new ArrayList<>();
+        if (StringUtil.isEmpty(keyringSpec) == false) {
+            for (String keySpec : keyringSpec.split(KEY_DELIMITER)) {
+                keySpec = keySpec.trim();
+                if (keySpec.isEmpty()) {
+                    continue;
+                }
+
+                final String[] fields = keySpec.split(FIELD_DELIMITER, 3); // secret에는 ':'가 포함될 수 있음
+                if (fields.length != 3 || StringUtil.isEmpty(fields[0]) || StringUtil.isEmpty(fields[2])) {
+                    throw new IllegalArgumentException("Invalid keyring spec! Required 'kid:activateEpochSec:secret'. (kid: " +
+                        (fields.length > 0 ? fields[0] : null) + ")");
+                }
+
+                final long activateTimeSec;
+                try {
+                    activateTimeSec = Long.parseLong(fields[1].trim());
+                }
+                catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid activate time! (kid: " + fields[0] + ")", e);
+                }
+
+                keyEntries.add(new KeyEntry(fields[0].trim(), activateTimeSec, makeCodec(fields[0], fields[2])));
+            }
+        }
+
+        if (legacySecret == null && keyEntries.isEmpty()) {
+            throw new IllegalArgumentException("No key in keyring!");
+        }
+
+        keyEntries.sort((a, b) -> Long.compare(a.activateTimeSec, b.activateTimeSec));
+        return new MemberJwtKeyring(legacySecret == null ? null : MemberJwtCodec.of(legacySecret), keyEntries);
+    }
+
+    /**
+     * <p>현재 활성화된 키로 JWT를 생성합니다.</p>
+     * @param headerMap : 헤더에 추가할 데이터 (nullable)
+     * @param claimsMap : Claims 데이터 (not null)
+     * @return {@code {header}.{claims}.{signature}}포멧의 JWT문자열
+     * @throws JwtException JWT생성 중 오류가 발생하거나 활성화된 키가 없는 경우
+     */
+    public String issue(Map<String, Object> headerMap, Map<String, Object> claimsMap) throws JwtException {
+        final KeyEntry activeEntry = getActiveEntry(System.currentTimeMillis() / 1000L);
+        if (activeEntry != null) {
+            return activeEntry.codec.issue(activeEntry.kid, headerMap, claimsMap);
+        }
+
+        if (this.legacyCodec == null) {
+            throw new JwtException("No active key in keyring!");
+        }
+
+        return this.legacyCodec.issue(headerMap, claimsMap);
+    }
+
+    /**
+     * <p>헤더의 {@code kid}에 해당하는 키로 JWT를 검증합니다.</p>
+     * @param jwt : 검증할 JWT (not null)
+     * @param reqClaims : Claims에 필수적으로 요구되는 값. null일 시 필수값 없음.
+     * @return 검증된 {@code Jws<Claims>}
+     * @throws JwtException {@link MemberJwtCodec#verify(String, MemberJwtUtil.JwtClaims)}와 동일하며,
+     * {@code kid}에 해당하는 키가 없다면 {@link SignatureException}을 발생시킵니다.
+     */
+    public Jws<Claims> verify(String jwt, MemberJwtUtil.JwtClaims reqClaims) throws JwtException {
+        final JwsHeader<?> header = MemberJwtCodec.parseHeader(jwt);
+        final String kid = header.getKeyId();
+
+        MemberJwtCodec codec = null;
+        if (kid == null) {
+            codec = this.legacyCodec;
+        }
+        else {
+            final KeyEntry entry = this.keyEntryMap.get(kid);
+            codec = (entry == null ? null : entry.codec);
+        }
+
+        if (codec == null) {
+            throw new SignatureException("No signing key for JWT! (kid: " + kid + ")");
+        }
+
+        return codec.verify(jwt, header, reqClaims);
+    }
+
+    /**
+     * @return 현재 발급에 사용되는 키의 식별자, 활성화된 키가 없다면(legacy) null.
+     */
+    public String getActiveKid() {
+        final KeyEntry activeEntry = getActiveEntry(System.currentTimeMillis() / 1000L);
+        return (activeEntry == null ? null : activeEntry.kid);
+    }
+
+    /**
+     * <p>검증용 공개키 목록을 JWKS(RFC 7517) 형태로 반환합니다. HS256 키는 포함되지 않습니다.</p>
+     * @return {@code {"keys": [ {jwk}, ... ]}}
+     */
+    public Map<String, Object> getPublicJwks() {
+        final List<Map<String, Object>> jwkList = new ArrayList<>();
+        for (KeyEntry entry : this.keyEntries) {
+            final Map<String, Object> jwk = entry.codec.toPublicJwk(entry.kid);
+            if (jwk != null) {
+                jwkList.add(jwk);
+            }
+        }
+
+        final Map<String, Object> rtJwks = new HashMap<>();
+        rtJwks.put("keys", jwkList);
+        return rtJwks;
+    }
+
+    /**
+     * @return 다음에 활성화될 발급키의 활성화 시간(epoch sec), 예정된 키가 없다면 -1.
+     */
+    public long getNextActivateTimeSec() {
+        final long curTimeSec = System.currentTimeMillis() / 1000L;
+        for (KeyEntry entry : this.keyEntries) {
+            if (entry.activateTimeSec > curTimeSec && entry.codec.canSign()) {
+                return entry.activateTimeSec;
+            }
+        }
+        return -1L;
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @param kid : 키 식별자
+     * @param keySpec : {@code secret} 또는 {@code ES256:pkcs8PrivateKeyB64:x509PublicKeyB64}
+     * @return 키에 해당하는 코덱
+     */
+    private static MemberJwtCodec makeCodec(String kid, String keySpec) {
+        if (keySpec.startsWith(ES256_PREFIX) == false) {
+            return MemberJwtCodec.of(keySpec);
+        }
+
+        final String[] keyFields = keySpec.substring(ES256_PREFIX.length()).split(FIELD_DELIMITER, -1);
+        if (keyFields.length != 2 || StringUtil.isEmpty(keyFields[1])) {
+            throw new IllegalArgumentException("Invalid ES256 key spec! Required 'ES256:privateKeyB64:publicKeyB64'. (kid: " + kid + ")");
+        }
+
+        return MemberJwtCodec.ofEs256(keyFields[0].trim(), keyFields[1].trim());
+    }
+
+    /**
+     * @param curTimeSec : 현재 시간(epoch sec)
+     * @return 활성화 시간이 지난 키 중 서명할 수 있는 가장 최근의 키, 없다면 null.
+     */
+    private KeyEntry getActiveEntry(long curTimeSec) {
+        // [Note] keyring의 키는 많아야 몇 개이므로 뒤에서부터 선형 탐색한다
+        for (int i = this.keyEntries.size() - 1; i >= 0; --i) {
+            final KeyEntry entry = this.keyEntries.get(i);
+            if (entry.activateTimeSec <= curTimeSec && entry.codec.canSign()) {
+                return entry;
+            }
+        }
+        return null;
+    }
+}
@@ -8,20 +8,14 @@ import java.util.Objects;
 
 import com.de4bi.common.exception.ApiException;
 
-import org.apache.commons.lang3.RandomStringUtils;
-
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.IncorrectClaimException;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
-import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.JwtParserBuilder;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.MissingClaimException;
 import io.jsonwebtoken.PrematureJwtException;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -36,6 +30,11 @@ public class MemberJwtUtil {
 
     public static final String HEADER_KEY_PADDING = "pad";
 
+    public static final String CLAIM_KEY_MEMBER_SEQ         = "mseq";   // 회원 시퀀스
+    public static final String CLAIM_KEY_MEMBER_STATUS      = "msts";   // 회원 상태
+    public static final String CLAIM_KEY_MEMBER_AUTHORITY   = "mauth";  // 회원 권한
+    public static final String CLAIM_KEY_MEMBER_SEC_VER     = "mver";   // 회원 보안버전
+
     ////////////////////////////////////////////////////////////////
     // nested class
     ////////////////////////////////////////////////////////////////
@@ -50,6 +49,7 @@ public class MemberJwtUtil {
         protected long issuedAt;        // 발급시간(sec)
         protected long expiration;      // 만료시간(sec)
         protected long notBefore;       // 시작시간(sec)
+        protected Map<String, Object> privateClaims; // 그 외 추가 Claims (nullable, 등록된 Claims와 이름이 같다면 무시됨)
     }
 
     ////////////////////////////////////////////////////////////////
@@ -62,14 +62,29 @@ public class MemberJwtUtil {
      * @param jwtHeaderMap - 헤더에 추가할 데이터입니다.
      * @param jwtClaims - {@code MemberJwtUtil.JwtClaims}로 생성할 수 있는 꾸러미입니다. (not null)
      * @param secret - 해시키 보안을 위해 사용할 값입니다. 이 값과 {@code makeSignKey()}을 사용하여 해시키를 생성합니다. (not null, 256bit)
+     * @apiNote 해시키와 keyring은 secret별로 최초 1회만 생성되어 재사용됩니다. 키 교체가 필요하다면 keyring을 받는 메서드를 사용하세요.
      * @return 발급된 MemberJwt문자열을 반환합니다.
      * @throws JwtException JWT발급 중 오류가 발생한 경우.
      */
     public static String issue(final Map<String, Object> jwtHeaderMap, final JwtClaims jwtClaims, final String secret) throws JwtException {
+        Objects.requireNonNull(secret, "'secret' is null!");
+        return issue(jwtHeaderMap, jwtClaims, MemberJwtKeyring.of(secret));
+    }
+
+    /**
+     * MemberJwt를 keyring의 활성화된 키로 발급합니다. 헤더에 키 식별자(kid)가 기록됩니다.
+     * 
+     * @param jwtHeaderMap - 헤더에 추가할 데이터입니다.
+     * @param jwtClaims - {@code MemberJwtUtil.JwtClaims}로 생성할 수 있는 꾸러미입니다. (not null)
+     * @param keyring - 서명에 사용할 keyring입니다. (not null)
+     * @return 발급된 MemberJwt문자열을 반환합니다.
+     * @throws JwtException JWT발급 중 오류가 발생한 경우.
+     */
+    public static String issue(final Map<String, Object> jwtHeaderMap, final JwtClaims jwtClaims, final MemberJwtKeyring keyring) throws JwtException {
         // 파라미터 검사
         Objects.requireNonNull(jwtClaims, "'jwtClaims' is null!");
         Objects.requireNonNull(jwtClaims.getId(), "'jwtClaims.id' is null!");
-        Objects.requireNonNull(secret, "'secret' is null!");
+        Objects.requireNonNull(keyring, "'keyring' is null!");
 
         // Header 생성 (Header내부에는 항상 HEADER_KEY_PADDING값이 존재해야 함, 없다면 생성)
         final Map<String, Object> headerMap = new LinkedHashMap<>();
@@ -79,11 +94,14 @@ public class MemberJwtUtil {
 
         final Object padObj = headerMap.get(HEADER_KEY_PADDING);
         if (Objects.isNull(padObj)) {
-            headerMap.put(HEADER_KEY_PADDING, RandomStringUtils.randomAlphanumeric(16));
+            headerMap.put(HEADER_KEY_PADDING, IdUtil.randomAlphanumeric(16));
         }
 
-        // Claims 생성
+        // Claims 생성 (추가 Claims를 먼저 넣어, 같은 이름이 있더라도 등록된 Claims(jti, sub, aud, exp 등)가 덮어쓰도록 함)
         final Map<String, Object> claimsMap = new LinkedHashMap<>();
+        if (Objects.nonNull(jwtClaims.getPrivateClaims())) {
+            claimsMap.putAll(jwtClaims.getPrivateClaims());
+        }
         claimsMap.put(Claims.ID, jwtClaims.getId());
         claimsMap.put(Claims.SUBJECT, jwtClaims.getSubject());
         claimsMap.put(Claims.ISSUER, jwtClaims.getIssuer());
@@ -96,10 +114,7 @@ public class MemberJwtUtil {
         String rtJwt = null;
         
         try {
-            rtJwt = Jwts.builder().setHeader(headerMap)
-                                  .setId(jwtClaims.getId()).setClaims(claimsMap)
-                                  .signWith(makeSignKey(secret), SignatureAlgorithm.HS256)
-                                  .compact();
+            rtJwt = keyring.issue(headerMap, claimsMap);
         }
         catch (Exception e) {
             throw new JwtException("Fail to compact Jwt!", e);
@@ -120,26 +135,31 @@ public class MemberJwtUtil {
      * @param reqClaims - Claims에 필수적으로 요구되는 값. null일 시 필수값 없음.
      * @return 성공 시 {@code Jws<Claims>}객체, 실패 시 null.
      * @throws JwtException JWT검증 중 포멧, 유효기간, 필수값, 서명등의 오류가 발생한 경우.
+     * @apiNote 해시키와 keyring은 secret별로 최초 1회만 생성되어 재사용됩니다.
      */
     public static Jws<Claims> validate(final String memberJwt, final String secret, final JwtClaims reqClaims) {
+        Objects.requireNonNull(secret, "'secret' is null!");
+        return validate(memberJwt, MemberJwtKeyring.of(secret), reqClaims);
+    }
+
+    /**
+     * 발급된 MemberJwt를 헤더의 키 식별자(kid)에 해당하는 keyring의 키로 검증합니다.
+     * 
+     * @param memberJwt - 검증할 JWT. (not null)
+     * @param keyring - 검증에 사용할 keyring. (not null)
+     * @param reqClaims - Claims에 필수적으로 요구되는 값. null일 시 필수값 없음.
+     * @return 성공 시 {@code Jws<Claims>}객체, 실패 시 null.
+     * @throws JwtException JWT검증 중 포멧, 유효기간, 필수값, 서명등의 오류가 발생한 경우.
+     */
+    public static Jws<Claims> validate(final String memberJwt, final MemberJwtKeyring keyring, final JwtClaims reqClaims) {
         // 파라미터 검사
         Objects.requireNonNull(memberJwt, "'memberJwt' is null!");
-        Objects.requireNonNull(secret, "'secret' is null!");
+        Objects.requireNonNull(keyring, "'keyring' is null!");
 
-        // 필수Claims를 가진 파서 생성
-        JwtParserBuilder builder = Jwts.parserBuilder().setSigningKey(makeSignKey(secret));
-        if (Objects.nonNull(reqClaims)) {
-            Object tempObj = null;
-            builder = Objects.nonNull(tempObj = reqClaims.getId()       ) ? builder.requireId(tempObj.toString()        ) : builder;
-            builder = Objects.nonNull(tempObj = reqClaims.getSubject()  ) ? builder.requireSubject(tempObj.toString()   ) : builder;
-            builder = Objects.nonNull(tempObj = reqClaims.getIssuer()   ) ? builder.requireIssuer(tempObj.toString()    ) : builder;
-            builder = Objects.nonNull(tempObj = reqClaims.getAudience() ) ? builder.requireAudience(tempObj.toString()  ) : builder;
-        }
-        
-        final JwtParser parser = builder.build();
+        // kid로 선택된 서명키와 Mac이 준비된 코덱으로 검증 (필수Claims 검사 포함)
         Jws<Claims> rtClaims = null;
         try {
-            rtClaims = parser.parseClaimsJws(memberJwt);
+            rtClaims = keyring.verify(memberJwt, reqClaims);
         }
         catch (IllegalArgumentException e) {
             // JWT가 null이거나 길이가 0이거나, SigningKey가 빌더에 등록되지 않은 경우
@@ -178,7 +198,7 @@ public class MemberJwtUtil {
     }
 
     ////////////////////////////////////////////////////////////////
-    // private methods
+    // package-private methods
     ////////////////////////////////////////////////////////////////
 
     /**
@@ -188,8 +208,9 @@ public class MemberJwtUtil {
      * 만약 {@code secret}의 값이 32byte보다 크다면, 32byte단위로 중첩 xor하여 사용합니다.</p>
      * @param secret - 서버 내부에서 사용할 기본 secret값입니다.
      * @return 생성된 HMAC-SHA {@code Key}를 반환합니다.
+     * @apiNote 호출 비용이 크므로 {@link MemberJwtCodec}에서 secret별로 한 번만 호출합니다.
      */
-    private static Key makeSignKey(final String secret) {
+    static Key makeSignKey(final String secret) {
         // 파라미터 검사
         Objects.requireNonNull(secret, "'secret' is null!");
 
@@ -0,0 +1,40 @@
+package com.de4bi.common.util;
+
+/**
+ * <p>비밀번호 해싱 알고리즘입니다.</p>
+ * 해싱 결과는 알고리즘과 파라미터를 나타내는 접두어를 포함하므로, 저장된 값만으로 검증에 사용할 알고리즘을 정할 수 있습니다.
+ * <pre>
+ * - PBKDF2 : $pbkdf2-sha256$반복횟수$솔트(base64)$해시(base64)
+ * - SHA256 : 64자리 16진수 (접두어 없음, 기존 형식)</pre>
+ */
+public interface PasswordHasher {
+
+    /**
+     * @param encodedPw : 저장된 비밀번호 해시
+     * @return true: 이 알고리즘으로 만들어진 해시<li>false: 다른 알고리즘의 해시</li>
+     */
+    boolean supports(String encodedPw);
+
+    /**
+     * <p>비밀번호를 해싱합니다.</p>
+     * @param password : 평문 비밀번호
+     * @param pepper : 서버 SALT 문자열 (nullable)
+     * @return 접두어를 포함한 비밀번호 해시
+     */
+    String hash(String password, String pepper);
+
+    /**
+     * <p>비밀번호가 저장된 해시와 일치하는지 검사합니다.</p>
+     * @param password : 평문 비밀번호
+     * @param pepper : 서버 SALT 문자열 (nullable)
+     * @param encodedPw : 저장된 비밀번호 해시
+     * @return true: 일치<li>false: 불일치</li>
+     */
+    boolean matches(String password, String pepper, String encodedPw);
+
+    /**
+     * @param encodedPw : 저장된 비밀번호 해시
+     * @return true: 현재 알고리즘/파라미터로 다시 해싱해야 함<li>false: 다시 해싱할 필요 없음</li>
+     */
+    boolean needsRehash(String encodedPw);
+}
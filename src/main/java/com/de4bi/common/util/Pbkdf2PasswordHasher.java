@@ -0,0 +1,169 @@
+package com.de4bi.common.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * <p>PBKDF2-HMAC-SHA256 비밀번호 해시입니다.</p>
+ * 회원별 무작위 솔트(16byte)와 반복횟수를 해시에 함께 저장하므로, 반복횟수를 바꿔도 기존 해시를 검증할 수 있습니다.
+ * 솔트는 {@link IdUtil}의 스레드별 {@code SecureRandom}으로 생성합니다.
+ * <pre>
+ * - 형식 : $pbkdf2-sha256$반복횟수$솔트(base64)$해시(base64, 32byte)</pre>
+ */
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    public static final String PREFIX = "$pbkdf2-sha256$";
+
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private static final Base64.Encoder B64_ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder B64_DECODER = Base64.getDecoder();
+
+    private final int iterations;
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @param iterations : 반복횟수 (해시 비용, 1 이상)
+     */
+    public Pbkdf2PasswordHasher(int iterations) {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("'iterations' must be positive! (iterations: " + iterations + ")");
+        }
+        this.iterations = iterations;
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // PasswordHasher
+    ////////////////////////////////////////////////////////////////
+
+    @Override
+    public boolean supports(String encodedPw) {
+        return (encodedPw != null && encodedPw.startsWith(PREFIX));
+    }
+
+    @Override
+    public String hash(String password, String pepper) {
+        Objects.requireNonNull(password, "'password' is null!");
+        final byte[] salt = new byte[SALT_BYTES];
+        IdUtil.currentSecureRandom().nextBytes(salt);
+
+        final byte[] hash = derive(password, pepper, salt, this.iterations);
+        return PREFIX + this.iterations + "$" + B64_ENCODER.encodeToString(salt) + "$" + B64_ENCODER.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(String password, String pepper, String encodedPw) {
+        Objects.requireNonNull(password, "'password' is null!");
+        final String[] parts = split(encodedPw);
+        if (parts == null) {
+            return false;
+        }
+
+        // [Note] 저장된 값이 손상된 경우에도 예외 대신 불일치로 처리한다
+        final int encIterations = parseIterations(parts[0]);
+        if (encIterations < 1) {
+            return false;
+        }
+
+        final byte[] salt = decodeB64(parts[1]);
+        final byte[] expected = decodeB64(parts[2]);
+        if (salt == null || expected == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(expected, derive(password, pepper, salt, encIterations));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPw) {
+        final String[] parts = split(encodedPw);
+        return (parts == null || parseIterations(parts[0]) != this.iterations ||
+            decodeB64(parts[1]) == null || decodeB64(parts[2]) == null);
+    }
+
+    /**
+     * <p>현재 반복횟수와 무작위 솔트를 가지며, 해시 부분이 0으로 채워진 해시를 생성합니다.</p>
+     * 저장된 해시가 없는 경우(존재하지 않는 회원 등)에도 {@code matches()}를 같은 비용으로 수행하기 위해 사용합니다.
+     * @return 사실상 어떤 비밀번호와도 일치하지 않는 해시
+     */
+    public String newDummyHash() {
+        final byte[] salt = new byte[SALT_BYTES];
+        IdUtil.currentSecureRandom().nextBytes(salt);
+        return PREFIX + this.iterations + "$" + B64_ENCODER.encodeToString(salt) + "$" + B64_ENCODER.encodeToString(new byte[HASH_BITS / 8]);
+    }
+
+    public int getIterations() {
+        return this.iterations;
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return {반복횟수, 솔트, 해시}, 형식이 맞지 않다면 null.
+     */
+    private static String[] split(String encodedPw) {
+        if (encodedPw == null || encodedPw.startsWith(PREFIX) == false) {
+            return null;
+        }
+
+        final String[] parts = encodedPw.substring(PREFIX.length()).split("\\$");
+        return (parts.length == 3 ? parts : null);
+    }
+
+    /**
+     * @return 반복횟수, 숫자가 아니라면 -1.
+     */
+    private static int parseIterations(String iterations) {
+        try {
+            return Integer.parseInt(iterations);
+        }
+        catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @return 디코딩된 값, base64 형식이 아니거나 비어있다면 null.
+     */
+    private static byte[] decodeB64(String b64) {
+        try {
+            final byte[] rtBytes = B64_DECODER.decode(b64);
+            return (rtBytes.length == 0 ? null : rtBytes);
+        }
+        catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static byte[] derive(String password, String pepper, byte[] salt, int iterations) {
+        final char[] pepperedPw = (pepper == null ? password : password + pepper).toCharArray();
+        final PBEKeySpec keySpec = new PBEKeySpec(pepperedPw, salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(keySpec).getEncoded();
+        }
+        catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new IllegalStateException("Hashing Fail!", e);
+        }
+        finally {
+            keySpec.clearPassword();
+            Arrays.fill(pepperedPw, '\0');
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.de4bi.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+/**
+ * <p>기존 형식의 비밀번호 해시입니다. {@code SHA256(password + pepper)}를 64자리 16진수로 저장합니다.</p>
+ * 반복 없는 단일 해시이므로 검증에만 사용하고, 로그인 성공 시 현재 알고리즘으로 다시 해싱합니다.
+ */
+public class Sha256PasswordHasher implements PasswordHasher {
+
+    private static final int HEX_HASH_LEN = 64;
+
+    @Override
+    public boolean supports(String encodedPw) {
+        if (encodedPw == null || encodedPw.length() != HEX_HASH_LEN) {
+            return false;
+        }
+
+        for (int i = 0; i < HEX_HASH_LEN; ++i) {
+            if (Character.digit(encodedPw.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String hash(String password, String pepper) {
+        return SecurityUtil.passwordSecureHashing(password, pepper);
+    }
+
+    @Override
+    public boolean matches(String password, String pepper, String encodedPw) {
+        Objects.requireNonNull(encodedPw, "'encodedPw' is null!");
+        return MessageDigest.isEqual(hash(password, pepper).getBytes(StandardCharsets.US_ASCII),
+            encodedPw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public boolean needsRehash(String encodedPw) {
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package com.de4bi.members.aop;
+
+/**
+ * <p>한 요청 동안의 Service/Mapper 호출 정보를 모아, ControllerAop가 요청 종료 시 한 줄로 로그를 남길 수 있도록 합니다.</p>
+ * 요청 스레드의 ThreadStorage({@link ControllerAop#TSKEY_REQ_LOG})에만 보관되므로 thread-safe할 필요가 없습니다.
+ * 요청 밖(스케줄러 등)에서의 Service/Mapper 호출에는 존재하지 않습니다.
+ * <ul><li>Service/Mapper 호출 수와 소요시간에는 예외로 끝난 호출도 포함됩니다.</li>
+ * <li>각 AOP의 로그 정책(레벨별로 남기는 로그, 결과(payload) 직렬화 여부)은 {@link com.de4bi.members.manager.AopLogManager}를 따릅니다.</li></ul>
+ */
+public class AopRequestLog {
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private final boolean isPayloadSampled; // 결과(payload)를 로그에 포함할지 여부
+    private int serviceCnt;                 // Service 호출 수
+    private int mapperCnt;                  // Mapper 호출 수
+    private long mapperNanos;               // Mapper 소요시간 합(ns)
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    public AopRequestLog(boolean isPayloadSampled) {
+        this.isPayloadSampled = isPayloadSampled;
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @param reqLog : 현재 요청의 로그 정보 (null 허용)
+     * @return true: 결과(payload)를 로그에 포함<li>false: 요청 밖이거나 뽑히지 않은 요청</li>
+     */
+    public static boolean isPayloadSampled(AopRequestLog reqLog) {
+        return (reqLog != null && reqLog.isPayloadSampled);
+    }
+
+    public boolean isPayloadSampled() {
+        return this.isPayloadSampled;
+    }
+
+    public void addService() {
+        ++this.serviceCnt;
+    }
+
+    public void addMapper(long elapsedNanos) {
+        ++this.mapperCnt;
+        this.mapperNanos += elapsedNanos;
+    }
+
+    public int getServiceCount() {
+        return this.serviceCnt;
+    }
+
+    public int getMapperCount() {
+        return this.mapperCnt;
+    }
+
+    public long getMapperMicros() {
+        return this.mapperNanos / 1000L;
+    }
+}
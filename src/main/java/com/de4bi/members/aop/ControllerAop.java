@@ -1,6 +1,5 @@
 package com.de4bi.members.aop;
 
-import java.lang.reflect.Method;
 import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -10,22 +9,25 @@ import java.util.Map;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import com.de4bi.common.annotation.RequireManagerJwt;
-import com.de4bi.common.annotation.RequireMemberJwt;
 import com.de4bi.common.data.ApiResult;
 import com.de4bi.common.data.ThreadStorage;
 import com.de4bi.common.exception.ApiException;
 import com.de4bi.common.exception.ControllerException;
 import com.de4bi.common.exception.MapperException;
 import com.de4bi.common.exception.ServiceException;
+import com.de4bi.common.util.IdUtil;
 import com.de4bi.members.data.code.ResponseCode;
 import com.de4bi.members.data.code.MembersCode;
 import com.de4bi.members.data.dao.MembersDao;
+import com.de4bi.members.manager.AopLogManager;
 import com.de4bi.members.manager.CodeMsgManager;
+import com.de4bi.members.manager.EndpointDescriptorManager;
+import com.de4bi.members.manager.EndpointDescriptorManager.AuthRequirement;
+import com.de4bi.members.manager.EndpointDescriptorManager.ControllerKind;
+import com.de4bi.members.manager.EndpointDescriptorManager.EndpointDescriptor;
 import com.de4bi.members.service.MembersService;
 import com.de4bi.members.util.MembersUtil;
 
-import org.apache.commons.lang3.RandomStringUtils;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -33,6 +35,7 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -52,41 +55,44 @@ public class ControllerAop {
         "TS_REQ_TIME"; // ThreadStorage에서 컨트롤러 요청 시간을 저장하기 위한 키 값
     public static final String TSKEY_JWT_MEMBERS_DAO =
         "TS_JWT_MEMBERS_DAO"; // ThreadStorage에서 인증된 MemberJwt의 MemberDao를 저장하기 위한 키 값
+    public static final String TSKEY_REQ_LOG =
+        "TS_REQ_LOG"; // ThreadStorage에서 요청 요약 로그 정보(AopRequestLog)를 저장하기 위한 키 값
 
     // 서비스
     private MembersService membersService;
 
     // 매니저
     private CodeMsgManager codeMsgManager;
+    private AopLogManager aopLogManager;
+    private EndpointDescriptorManager endpointDescriptorMgr;
 
     /**
      * <p>API/Page Controller전~후를 감싸는 AOP입니다. Controller메서드 호출 및 응답, 예외상황을 핸들링합니다.</p>
      * @param pjp : <code>@Around</code>의 필수 인자
-     * @return String(API)또는 ModelAndView(Page)
+     * @return ApiResult(API), ModelAndView(Page) 또는 컨트롤러가 반환한 그대로의 응답(Raw, ex: ResponseEntity)
      */
     @Around("execution(* com.de4bi.members.controller..*.*(..))")
     public Object aroundController(ProceedingJoinPoint pjp) {
         final long bgnTime = System.currentTimeMillis();
-        final String tid = RandomStringUtils.randomAlphanumeric(16);
+        final long bgnNanos = System.nanoTime();
+        final String tid = IdUtil.newTraceId();
         final String oldLayer = MDC.get("layer");
         MDC.put("layer", "CTR");
         MDC.put("tid", tid);
         ThreadStorage.put(ApiResult.KEY_TID, tid); // 스레드 스토리지에 'tid'를 꼭 넣어줘야 합니다
         ThreadStorage.put(TSKEY_CTR_REQ_TIME, bgnTime);
+        ThreadStorage.put(MapperAop.TSKEY_DS_STICKY_PRIMARY, false); // 요청마다 복제본 조회부터 시작
+        final AopRequestLog reqLog = new AopRequestLog(aopLogManager.samplePayload());
+        ThreadStorage.put(TSKEY_REQ_LOG, reqLog);
 
-        // 접근 로깅
+        // 요청 정보
         final ServletRequestAttributes svlReqAttrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         final HttpServletRequest httpSvlReq = svlReqAttrs.getRequest();
         final HttpServletResponse httpSvlRes = svlReqAttrs.getResponse();
-        final String reqInfo = ">> " + httpSvlReq.getMethod() + " " + httpSvlReq.getRequestURI() + " " + httpSvlReq.getProtocol();
-        final MethodSignature sign = (MethodSignature) pjp.getSignature();
-        final Method method = sign.getMethod();
-        final boolean isApiCtr = (sign.getReturnType() != ModelAndView.class);
-        final String reqFunc = ">> " + sign.getDeclaringTypeName() + "." + sign.getName() + "()";
-
-        logger.info(isApiCtr ? "=== API Controller begin! ===" : "=== Page Controller begin! ===");
-        logger.info(reqInfo);
-        logger.info(reqFunc);
+        // [Note] 인증 요구사항/컨트롤러 종류/로그 이름은 시작 시 만들어둔 정보를 사용한다 (EndpointDescriptorManager)
+        final EndpointDescriptor endpoint = endpointDescriptorMgr.getDescriptor(((MethodSignature) pjp.getSignature()).getMethod());
+        final boolean isApiCtr = (endpoint.getKind() != ControllerKind.PAGE);
+        final boolean isRawCtr = (endpoint.getKind() == ControllerKind.RAW);
 
         final Map<String, Object> pageCtrMap = new HashMap<>(); 
         pageCtrMap.put("tid", tid);
@@ -96,8 +102,8 @@ public class ControllerAop {
             boolean doProcess = true;
 
             // 사용자 정의 어노테이션 검사 수행
-            final boolean reqManagerJwt = method.getAnnotation(RequireManagerJwt.class) != null ? true : false;
-            if (reqManagerJwt || method.getAnnotation(RequireMemberJwt.class) != null) {
+            final boolean reqManagerJwt = (endpoint.getAuthRequirement() == AuthRequirement.MANAGER);
+            if (endpoint.getAuthRequirement() != AuthRequirement.NONE) {
                 final String memberJwt = httpSvlReq.getHeader("member_jwt");
                 final ApiResult<MembersDao> valRst = membersService.validateMemberJwt(memberJwt, null);
                 if (valRst.getResult() == false) {
@@ -120,7 +126,13 @@ public class ControllerAop {
                 }
             }
 
-            if (isApiCtr) {
+            if (isRawCtr) {
+                // ApiResult 형식을 따르지 않는 응답(ex: JWKS)은 변환없이 그대로 반환한다
+                if (doProcess == false) {
+                    throw ApiException.of().setInternalMsg("Unauthorized raw controller request!");
+                }
+            }
+            else if (isApiCtr) {
                 // API 컨트롤러는 CodeMsgManager를 통해 코드->메시지 변환을 수행하는 과정을 갖는다
                 final ApiResult<?> tempRst = (ApiResult<?>) ctrResult;
                 tempRst.setMessage(codeMsgManager.getMsg(tempRst.getCode(), null));
@@ -136,7 +148,10 @@ public class ControllerAop {
             logger.error("ApiException! HttpStatus:{} / IntMsg:{} / ExtMsg:{} / Cause:{}",
                             e.getHttpStatus(), e.getInternalMsg(), e.getExternalMsg(), e.getCause());
             httpSvlRes.setStatus(e.getHttpStatus().value());
-            if (isApiCtr) {
+            if (isRawCtr) {
+                ctrResult = ResponseEntity.status(e.getHttpStatus()).build();
+            }
+            else if (isApiCtr) {
                 final ApiResult<?> tempRst = ApiResult.of(false).setCode(ResponseCode.A_FAIL);
                 tempRst.setMessage(codeMsgManager.getMsg(tempRst.getCode(), null));
                 ctrResult = tempRst;
@@ -150,7 +165,10 @@ public class ControllerAop {
             // 시스템에서 기대치 않게 발생한 예외는 오류로 처리 (A9999)
             logger.error("UnhandledException! Msg:{} / Cause:{}", e.getMessage(), e.getCause());
             httpSvlRes.setStatus(HttpURLConnection.HTTP_INTERNAL_ERROR);
-            if (isApiCtr) {
+            if (isRawCtr) {
+                ctrResult = ResponseEntity.status(HttpURLConnection.HTTP_INTERNAL_ERROR).build();
+            }
+            else if (isApiCtr) {
                 final ApiResult<?> tempRst = ApiResult.of(false).setCode(ResponseCode.A_ERROR);
                 tempRst.setMessage(codeMsgManager.getMsg(tempRst.getCode(), null));
                 ctrResult = tempRst;
@@ -161,11 +179,29 @@ public class ControllerAop {
             }
         }
 
+        // 지표 기록
+        // [Note] ApiResult가 아닌 응답(Raw, Page)은 HTTP 상태를 결과코드로 사용한다
+        final long elapsedNanos = System.nanoTime() - bgnNanos;
+        final String resultCode = (ctrResult instanceof ApiResult ?
+            ((ApiResult<?>) ctrResult).getCode() : String.valueOf(httpSvlRes.getStatus()));
+        endpoint.getMetrics().record(resultCode, elapsedNanos);
+
         // 결과 로깅 및 반환
-        final String ctrResultStr = ctrResult.toString();
-        logger.info("<< CtrResult: '" + ctrResultStr + "'");
-        final long elapsedTime = System.currentTimeMillis() - bgnTime;
-        logger.info(isApiCtr ? "=== API Controller end! ===" : "=== Page Controller end! ===" + " (Time: " + elapsedTime + "ms)");
+        if (logger.isInfoEnabled()) {
+            final long elapsedUs = elapsedNanos / 1000L;
+            final Object[] logArgs = {
+                httpSvlReq.getMethod(), httpSvlReq.getRequestURI(), endpoint.getLogName(),
+                httpSvlRes.getStatus(), resultCode, elapsedUs,
+                reqLog.getServiceCount(), reqLog.getMapperCount(), reqLog.getMapperMicros(), ctrResult
+            };
+            if (reqLog.isPayloadSampled()) {
+                logger.info("req={} {} ctr={} status={} code={} elapsedUs={} svc={} mpr={} mprUs={} result={}", logArgs);
+            }
+            else {
+                logger.info("req={} {} ctr={} status={} code={} elapsedUs={} svc={} mpr={} mprUs={}", logArgs);
+            }
+        }
+        ThreadStorage.put(TSKEY_REQ_LOG, null);
         MDC.put("layer", oldLayer);
         return ctrResult;
     }
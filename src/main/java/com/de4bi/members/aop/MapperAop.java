@@ -1,22 +1,48 @@
 package com.de4bi.members.aop;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.de4bi.common.annotation.ReadFromPrimary;
+import com.de4bi.common.data.ThreadStorage;
 import com.de4bi.common.exception.MapperException;
+import com.de4bi.members.manager.InvocationMetricsManager;
+import com.de4bi.members.manager.InvocationMetricsManager.Layer;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
 @Aspect
 @Component
 public class MapperAop {
 
     private static final Logger logger = LoggerFactory.getLogger(MapperAop.class);
 
+    // 상수
+    public static final String TSKEY_DS_READ_ONLY =
+        "TS_DS_READ_ONLY"; // ThreadStorage에서 현재 매퍼 호출이 복제본에서 수행할 조회(select)인지 저장하기 위한 키 값
+    public static final String TSKEY_DS_STICKY_PRIMARY =
+        "TS_DS_STICKY_PRIMARY"; // ThreadStorage에서 요청 중 쓰기 수행 여부(이후 조회를 주 DB로)를 저장하기 위한 키 값
+
+    private static final String READ_METHOD_PREFIX = "select"; // 조회 매퍼 메서드 이름의 접두어
+
+    // 매니저
+    private InvocationMetricsManager invocationMetricsMgr;
+
+    // 매퍼 메서드별 @ReadFromPrimary 지정 여부 (호출마다 어노테이션을 조회하지 않도록 보관)
+    private final ConcurrentMap<Method, Boolean> primaryReadMap = new ConcurrentHashMap<>();
+
     /**
      * Mapper전/후를 감싸는 AOP입니다. Mapper메서드 호출 및 응답, 예외상황을 핸들링합니다.
      * 
@@ -26,16 +52,21 @@ public class MapperAop {
     @Around("execution(* com.de4bi.members.db.mapper..*.*(..))")
     public Object aroundMapper(ProceedingJoinPoint pjp) {
         // 초기화
-        final long bgnTime = System.currentTimeMillis();
+        final long bgnNanos = System.nanoTime();
         final String oldLayer = MDC.get("layer");
         MDC.put("layer", "MPR");
+        final AopRequestLog reqLog = (AopRequestLog) ThreadStorage.get(ControllerAop.TSKEY_REQ_LOG);
 
-        // 접근 로깅
+        // 조회/쓰기 구분 (ReplicaRoutingDataSource에서 사용)
+        // [Note] @ReadFromPrimary 조회는 쓰기와 달리 이후 조회를 주 DB로 고정하지 않는다
         final Signature sign = pjp.getSignature();
-        final String reqFunc = "> " + sign.getDeclaringTypeName() + "." + sign.getName() + "()";
-
-        logger.info("### Mapper begin! ###");
-        logger.info(reqFunc);
+        final Method method = ((MethodSignature) sign).getMethod();
+        final boolean isRead = sign.getName().startsWith(READ_METHOD_PREFIX);
+        if (isRead == false) {
+            ThreadStorage.put(TSKEY_DS_STICKY_PRIMARY, true);
+        }
+        final boolean isReplicaRead = (isRead && isPrimaryRead(method) == false);
+        final Object oldReadOnly = ThreadStorage.put(TSKEY_DS_READ_ONLY, isReplicaRead);
 
         // 매퍼 수행
         Object mprResult = null;
@@ -43,14 +74,41 @@ public class MapperAop {
             mprResult = pjp.proceed();
         }
         catch (Throwable e) {
+            invocationMetricsMgr.record(Layer.MAPPER, method, e.getClass().getSimpleName(), System.nanoTime() - bgnNanos);
             throw new MapperException(e);
         }
+        finally {
+            if (reqLog != null) {
+                reqLog.addMapper(System.nanoTime() - bgnNanos);
+            }
+            ThreadStorage.put(TSKEY_DS_READ_ONLY, oldReadOnly);
+            MDC.put("layer", oldLayer);
+        }
 
         // 결과 로깅 및 반환
-        logger.info("< MprResult: '" + (mprResult == null ? null : mprResult.toString()) + "'");
-        final long elapsedTime = System.currentTimeMillis() - bgnTime;
-        logger.info("### Mapper end! ### (Time: " + elapsedTime + "ms)");
-        MDC.put("layer", oldLayer);
+        final long elapsedNanos = System.nanoTime() - bgnNanos;
+        invocationMetricsMgr.record(Layer.MAPPER, method, InvocationMetricsManager.CODE_OK, elapsedNanos);
+        if (logger.isDebugEnabled()) {
+            if (AopRequestLog.isPayloadSampled(reqLog)) {
+                logger.debug("mpr={}.{} elapsedUs={} result={}", sign.getDeclaringType().getSimpleName(), sign.getName(),
+                    elapsedNanos / 1000L, mprResult);
+            }
+            else {
+                logger.debug("mpr={}.{} elapsedUs={}", sign.getDeclaringType().getSimpleName(), sign.getName(), elapsedNanos / 1000L);
+            }
+        }
         return mprResult;
     }
-}
\ No newline at end of file
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    private boolean isPrimaryRead(Method method) {
+        final Boolean isPrimaryRead = this.primaryReadMap.get(method);
+        if (isPrimaryRead != null) {
+            return isPrimaryRead;
+        }
+        return this.primaryReadMap.computeIfAbsent(method, m -> m.isAnnotationPresent(ReadFromPrimary.class));
+    }
+}
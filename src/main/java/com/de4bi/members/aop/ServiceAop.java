@@ -1,25 +1,35 @@
 package com.de4bi.members.aop;
 
 import com.de4bi.common.data.ApiResult;
+import com.de4bi.common.data.ThreadStorage;
 import com.de4bi.common.exception.ApiException;
 import com.de4bi.common.exception.MapperException;
 import com.de4bi.common.exception.ServiceException;
+import com.de4bi.members.manager.InvocationMetricsManager;
+import com.de4bi.members.manager.InvocationMetricsManager.Layer;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
 @Aspect
 @Component
 public class ServiceAop {
 
     private static final Logger logger = LoggerFactory.getLogger(ServiceAop.class);
 
+    // 매니저
+    private InvocationMetricsManager invocationMetricsMgr;
+
     /**
      * Service전/후를 감싸는 AOP입니다. Service메서드 호출 로깅 및 응답, 예외상황을 핸들링합니다.
      * 
@@ -30,16 +40,10 @@ public class ServiceAop {
     @Around("execution(* com.de4bi.members.service..*.*(..))")
     public ApiResult<?> aroundService(ProceedingJoinPoint pjp) {
         // 초기화
-        final long bgnTime = System.currentTimeMillis();
+        final long bgnNanos = System.nanoTime();
         final String oldLayer = MDC.get("layer");
         MDC.put("layer", "SVC");
-
-        // 접근 로깅
-        final Signature sign = pjp.getSignature();
-        final String reqFunc = "> " + sign.getDeclaringTypeName() + "." + sign.getName() + "()";
-
-        logger.info("--- Service begin! ---");
-        logger.info(reqFunc);
+        final AopRequestLog reqLog = (AopRequestLog) ThreadStorage.get(ControllerAop.TSKEY_REQ_LOG);
 
         // 서비스 수행
         ApiResult<?> svcResult = null;
@@ -49,17 +53,44 @@ public class ServiceAop {
             svcResult = (ApiResult<?>) pjp.proceed();
         }
         catch (MapperException | ApiException e) {
+            recordMetrics(pjp, e.getClass().getSimpleName(), bgnNanos);
             throw e;
         }
         catch (Throwable e) {
+            recordMetrics(pjp, ServiceException.class.getSimpleName(), bgnNanos);
             throw new ServiceException(e);
         }
+        finally {
+            if (reqLog != null) {
+                reqLog.addService();
+            }
+            MDC.put("layer", oldLayer);
+        }
+        final long elapsedNanos = recordMetrics(pjp, (svcResult == null ? null : svcResult.getCode()), bgnNanos);
 
         // 결과 로깅 및 반환
-        logger.info("< SvcResult: '" + (svcResult == null ? null : svcResult.toString()) + "'");
-        final long elapsedTime = System.currentTimeMillis() - bgnTime;
-        logger.info("--- Service end! --- (Time: " + elapsedTime + "ms)");
-        MDC.put("layer", oldLayer);
+        if (logger.isDebugEnabled()) {
+            final Signature sign = pjp.getSignature();
+            final long elapsedUs = elapsedNanos / 1000L;
+            if (AopRequestLog.isPayloadSampled(reqLog)) {
+                logger.debug("svc={}.{} code={} elapsedUs={} result={}", sign.getDeclaringType().getSimpleName(), sign.getName(),
+                    (svcResult == null ? null : svcResult.getCode()), elapsedUs, svcResult);
+            }
+            else {
+                logger.debug("svc={}.{} code={} elapsedUs={}", sign.getDeclaringType().getSimpleName(), sign.getName(),
+                    (svcResult == null ? null : svcResult.getCode()), elapsedUs);
+            }
+        }
         return svcResult;
     }
-}
\ No newline at end of file
+
+    /**
+     * <p>서비스 호출의 소요시간을 결과코드별로 기록합니다.</p>
+     * @return 소요시간(ns)
+     */
+    private long recordMetrics(ProceedingJoinPoint pjp, String code, long bgnNanos) {
+        final long elapsedNanos = System.nanoTime() - bgnNanos;
+        invocationMetricsMgr.record(Layer.SERVICE, ((MethodSignature) pjp.getSignature()).getMethod(), code, elapsedNanos);
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,38 @@
+package com.de4bi.members.controller.api;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.de4bi.members.manager.MemberJwtKeyringManager;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.ApiOperation;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+@RestController
+public class JwksApiController {
+
+    private final MemberJwtKeyringManager memberJwtKeyringMgr;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>MemberJwt 검증용 공개키 목록(JWKS)을 반환합니다.</p>
+     * 다른 서비스는 이 응답을 캐시하여 회원서버 호출 없이 MemberJwt(ES256)를 직접 검증할 수 있습니다.
+     * 응답은 {@code ApiResult}로 감싸지 않고 RFC 7517 형식 그대로 반환합니다.
+     */
+    @GetMapping("/.well-known/jwks.json")
+    @ApiOperation(value = "MemberJwt 공개키 목록", notes = "MemberJwt 검증용 공개키 목록(JWKS)을 반환합니다.")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(memberJwtKeyringMgr.getJwksMaxAgeSec(), TimeUnit.SECONDS).cachePublic())
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(memberJwtKeyringMgr.getPublicJwks());
+    }
+}
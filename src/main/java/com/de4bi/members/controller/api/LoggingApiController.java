@@ -0,0 +1,50 @@
+package com.de4bi.members.controller.api;
+
+import com.de4bi.common.annotation.RequireManagerJwt;
+import com.de4bi.common.data.ApiResult;
+import com.de4bi.members.controller.dto.AopLogConfigResDto;
+import com.de4bi.members.controller.dto.PutAopLogConfigReqDto;
+import com.de4bi.members.service.LoggingService;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping(value = {"/api/v1"})
+public class LoggingApiController {
+
+    private final LoggingService loggingSvc;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @RequireManagerJwt
+    @GetMapping("/logging/aop")
+    @ApiOperation(value = "AOP 로그 설정 조회", notes = "Controller/Service/Mapper AOP의 로그 레벨과 결과 로깅 비율을 조회합니다.")
+    public ApiResult<AopLogConfigResDto> getAopLogConfig(
+        @ApiParam(required = true, value = "조회를 시도하는 관리자 JWT")
+        @RequestHeader(name = "member_jwt") String memberJwt
+    ) {
+        return loggingSvc.selectAopLogConfig();
+    }
+
+    @RequireManagerJwt
+    @PutMapping("/logging/aop")
+    @ApiOperation(value = "AOP 로그 설정 변경", notes = "Controller/Service/Mapper AOP의 로그 레벨과 결과 로깅 비율을 서버 재시작 전까지 변경합니다.")
+    public ApiResult<AopLogConfigResDto> putAopLogConfig(
+        @ApiParam(required = true, value = "변경을 시도하는 관리자 JWT")
+        @RequestHeader(name = "member_jwt") String memberJwt,
+        @ApiParam(required = true, value = "변경할 로그 설정 (null인 항목은 변경하지 않음)")
+        @RequestBody PutAopLogConfigReqDto reqDto
+    ) {
+        return loggingSvc.updateAopLogConfig(reqDto.getLevel(), reqDto.getPayloadSampleRate());
+    }
+}
@@ -1,10 +1,17 @@
 package com.de4bi.members.controller.api;
 
+import java.util.List;
+
+import com.de4bi.common.annotation.RequireManagerJwt;
 import com.de4bi.common.annotation.RequireMemberJwt;
 import com.de4bi.common.data.ApiResult;
+import com.de4bi.members.controller.dto.IntrospectMemberJwtReqDto;
+import com.de4bi.members.controller.dto.IntrospectMemberJwtResDto;
 import com.de4bi.members.controller.dto.LoginMembersDto;
 import com.de4bi.members.controller.dto.PutMemberBasicInfoReqDto;
 import com.de4bi.members.controller.dto.SelectMemberInfoResDto;
+import com.de4bi.members.controller.dto.SelectMembersInfoResDto;
+import com.de4bi.members.controller.dto.SelectMembersListResDto;
 import com.de4bi.members.service.MembersService;
 
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -54,6 +61,44 @@ public class MembersApiController {
         return membersSvc.selectMemberBasicInfo(null, seq, null, null);
     }
 
+    @RequireMemberJwt
+    @GetMapping("/members/batch")
+    @ApiOperation(value = "회원 기본정보 일괄 획득", notes = "여러 회원의 기본정보를 한 번에 획득합니다. 권한 검사는 회원별로 수행합니다.")
+    public ApiResult<SelectMembersInfoResDto> getMemberBasicInfos(
+        @ApiParam(required = true, value = "조회를 시도하는 회원 JWT")
+        @RequestHeader(name = "member_jwt") String memberJwt,
+        @ApiParam(required = false, value = "회원 시퀀스 목록")
+        @RequestParam(required = false) List<Long> seqs,
+        @ApiParam(required = false, value = "회원 아이디 목록")
+        @RequestParam(required = false) List<String> ids
+    ) {
+        return membersSvc.selectMemberBasicInfos(seqs, ids);
+    }
+
+    @RequireManagerJwt
+    @GetMapping("/members/list")
+    @ApiOperation(value = "회원 목록 조회", notes = "회원 목록을 시퀀스 순으로 조회합니다. 다음 페이지는 응답의 next_cursor로 조회합니다. (매니저 권한)")
+    public ApiResult<SelectMembersListResDto> getMembersList(
+        @ApiParam(required = true, value = "조회를 시도하는 매니저 JWT")
+        @RequestHeader(name = "member_jwt") String memberJwt,
+        @ApiParam(required = false, value = "이전 페이지의 next_cursor (첫 페이지는 생략)")
+        @RequestParam(required = false) String cursor,
+        @ApiParam(required = false, value = "페이지 크기")
+        @RequestParam(required = false) Integer size,
+        @ApiParam(required = false, value = "회원 상태 (MembersCode 시퀀스)")
+        @RequestParam(required = false) Long status,
+        @ApiParam(required = false, value = "권한 (MembersCode 시퀀스)")
+        @RequestParam(required = false) Long authority,
+        @ApiParam(required = false, value = "인증기관 (MembersCode 시퀀스)")
+        @RequestParam(name = "auth_agency", required = false) Long authAgency,
+        @ApiParam(required = false, value = "가입일자 시작 (yyyy-MM-dd HH:mm:ss, UTC, 포함)")
+        @RequestParam(name = "join_date_from", required = false) String joinDateFrom,
+        @ApiParam(required = false, value = "가입일자 끝 (yyyy-MM-dd HH:mm:ss, UTC, 미포함)")
+        @RequestParam(name = "join_date_to", required = false) String joinDateTo
+    ) {
+        return membersSvc.selectMembersList(cursor, size, status, authority, authAgency, joinDateFrom, joinDateTo);
+    }
+
     @RequireMemberJwt
     @PutMapping("/members/{seq}")
     @ApiOperation(value = "회원정보 수정", notes = "회원정보를 수정합니다.")
@@ -89,4 +134,26 @@ public class MembersApiController {
         return membersSvc.login(loginMembersDto.getId(), loginMembersDto.getPassword(),
             loginMembersDto.getAudience(), loginMembersDto.isKeepLoggedIn());
     }
+
+    @RequireMemberJwt
+    @PostMapping("/members/logout")
+    @ApiOperation(value = "로그아웃", notes = "로그아웃을 수행합니다. 사용한 회원 JWT는 더 이상 사용할 수 없습니다.")
+    public ApiResult<Void> logout(
+        @ApiParam(required = true, value = "폐기할 회원 JWT")
+        @RequestHeader(name = "member_jwt") String memberJwt
+    ) {
+        return membersSvc.logout(memberJwt);
+    }
+
+    @RequireManagerJwt
+    @PostMapping("/members/introspect")
+    @ApiOperation(value = "회원 JWT 일괄 검사", notes = "여러 회원 JWT를 한 번에 검사하여 토큰별 판정 결과와 회원 정보를 반환합니다. (관리자/API 게이트웨이용)")
+    public ApiResult<IntrospectMemberJwtResDto> introspectMemberJwts(
+        @ApiParam(required = true, value = "검사를 요청하는 관리자 JWT")
+        @RequestHeader(name = "member_jwt") String memberJwt,
+        @ApiParam(required = true, value = "검사할 회원 JWT 목록과 사용처")
+        @RequestBody IntrospectMemberJwtReqDto reqDto
+    ) {
+        return membersSvc.introspectMemberJwts(reqDto.getMemberJwts(), reqDto.getAudience());
+    }
 }
\ No newline at end of file
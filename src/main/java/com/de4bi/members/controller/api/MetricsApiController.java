@@ -0,0 +1,57 @@
+package com.de4bi.members.controller.api;
+
+import com.de4bi.common.annotation.RequireManagerJwt;
+import com.de4bi.common.data.ApiResult;
+import com.de4bi.members.controller.dto.DataSourceMetricsResDto;
+import com.de4bi.members.controller.dto.InvocationMetricsResDto;
+import com.de4bi.members.controller.dto.PasswordHashMetricsResDto;
+import com.de4bi.members.service.MetricsService;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import lombok.AllArgsConstructor;
+
+@AllArgsConstructor
+@RestController
+@RequestMapping(value = {"/api/v1"})
+public class MetricsApiController {
+
+    private final MetricsService metricsSvc;
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @RequireManagerJwt
+    @GetMapping("/metrics/datasource")
+    @ApiOperation(value = "커넥션 풀 지표 조회", notes = "커넥션 풀의 상태와 커넥션 획득/사용/생성 시간 분포를 조회합니다.")
+    public ApiResult<DataSourceMetricsResDto> getDataSourceMetrics(
+        @ApiParam(required = true, value = "조회를 시도하는 관리자 JWT")
+        @RequestHeader(name = "member_jwt") String memberJwt
+    ) {
+        return metricsSvc.selectDataSourceMetrics();
+    }
+
+    @RequireManagerJwt
+    @GetMapping("/metrics/password-hash")
+    @ApiOperation(value = "비밀번호 해싱 지표 조회", notes = "비밀번호 해싱 스레드풀의 상태와 대기/해싱시간 분포를 조회합니다.")
+    public ApiResult<PasswordHashMetricsResDto> getPasswordHashMetrics(
+        @ApiParam(required = true, value = "조회를 시도하는 관리자 JWT")
+        @RequestHeader(name = "member_jwt") String memberJwt
+    ) {
+        return metricsSvc.selectPasswordHashMetrics();
+    }
+
+    @RequireManagerJwt
+    @GetMapping("/metrics/invocations")
+    @ApiOperation(value = "호출 지표 조회", notes = "Controller/Service/Mapper 메서드의 결과코드별 소요시간 분포(p50/p90/p99/max)와 처리량을 조회합니다.")
+    public ApiResult<InvocationMetricsResDto> getInvocationMetrics(
+        @ApiParam(required = true, value = "조회를 시도하는 관리자 JWT")
+        @RequestHeader(name = "member_jwt") String memberJwt
+    ) {
+        return metricsSvc.selectInvocationMetrics();
+    }
+}
@@ -2,10 +2,10 @@ package com.de4bi.members.controller.api;
 
 import com.de4bi.common.data.ApiResult;
 import com.de4bi.common.data.ThreadStorage;
+import com.de4bi.common.util.IdUtil;
 import com.de4bi.members.data.dao.MembersDao;
 import com.de4bi.members.service.TestService;
 
-import org.apache.commons.lang3.RandomStringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,7 +25,7 @@ public class TestApiController {
 
     @GetMapping("/test")
     public ApiResult<MembersDao> getTest() {
-        ThreadStorage.put(ApiResult.KEY_TID, RandomStringUtils.randomAlphanumeric(16));
+        ThreadStorage.put(ApiResult.KEY_TID, IdUtil.newTraceId());
         return testSvc.insert();
     }
 
@@ -0,0 +1,18 @@
+package com.de4bi.members.controller.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class AopLogConfigResDto {
+
+    String level;                       // AOP 로그 레벨
+    double payloadSampleRate;           // 결과(payload)를 로그에 포함할 요청 비율 (0.0 ~ 1.0)
+}
@@ -0,0 +1,28 @@
+package com.de4bi.members.controller.dto;
+
+import com.de4bi.common.data.LatencyHistogram;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class DataSourceMetricsResDto {
+
+    String poolName;                        // 풀 이름
+    int activeConnections;                  // 사용중인 커넥션 수
+    int idleConnections;                    // 유휴 커넥션 수
+    int pendingThreads;                     // 커넥션을 기다리는 스레드 수
+    int totalConnections;                   // 전체 커넥션 수
+    int maxConnections;                     // 최대 커넥션 수
+    int minConnections;                     // 최소 유휴 커넥션 수
+    long timeoutCount;                      // 커넥션 획득시간 초과 횟수
+    LatencyHistogram.Snapshot acquire;      // 커넥션 획득시간 (풀 대기시간 포함)
+    LatencyHistogram.Snapshot usage;        // 커넥션 사용시간
+    LatencyHistogram.Snapshot creation;     // 커넥션 생성시간
+}
@@ -0,0 +1,22 @@
+package com.de4bi.members.controller.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class IntrospectMemberJwtReqDto {
+
+    private List<String> memberJwts;    // 검사할 MemberJwt 목록
+    private String audience;            // 사용처 도메인 (nullable)
+}
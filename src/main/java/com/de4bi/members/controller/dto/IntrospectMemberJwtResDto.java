@@ -0,0 +1,34 @@
+package com.de4bi.members.controller.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class IntrospectMemberJwtResDto {
+
+    @AllArgsConstructor
+    @Builder
+    @Data
+    @JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+    public static class Verdict {
+
+        boolean active;         // 토큰 사용 가능여부
+        String code;            // 판정 결과코드 (ResponseCode)
+        Long seq;               // 시퀀스 (active인 경우)
+        String id;              // 아이디(메일) (active인 경우)
+        String status;          // 멤버 상태 (active인 경우)
+        String authority;       // 권한 (active인 경우)
+        Long exp;               // 토큰 만료시간(epoch sec) (active인 경우)
+    }
+
+    List<Verdict> verdicts;     // 요청 토큰 순서와 같은 순서의 판정 결과
+}
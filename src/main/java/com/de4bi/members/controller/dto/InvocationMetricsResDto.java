@@ -0,0 +1,35 @@
+package com.de4bi.members.controller.dto;
+
+import java.util.List;
+
+import com.de4bi.common.data.LatencyHistogram;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class InvocationMetricsResDto {
+
+    @AllArgsConstructor
+    @Builder
+    @Data
+    @JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+    public static class Item {
+
+        String signature;                   // 클래스명.메서드명
+        String code;                        // 결과코드
+        double throughput;                  // 서버 시작 후 평균 처리량 (회/초)
+        LatencyHistogram.Snapshot latency;  // 소요시간 분포
+    }
+
+    long uptimeMs;              // 기록 시작 후 경과시간(ms)
+    List<Item> controllers;     // Controller 메서드별 지표
+    List<Item> services;        // Service 메서드별 지표
+    List<Item> mappers;         // Mapper 메서드별 지표
+}
@@ -0,0 +1,25 @@
+package com.de4bi.members.controller.dto;
+
+import com.de4bi.common.data.LatencyHistogram;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class PasswordHashMetricsResDto {
+
+    int iterations;                     // PBKDF2 반복횟수
+    int threads;                        // 해싱 스레드 수
+    int activeCount;                    // 해싱중인 스레드 수
+    int queuedCount;                    // 대기중인 해싱 요청 수
+    long rejectCount;                   // 대기열 초과로 거부된 수
+    long timeoutCount;                  // 제한시간 초과 수
+    LatencyHistogram.Snapshot queueWait;    // 대기시간 분포
+    LatencyHistogram.Snapshot hashTime;     // 해싱시간 분포
+}
@@ -0,0 +1,20 @@
+package com.de4bi.members.controller.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class PutAopLogConfigReqDto {
+
+    private String level;               // 변경할 로그 레벨 (null: 변경하지 않음)
+    private Double payloadSampleRate;   // 변경할 결과 로깅 비율 (null: 변경하지 않음)
+}
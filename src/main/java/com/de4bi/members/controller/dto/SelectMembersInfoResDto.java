@@ -0,0 +1,31 @@
+package com.de4bi.members.controller.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class SelectMembersInfoResDto {
+
+    @AllArgsConstructor
+    @Builder
+    @Data
+    @JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+    public static class Item {
+
+        Long seq;                       // 요청한 시퀀스 (시퀀스로 요청한 경우)
+        String id;                      // 요청한 아이디 (아이디로 요청한 경우)
+        String code;                    // 조회 결과코드 (ResponseCode)
+        SelectMemberInfoResDto member;  // 회원 기본정보 (조회 성공한 경우)
+    }
+
+    List<Item> members;     // 요청 순서(시퀀스 목록, 아이디 목록 순)와 같은 순서의 조회 결과
+}
@@ -0,0 +1,20 @@
+package com.de4bi.members.controller.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@AllArgsConstructor
+@Builder
+@Data
+@JsonNaming(PropertyNamingStrategy.SnakeCaseStrategy.class)
+public class SelectMembersListResDto {
+
+    List<SelectMemberInfoResDto> members;   // 시퀀스 오름차순의 회원 기본정보 목록
+    String nextCursor;                      // 다음 페이지 커서 (마지막 페이지인 경우 null)
+}
@@ -32,6 +32,7 @@ public class ResponseCode {
     public static final String M_RECENTLY_DEREGISTERED  = "M0014"; // 최근 회원탈퇴
     public static final String M_REQUIRE_PW_CHANGE      = "M0015"; // 비밀번호 변경 필요
     public static final String M_REQUIRE_PW_REGISTER    = "M0016"; // 비밀번호 등록 필요
+    public static final String M_CONFLICTED_UPDATE      = "M0017"; // 동시 수정 충돌 (버전 불일치)
     public static final String M_ERROR                  = "M9999"; // 회원 관련 오류 발생
 
     // MA(회원 인증)
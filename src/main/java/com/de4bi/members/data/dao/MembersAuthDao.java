@@ -0,0 +1,38 @@
+package com.de4bi.members.data.dao;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>tb_members의 인증 확인용 projection입니다. (MemberJwt 검증, 소셜 로그인)</p>
+ * 비밀번호, 이름, 일자 컬럼을 제외하여 {@code (id, status, authority, deregister_date)} 인덱스만으로 조회할 수 있습니다.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembersAuthDao {
+
+    private long seq;               // 고유 시퀀스
+    private String id;              // 아이디 (이메일/유니크)
+    private long authority;         // 권한
+    private long status;            // 상태
+    private Date deregisterDate;    // 탈퇴 일자
+
+    /**
+     * @return 조회된 컬럼만 채워진 {@link MembersDao} (바뀐 컬럼 없음)
+     */
+    public MembersDao toMembersDao() {
+        return MembersDao.builder()
+            .seq(this.seq)
+            .id(this.id)
+            .authority(this.authority)
+            .status(this.status)
+            .deregisterDate(this.deregisterDate)
+            .build();
+    }
+}
@@ -1,17 +1,50 @@
 package com.de4bi.members.data.dao;
 
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
-@Builder
+/**
+ * <p>tb_members 테이블의 DAO입니다.</p>
+ * setter로 값이 바뀐 컬럼을 기록하여, {@code MembersMapper.updateChanged()}로 바뀐 컬럼만 수정할 수 있습니다.
+ * 빌더나 DB조회로 생성된 직후에는 바뀐 컬럼이 없습니다.
+ * {@code version}은 회원정보가 수정될 때마다 1씩 증가하며, {@code MembersMapper.updateChangedWithVersion()}의 낙관적 잠금에 사용합니다.
+ */
+@Builder(toBuilder = true)
 @Data
 public class MembersDao {
-    
+
+    ////////////////////////////////////////////////////////////////
+    // column names
+    ////////////////////////////////////////////////////////////////
+
+    public static final String COL_ID               = "id";
+    public static final String COL_PASSWORD         = "password";
+    public static final String COL_NICKNAME         = "nickname";
+    public static final String COL_NAME             = "name";
+    public static final String COL_AUTHORITY        = "authority";
+    public static final String COL_STATUS           = "status";
+    public static final String COL_AUTH_AGENCY      = "auth_agency";
+    public static final String COL_JOIN_DATE        = "join_date";
+    public static final String COL_LAST_LOGIN_DATE  = "last_login_date";
+    public static final String COL_DEREGISTER_DATE  = "deregister_date";
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
     private long seq;               // 고유 시퀀스
     private String id;              // 아이디 (이메일/유니크)
-    private String password;        // 비밀번호 (Salted + SHA256 Hashed)
+    private String password;        // 비밀번호 (PBKDF2-HMAC-SHA256 Hashed, 재해싱 전에는 Salted + SHA256 Hashed)
     private String nickname;        // 별명 (닉네임/유니크)
     private String name;            // 이름
     private long authority;         // 권한
@@ -20,4 +53,97 @@ public class MembersDao {
     private Date joinDate;          // (재)가입일자
     private Date lastLoginDate;     // 마지막 로그인 일자
     private Date deregisterDate;    // 탈퇴 일자
-}
\ No newline at end of file
+    private long version;           // 수정 버전 (낙관적 잠금)
+
+    // [Note] 초기화된 final 필드는 빌더/생성자 파라미터에서 제외된다. 위 필드의 순서는 MembersMapper.xml(membersMap)의 생성자 매핑 순서와 같아야 한다
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final transient Set<String> changedColumns = new HashSet<>(4); // 값이 바뀐 컬럼명
+
+    ////////////////////////////////////////////////////////////////
+    // setters (change tracking)
+    ////////////////////////////////////////////////////////////////
+
+    public void setId(String id) {
+        markChanged(COL_ID, this.id, id);
+        this.id = id;
+    }
+
+    public void setPassword(String password) {
+        markChanged(COL_PASSWORD, this.password, password);
+        this.password = password;
+    }
+
+    public void setNickname(String nickname) {
+        markChanged(COL_NICKNAME, this.nickname, nickname);
+        this.nickname = nickname;
+    }
+
+    public void setName(String name) {
+        markChanged(COL_NAME, this.name, name);
+        this.name = name;
+    }
+
+    public void setAuthority(long authority) {
+        markChanged(COL_AUTHORITY, this.authority, authority);
+        this.authority = authority;
+    }
+
+    public void setStatus(long status) {
+        markChanged(COL_STATUS, this.status, status);
+        this.status = status;
+    }
+
+    public void setAuthAgency(long authAgency) {
+        markChanged(COL_AUTH_AGENCY, this.authAgency, authAgency);
+        this.authAgency = authAgency;
+    }
+
+    public void setJoinDate(Date joinDate) {
+        markChanged(COL_JOIN_DATE, this.joinDate, joinDate);
+        this.joinDate = joinDate;
+    }
+
+    public void setLastLoginDate(Date lastLoginDate) {
+        markChanged(COL_LAST_LOGIN_DATE, this.lastLoginDate, lastLoginDate);
+        this.lastLoginDate = lastLoginDate;
+    }
+
+    public void setDeregisterDate(Date deregisterDate) {
+        markChanged(COL_DEREGISTER_DATE, this.deregisterDate, deregisterDate);
+        this.deregisterDate = deregisterDate;
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // change tracking
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return 값이 바뀐 컬럼명 목록 (읽기 전용)
+     */
+    public Set<String> getChangedColumns() {
+        return Collections.unmodifiableSet(this.changedColumns);
+    }
+
+    /**
+     * @return true: 바뀐 컬럼이 있음<li>false: 바뀐 컬럼이 없음</li>
+     */
+    @JsonIgnore
+    public boolean isChanged() {
+        return (this.changedColumns.isEmpty() == false);
+    }
+
+    /**
+     * <p>바뀐 컬럼 기록을 초기화합니다. DB에 반영한 후 호출합니다.</p>
+     */
+    public void clearChangedColumns() {
+        this.changedColumns.clear();
+    }
+
+    private void markChanged(String column, Object oldValue, Object newValue) {
+        if (Objects.equals(oldValue, newValue) == false) {
+            this.changedColumns.add(column);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.de4bi.members.data.dao;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>tb_members의 회원 기본정보 조회용 projection입니다.</p>
+ * 비밀번호(hash)와 탈퇴일자를 제외한 컬럼만 조회합니다.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembersInfoDao {
+
+    private long seq;               // 고유 시퀀스
+    private String id;              // 아이디 (이메일/유니크)
+    private String nickname;        // 별명 (닉네임/유니크)
+    private String name;            // 이름
+    private long authority;         // 권한
+    private long status;            // 상태
+    private long authAgency;        // 인증기관
+    private Date joinDate;          // (재)가입일자
+    private Date lastLoginDate;     // 마지막 로그인 일자
+
+    /**
+     * @return 조회된 컬럼만 채워진 {@link MembersDao} (바뀐 컬럼 없음)
+     */
+    public MembersDao toMembersDao() {
+        return MembersDao.builder()
+            .seq(this.seq)
+            .id(this.id)
+            .nickname(this.nickname)
+            .name(this.name)
+            .authority(this.authority)
+            .status(this.status)
+            .authAgency(this.authAgency)
+            .joinDate(this.joinDate)
+            .lastLoginDate(this.lastLoginDate)
+            .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.de4bi.members.data.dao;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <p>tb_members의 일반 로그인 확인용 projection입니다.</p>
+ * {@link MembersAuthDao}에 비밀번호(hash)를 더한 컬럼만 조회합니다.
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembersLoginDao {
+
+    private long seq;               // 고유 시퀀스
+    private String id;              // 아이디 (이메일/유니크)
+    private String password;        // 비밀번호 (PBKDF2-HMAC-SHA256 Hashed, 재해싱 전에는 Salted + SHA256 Hashed)
+    private long authority;         // 권한
+    private long status;            // 상태
+    private Date deregisterDate;    // 탈퇴 일자
+
+    /**
+     * @return 조회된 컬럼만 채워진 {@link MembersDao} (바뀐 컬럼 없음)
+     */
+    public MembersDao toMembersDao() {
+        return MembersDao.builder()
+            .seq(this.seq)
+            .id(this.id)
+            .password(this.password)
+            .authority(this.authority)
+            .status(this.status)
+            .deregisterDate(this.deregisterDate)
+            .build();
+    }
+}
@@ -1,22 +1,49 @@
 package com.de4bi.members.db.mapper;
 
+import java.time.Instant;
+import java.util.List;
+
+import com.de4bi.common.annotation.ReadFromPrimary;
+import com.de4bi.members.data.dao.MembersAuthDao;
 import com.de4bi.members.data.dao.MembersDao;
+import com.de4bi.members.data.dao.MembersInfoDao;
+import com.de4bi.members.data.dao.MembersLoginDao;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 @Mapper
 public interface MembersMapper {
     
     // Insert
     public long insert(MembersDao insertMembersDao);
+    public int insertOrRejoin(@Param("member") MembersDao insertMembersDao,
+        @Param("rejoinableBefore") Instant rejoinableBefore, @Param("bannedStatus") long bannedStatus);
     
     // Select
+    // [Note] 조회는 복제본에서 수행한다. 쓰기 이후의 조회는 자동으로 주 DB에서 수행되며(sticky primary),
+    //        토큰 검증 시 회원 상태/권한(정지, 권한 변경)을 확인하는 조회만 주 DB로 고정한다 (@ReadFromPrimary)
     public MembersDao select(long seq);
     public MembersDao selectById(String id);
     public MembersDao selectByNickname(String nickname);
 
+    // Select (projection)
+    @ReadFromPrimary public MembersAuthDao selectAuthById(String id);
+    @ReadFromPrimary public List<MembersAuthDao> selectAuthByIds(List<String> ids);
+    public MembersLoginDao selectLoginById(String id);
+    public MembersInfoDao selectInfo(long seq);
+    public List<MembersInfoDao> selectInfoBySeqsOrIds(@Param("seqs") List<Long> seqs, @Param("ids") List<String> ids);
+    public List<MembersInfoDao> selectInfoList(@Param("afterSeq") long afterSeq, @Param("status") Long status,
+        @Param("authority") Long authority, @Param("authAgency") Long authAgency,
+        @Param("joinDateFrom") Instant joinDateFrom, @Param("joinDateTo") Instant joinDateTo, @Param("limit") int limit);
+
     // Update
     public int update(MembersDao updateMembersDao);
+    public int updateChanged(MembersDao updateMembersDao);
+    public int updateChangedWithVersion(MembersDao updateMembersDao);
+    public int updatePasswordIfUnchanged(@Param("seq") long seq,
+        @Param("oldPassword") String oldPassword, @Param("newPassword") String newPassword);
+    public int updateLastLoginDates(List<MembersDao> updateMembersDaos);
 
     // Delete
     public int delete(long seq);
@@ -0,0 +1,137 @@
+package com.de4bi.members.manager;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.PostConstruct;
+
+import com.de4bi.common.exception.ApiException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>Controller/Service/Mapper AOP의 로그 레벨과 결과(payload) 로깅 비율을 관리합니다.</p>
+ * 두 값은 {@code config.properties}로 초기화되며, 서버 실행 중에도 변경할 수 있습니다.
+ * <ul><li>INFO: 요청마다 한 줄의 요약 로그만 남깁니다. (ControllerAop)</li>
+ * <li>DEBUG: 요약 로그에 더해 Service/Mapper 호출마다 한 줄씩 로그를 남깁니다.</li>
+ * <li>WARN 이상: 예외 로그만 남깁니다.</li>
+ * <li>결과(payload)의 직렬화는 비용이 크므로, 요청 시작 시 {@code payload-sample-rate} 비율로 뽑힌 요청만 결과를 로그에 포함합니다.
+ * 뽑힌 여부는 요청 동안 {@link com.de4bi.members.aop.AopRequestLog}에 보관되어 Controller/Service/Mapper AOP가 함께 사용합니다.</li>
+ * <li>각 AOP는 로그 레벨을 먼저 확인한 후 로그 인자를 만듭니다. (요청 경로에서 불필요한 문자열 생성 방지)</li></ul>
+ */
+@Component
+@PropertySource("classpath:config.properties")
+public class AopLogManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(AopLogManager.class);
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    public static final String AOP_LOGGER_NAME = "com.de4bi.members.aop"; // AOP 로거 이름 (패키지)
+
+    private static final String ENVKEY_AOP_LOG_LEVEL =
+        "log.aop.level"; // AOP 로그 레벨
+    private static final String ENVKEY_AOP_LOG_PAYLOAD_SAMPLE_RATE =
+        "log.aop.payload-sample-rate"; // 결과(payload)를 로그에 포함할 요청 비율 (0.0 ~ 1.0)
+
+    private final LoggingSystem loggingSystem;
+    private final String initLevel;
+    private volatile double payloadSampleRate;
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    public AopLogManager(LoggingSystem loggingSystem, Environment env) {
+        this.loggingSystem = loggingSystem;
+        this.initLevel = env.getProperty(ENVKEY_AOP_LOG_LEVEL, "INFO");
+        this.payloadSampleRate = clampRate(Double.parseDouble(env.getProperty(ENVKEY_AOP_LOG_PAYLOAD_SAMPLE_RATE, "0.01")));
+    }
+
+    @PostConstruct
+    public void init() {
+        setLevel(this.initLevel);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return AOP 로거에 적용된 로그 레벨, 확인할 수 없다면 null.
+     */
+    public String getLevel() {
+        final LoggerConfiguration loggerCfg = this.loggingSystem.getLoggerConfiguration(AOP_LOGGER_NAME);
+        if (loggerCfg == null || loggerCfg.getEffectiveLevel() == null) {
+            return null;
+        }
+        return loggerCfg.getEffectiveLevel().name();
+    }
+
+    /**
+     * <p>AOP 로거의 로그 레벨을 변경합니다.</p>
+     * @param level : 로그 레벨 (TRACE, DEBUG, INFO, WARN, ERROR, OFF)
+     * @throws ApiException 알 수 없는 로그 레벨인 경우
+     */
+    public void setLevel(String level) {
+        final LogLevel logLevel;
+        try {
+            logLevel = LogLevel.valueOf(level.trim().toUpperCase(Locale.ROOT));
+        }
+        catch (NullPointerException | IllegalArgumentException e) {
+            throw ApiException.of(HttpStatus.BAD_REQUEST, "알 수 없는 로그 레벨입니다.", "Unknown log level! (level: " + level + ")");
+        }
+
+        this.loggingSystem.setLogLevel(AOP_LOGGER_NAME, logLevel);
+        logger.warn("AOP log level changed. (level: {})", logLevel);
+    }
+
+    /**
+     * @return 결과(payload)를 로그에 포함할 요청 비율 (0.0 ~ 1.0)
+     */
+    public double getPayloadSampleRate() {
+        return this.payloadSampleRate;
+    }
+
+    /**
+     * <p>결과(payload)를 로그에 포함할 요청 비율을 변경합니다.</p>
+     * @param payloadSampleRate : 요청 비율 (0.0 ~ 1.0, 범위를 벗어나면 가까운 값으로 보정)
+     */
+    public void setPayloadSampleRate(double payloadSampleRate) {
+        this.payloadSampleRate = clampRate(payloadSampleRate);
+        logger.warn("AOP log payload sample rate changed. (rate: {})", this.payloadSampleRate);
+    }
+
+    /**
+     * <p>현재 요청의 결과(payload)를 로그에 포함할지 뽑습니다. 요청 시작 시 한 번 호출합니다.</p>
+     * @return true: 결과를 로그에 포함<li>false: 결과를 로그에 포함하지 않음</li>
+     */
+    public boolean samplePayload() {
+        final double rate = this.payloadSampleRate;
+        if (rate <= 0.0d) {
+            return false;
+        }
+        return (rate >= 1.0d || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    private static double clampRate(double rate) {
+        if (Double.isNaN(rate)) {
+            return 0.0d;
+        }
+        return Math.min(1.0d, Math.max(0.0d, rate));
+    }
+}
@@ -0,0 +1,153 @@
+package com.de4bi.members.manager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.de4bi.common.data.LatencyHistogram;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>커넥션 풀(HikariCP)의 상태와 커넥션 획득/사용/생성 시간을 수집합니다.</p>
+ * {@code DataSourceConfig}에서 풀의 {@link MetricsTrackerFactory}로 등록되며, 풀이 생성될 때 {@code create()}가 호출됩니다.
+ * <ul><li>active/idle/pending/total: 풀이 제공하는 값이며, 풀 내부에서 짧은 시간 캐시됩니다.</li>
+ * <li>획득시간: 커넥션 요청부터 받을 때까지의 시간입니다. (풀 대기시간 포함)</li>
+ * <li>사용시간: 커넥션을 받은 후 반납할 때까지의 시간입니다.</li></ul>
+ */
+@Component
+public class DataSourceMetricsManager implements MetricsTrackerFactory {
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 풀에서 호출하는 수집기입니다. 모든 호출은 커넥션 획득/반납 경로에서 수행되므로 lock-free로 기록합니다.
+     */
+    private class Tracker implements IMetricsTracker {
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            creationHistogram.record(connectionCreatedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquireHistogram.record(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usageHistogram.record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeoutCnt.increment();
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+
+    private final LatencyHistogram acquireHistogram = new LatencyHistogram();
+    private final LatencyHistogram usageHistogram = new LatencyHistogram();
+    private final LatencyHistogram creationHistogram = new LatencyHistogram();
+    private final LongAdder timeoutCnt = new LongAdder();
+
+    ////////////////////////////////////////////////////////////////
+    // MetricsTrackerFactory
+    ////////////////////////////////////////////////////////////////
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        return new Tracker();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return 풀 이름, 풀이 아직 생성되지 않았다면 null.
+     */
+    public String getPoolName() {
+        return this.poolName;
+    }
+
+    /**
+     * @return 사용중인 커넥션 수
+     */
+    public int getActiveConnections() {
+        final PoolStats stats = this.poolStats;
+        return (stats == null ? 0 : stats.getActiveConnections());
+    }
+
+    /**
+     * @return 유휴 커넥션 수
+     */
+    public int getIdleConnections() {
+        final PoolStats stats = this.poolStats;
+        return (stats == null ? 0 : stats.getIdleConnections());
+    }
+
+    /**
+     * @return 커넥션을 기다리는 스레드 수
+     */
+    public int getPendingThreads() {
+        final PoolStats stats = this.poolStats;
+        return (stats == null ? 0 : stats.getPendingThreads());
+    }
+
+    /**
+     * @return 전체 커넥션 수
+     */
+    public int getTotalConnections() {
+        final PoolStats stats = this.poolStats;
+        return (stats == null ? 0 : stats.getTotalConnections());
+    }
+
+    /**
+     * @return 풀의 최대 커넥션 수
+     */
+    public int getMaxConnections() {
+        final PoolStats stats = this.poolStats;
+        return (stats == null ? 0 : stats.getMaxConnections());
+    }
+
+    /**
+     * @return 풀의 최소 유휴 커넥션 수
+     */
+    public int getMinConnections() {
+        final PoolStats stats = this.poolStats;
+        return (stats == null ? 0 : stats.getMinConnections());
+    }
+
+    /**
+     * @return 커넥션 획득시간 초과 횟수
+     */
+    public long getTimeoutCount() {
+        return this.timeoutCnt.sum();
+    }
+
+    public LatencyHistogram.Snapshot getAcquireSnapshot() {
+        return this.acquireHistogram.getSnapshot();
+    }
+
+    public LatencyHistogram.Snapshot getUsageSnapshot() {
+        return this.usageHistogram.getSnapshot();
+    }
+
+    public LatencyHistogram.Snapshot getCreationSnapshot() {
+        return this.creationHistogram.getSnapshot();
+    }
+}
@@ -0,0 +1,164 @@
+package com.de4bi.members.manager;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.de4bi.common.annotation.RequireManagerJwt;
+import com.de4bi.common.annotation.RequireMemberJwt;
+import com.de4bi.common.data.ApiResult;
+import com.de4bi.members.manager.InvocationMetricsManager.Layer;
+import com.de4bi.members.manager.InvocationMetricsManager.MethodMetrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.servlet.ModelAndView;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>컨트롤러 메서드별로 ControllerAop가 사용하는 정보(인증 요구사항, 컨트롤러 종류, 지표 기록 대상, 로그 이름)를 보관합니다.</p>
+ * 모든 싱글톤 빈이 생성된 후 {@code com.de4bi.members.controller} 패키지의 컨트롤러를 한 번 검사하여 변경 불가능한 Map으로 만들어두므로,
+ * 요청마다 어노테이션/반환타입을 리플렉션으로 조회하거나 문자열을 만들지 않습니다.
+ * <ul><li>시작 시 검사되지 않은 메서드(지연 생성된 컨트롤러 등)는 처음 호출될 때 만들어 따로 보관합니다.</li></ul>
+ */
+@Component
+public class EndpointDescriptorManager implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(EndpointDescriptorManager.class);
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 컨트롤러 메서드 호출 시 요구하는 인증입니다.
+     */
+    public enum AuthRequirement {
+        NONE,       // 인증 없음
+        MEMBER,     // 회원 JWT ({@link RequireMemberJwt})
+        MANAGER     // 관리자 JWT ({@link RequireManagerJwt})
+    }
+
+    /**
+     * 컨트롤러 종류입니다.
+     */
+    public enum ControllerKind {
+        API,        // ApiResult를 반환하는 API 컨트롤러
+        RAW,        // ApiResult 형식을 따르지 않는 API 컨트롤러 (ex: JWKS)
+        PAGE        // ModelAndView를 반환하는 페이지 컨트롤러
+    }
+
+    /**
+     * 컨트롤러 메서드 정보입니다. 생성 후 변경되지 않습니다.
+     */
+    @AllArgsConstructor
+    @Getter
+    public static class EndpointDescriptor {
+
+        private final Method method;                    // 컨트롤러 메서드
+        private final AuthRequirement authRequirement;  // 요구하는 인증
+        private final ControllerKind kind;              // 컨트롤러 종류
+        private final String logName;                   // 로그에 사용할 이름 (클래스명.메서드명)
+        private final MethodMetrics metrics;            // 지표 기록 대상
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private static final String CONTROLLER_PACKAGE_PREFIX = "com.de4bi.members.controller."; // 검사할 컨트롤러 패키지
+
+    private final ApplicationContext appContext;
+    private final InvocationMetricsManager invocationMetricsMgr;
+
+    private volatile Map<Method, EndpointDescriptor> descriptorMap = Collections.emptyMap(); // 시작 시 만든 정보 (변경 불가)
+    private final ConcurrentMap<Method, EndpointDescriptor> lateDescriptorMap = new ConcurrentHashMap<>(); // 시작 후 만든 정보
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    public EndpointDescriptorManager(ApplicationContext appContext, InvocationMetricsManager invocationMetricsMgr) {
+        this.appContext = appContext;
+        this.invocationMetricsMgr = invocationMetricsMgr;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        final Map<Method, EndpointDescriptor> newMap = new HashMap<>();
+        for (Object controller : this.appContext.getBeansWithAnnotation(Controller.class).values()) {
+            final Class<?> ctrClass = AopUtils.getTargetClass(controller);
+            if (ctrClass.getName().startsWith(CONTROLLER_PACKAGE_PREFIX) == false) {
+                continue;
+            }
+
+            for (Method method : ctrClass.getDeclaredMethods()) {
+                if (Modifier.isPublic(method.getModifiers()) && Modifier.isStatic(method.getModifiers()) == false && method.isSynthetic() == false) {
+                    newMap.put(method, describe(method));
+                }
+            }
+        }
+
+        this.descriptorMap = Collections.unmodifiableMap(newMap);
+        logger.info("Endpoint descriptors built. (count: {})", newMap.size());
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @param method : 컨트롤러 메서드
+     * @return 컨트롤러 메서드 정보 (시작 시 검사되지 않았다면 만들어서 반환)
+     */
+    public EndpointDescriptor getDescriptor(Method method) {
+        final EndpointDescriptor rtDescriptor = this.descriptorMap.get(method);
+        if (rtDescriptor != null) {
+            return rtDescriptor;
+        }
+        return this.lateDescriptorMap.computeIfAbsent(method, this::describe);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    private EndpointDescriptor describe(Method method) {
+        final AuthRequirement authRequirement;
+        if (method.getAnnotation(RequireManagerJwt.class) != null) {
+            authRequirement = AuthRequirement.MANAGER;
+        }
+        else if (method.getAnnotation(RequireMemberJwt.class) != null) {
+            authRequirement = AuthRequirement.MEMBER;
+        }
+        else {
+            authRequirement = AuthRequirement.NONE;
+        }
+
+        final Class<?> returnType = method.getReturnType();
+        final ControllerKind kind;
+        if (returnType == ModelAndView.class) {
+            kind = ControllerKind.PAGE;
+        }
+        else if (ApiResult.class.isAssignableFrom(returnType)) {
+            kind = ControllerKind.API;
+        }
+        else {
+            kind = ControllerKind.RAW;
+        }
+
+        final MethodMetrics metrics = this.invocationMetricsMgr.getMethodMetrics(Layer.CONTROLLER, method);
+        return new EndpointDescriptor(method, authRequirement, kind, metrics.getSignature(), metrics);
+    }
+}
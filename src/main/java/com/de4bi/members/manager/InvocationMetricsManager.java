@@ -0,0 +1,156 @@
+package com.de4bi.members.manager;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.de4bi.common.data.LatencyHistogram;
+
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>Controller/Service/Mapper 메서드 호출의 소요시간 분포를 (메서드, 결과코드)별로 기록합니다.</p>
+ * 각 AOP가 호출마다 {@code record()}를 호출하며, 기록은 {@link LatencyHistogram}에 lock-free로 수행됩니다.
+ * <ul><li>결과코드는 Controller/Service는 ApiResult의 응답코드(없다면 HTTP 상태 또는 예외 이름), Mapper는 OK 또는 예외 이름입니다.</li>
+ * <li>처리량(throughput)은 서버 시작 후의 평균값이며, 구간 처리량은 수집기에서 {@code count}의 변화량으로 계산합니다.</li></ul>
+ */
+@Component
+public class InvocationMetricsManager {
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 호출 계층입니다.
+     */
+    public enum Layer {
+        CONTROLLER, SERVICE, MAPPER
+    }
+
+    /**
+     * 한 메서드의 결과코드별 히스토그램입니다. 메서드별 기록 대상을 미리 찾아둘 때 사용합니다.
+     */
+    public static class MethodMetrics {
+
+        private final String signature; // 클래스명.메서드명
+        private final ConcurrentMap<String, LatencyHistogram> codeMap = new ConcurrentHashMap<>(4);
+
+        private MethodMetrics(Method method) {
+            this.signature = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        }
+
+        /**
+         * @return 클래스명.메서드명
+         */
+        public String getSignature() {
+            return this.signature;
+        }
+
+        /**
+         * <p>호출의 소요시간을 기록합니다.</p>
+         * @param code : 결과코드 (null 허용)
+         * @param elapsedNanos : 소요시간(ns)
+         */
+        public void record(String code, long elapsedNanos) {
+            final String codeKey = (code == null ? CODE_NONE : code);
+            LatencyHistogram histogram = this.codeMap.get(codeKey);
+            if (histogram == null) {
+                histogram = this.codeMap.computeIfAbsent(codeKey, k -> new LatencyHistogram());
+            }
+            histogram.record(elapsedNanos);
+        }
+    }
+
+    /**
+     * (메서드, 결과코드)별 소요시간 분포입니다.
+     */
+    @AllArgsConstructor
+    @Getter
+    public static class Stat {
+
+        private final String signature;             // 클래스명.메서드명
+        private final String code;                  // 결과코드
+        private final LatencyHistogram.Snapshot latency; // 소요시간 분포
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    public static final String CODE_OK = "OK";      // 결과코드가 없는 정상 호출의 결과코드
+    private static final String CODE_NONE = "-";    // 결과코드가 null인 경우의 결과코드
+
+    private final long bgnNanos = System.nanoTime();
+
+    // [Note] 호출마다 키 문자열을 만들지 않도록 Method -> 결과코드 -> 히스토그램의 2단계로 보관한다
+    private final Map<Layer, ConcurrentMap<Method, MethodMetrics>> layerMap = new EnumMap<>(Layer.class);
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    public InvocationMetricsManager() {
+        for (Layer layer : Layer.values()) {
+            this.layerMap.put(layer, new ConcurrentHashMap<>());
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>메서드 호출의 소요시간을 기록합니다.</p>
+     * @param layer : 호출 계층
+     * @param method : 호출된 메서드
+     * @param code : 결과코드 (null 허용)
+     * @param elapsedNanos : 소요시간(ns)
+     */
+    public void record(Layer layer, Method method, String code, long elapsedNanos) {
+        getMethodMetrics(layer, method).record(code, elapsedNanos);
+    }
+
+    /**
+     * @param layer : 호출 계층
+     * @param method : 메서드
+     * @return 메서드의 결과코드별 히스토그램 (없다면 생성)
+     */
+    public MethodMetrics getMethodMetrics(Layer layer, Method method) {
+        final ConcurrentMap<Method, MethodMetrics> methodMap = this.layerMap.get(layer);
+        final MethodMetrics rtMetrics = methodMap.get(method);
+        return (rtMetrics != null ? rtMetrics : methodMap.computeIfAbsent(method, MethodMetrics::new));
+    }
+
+    /**
+     * @param layer : 호출 계층
+     * @return (메서드, 결과코드)별 소요시간 분포 목록 (시그니처, 결과코드 순 정렬)
+     */
+    public List<Stat> getStats(Layer layer) {
+        final List<Stat> rtList = new ArrayList<>();
+        for (MethodMetrics methodMetrics : this.layerMap.get(layer).values()) {
+            for (Map.Entry<String, LatencyHistogram> codeEntry : methodMetrics.codeMap.entrySet()) {
+                rtList.add(new Stat(methodMetrics.signature, codeEntry.getKey(), codeEntry.getValue().getSnapshot()));
+            }
+        }
+
+        rtList.sort(Comparator.comparing(Stat::getSignature).thenComparing(Stat::getCode));
+        return rtList;
+    }
+
+    /**
+     * @return 기록 시작 후 경과시간(ms)
+     */
+    public long getUptimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.bgnNanos);
+    }
+}
@@ -0,0 +1,252 @@
+package com.de4bi.members.manager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import com.de4bi.common.data.LatencyHistogram;
+import com.de4bi.members.data.dao.MembersDao;
+import com.de4bi.members.db.mapper.MembersMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>회원의 마지막 로그인 일자(last_login_date)를 모아서 주기적으로 DB에 반영합니다. (write-behind)</p>
+ * 로그인 시 DB 수정을 기다리지 않고, 회원(seq)별로 가장 최근의 로그인 시간만 메모리에 보관합니다.
+ * 보관된 값은 반영 주기({@code member.last-login.write-behind.flush-interval-ms})마다 한 번의 UPDATE(최대
+ * {@code batch-size}명)로 반영되므로, 같은 회원이 반복해서 로그인해도 주기당 한 번만 수정됩니다.
+ * <ul><li>보관 가능한 회원 수({@code max-pending})를 초과한 경우 {@code offer()}가 false를 반환하며, 호출부에서 직접 수정합니다.</li>
+ * <li>반영에 실패한 값은 다음 주기에 다시 시도합니다.</li>
+ * <li>반영된 값은 회원 캐시의 마지막 로그인 일자만 수정하며, 캐시 항목을 제거하지 않습니다.</li>
+ * <li>서버 종료 시 남은 값을 모두 반영합니다. 비정상 종료 시에는 최대 한 주기의 로그인 일자가 유실될 수 있습니다.</li></ul>
+ */
+@Component
+@PropertySource("classpath:config.properties")
+public class LastLoginWriteBehindManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginWriteBehindManager.class);
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private static final String ENVKEY_WRITE_BEHIND_ENABLED =
+        "member.last-login.write-behind.enabled"; // write-behind 사용여부
+    private static final String ENVKEY_WRITE_BEHIND_FLUSH_INTERVAL_MS =
+        "member.last-login.write-behind.flush-interval-ms"; // 반영 주기(ms)
+    private static final String ENVKEY_WRITE_BEHIND_MAX_PENDING =
+        "member.last-login.write-behind.max-pending"; // 보관 가능한 최대 회원 수
+    private static final String ENVKEY_WRITE_BEHIND_BATCH_SIZE =
+        "member.last-login.write-behind.batch-size"; // UPDATE 한 번에 반영할 최대 회원 수
+
+    private final MembersMapper membersMapper;
+    private final MembersCacheManager membersCacheMgr;
+
+    private final boolean isEnabled;
+    private final long flushIntervalMs;
+    private final int maxPending;
+    private final int batchSize;
+
+    private final ConcurrentMap<Long, Long> pendingMap = new ConcurrentHashMap<>(); // seq -> 로그인 시간(ms)
+    private ScheduledExecutorService scheduler;
+    private volatile boolean isShutdown = false;
+
+    private final LongAdder offerCnt = new LongAdder();         // 보관 요청 수
+    private final LongAdder rejectCnt = new LongAdder();        // 보관 거부 수 (용량 초과)
+    private final LongAdder flushedRowCnt = new LongAdder();    // 반영된 회원 수
+    private final LongAdder flushFailCnt = new LongAdder();     // 반영 실패 수
+    private final LatencyHistogram flushHistogram = new LatencyHistogram(); // 반영 소요시간 분포
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    public LastLoginWriteBehindManager(MembersMapper membersMapper, MembersCacheManager membersCacheMgr, Environment env) {
+        this.membersMapper = membersMapper;
+        this.membersCacheMgr = membersCacheMgr;
+        this.isEnabled = Boolean.parseBoolean(env.getProperty(ENVKEY_WRITE_BEHIND_ENABLED, "true"));
+        this.flushIntervalMs = Math.max(10L, Long.parseLong(env.getProperty(ENVKEY_WRITE_BEHIND_FLUSH_INTERVAL_MS, "1000")));
+        this.maxPending = Integer.parseInt(env.getProperty(ENVKEY_WRITE_BEHIND_MAX_PENDING, "100000"));
+        this.batchSize = Math.max(1, Integer.parseInt(env.getProperty(ENVKEY_WRITE_BEHIND_BATCH_SIZE, "500")));
+    }
+
+    @PostConstruct
+    public void init() {
+        if (this.isEnabled == false) {
+            return;
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "last-login-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flushSafely, this.flushIntervalMs, this.flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        this.isShutdown = true;
+        if (this.scheduler == null) {
+            return;
+        }
+
+        this.scheduler.shutdown();
+        try {
+            this.scheduler.awaitTermination(this.flushIntervalMs * 2L, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 남은 값 반영
+        flushSafely();
+        logger.info("Last login write-behind drained. (remain: {} / flushedRows: {})", this.pendingMap.size(), getFlushedRowCount());
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>회원의 로그인 시간을 보관합니다. 이미 보관중인 값보다 최근인 경우에만 갱신합니다.</p>
+     * @param seq : 회원 시퀀스
+     * @param loginTimeMs : 로그인 시간(ms)
+     * @return true: 보관 성공 (다음 주기에 반영)<li>false: 사용하지 않거나 용량을 초과하여 보관하지 않음. 호출부에서 직접 수정해야 합니다.</li>
+     */
+    public boolean offer(long seq, long loginTimeMs) {
+        if (this.isEnabled == false || this.isShutdown || seq <= 0L) {
+            return false;
+        }
+
+        this.offerCnt.increment();
+        if (this.pendingMap.size() >= this.maxPending && this.pendingMap.containsKey(seq) == false) {
+            this.rejectCnt.increment();
+            return false;
+        }
+
+        this.pendingMap.merge(seq, loginTimeMs, Math::max);
+        return true;
+    }
+
+    /**
+     * <p>보관중인 로그인 시간을 DB에 반영합니다. 반영 주기마다 자동으로 호출됩니다.</p>
+     * @return 반영된 회원 수
+     */
+    public synchronized int flush() {
+        if (this.pendingMap.isEmpty()) {
+            return 0;
+        }
+
+        final long bgnNanos = System.nanoTime();
+        final List<MembersDao> batch = new ArrayList<>(Math.min(this.batchSize, this.pendingMap.size()));
+        int rtFlushed = 0;
+
+        final Iterator<Map.Entry<Long, Long>> iter = this.pendingMap.entrySet().iterator();
+        while (iter.hasNext()) {
+            final Map.Entry<Long, Long> entry = iter.next();
+            final long seq = entry.getKey();
+            final long loginTimeMs = entry.getValue();
+            // [Note] 꺼내는 사이 더 최근 값으로 갱신되었다면 제거하지 않고 다음 주기에 반영한다
+            if (this.pendingMap.remove(seq, loginTimeMs) == false) {
+                continue;
+            }
+
+            batch.add(MembersDao.builder().seq(seq).lastLoginDate(new Date(loginTimeMs)).build());
+            if (batch.size() >= this.batchSize) {
+                rtFlushed += flushBatch(batch);
+                batch.clear();
+            }
+        }
+
+        if (batch.isEmpty() == false) {
+            rtFlushed += flushBatch(batch);
+        }
+
+        this.flushHistogram.record(System.nanoTime() - bgnNanos);
+        return rtFlushed;
+    }
+
+    /**
+     * @return 반영 대기중인 회원 수
+     */
+    public int getPendingCount() {
+        return this.pendingMap.size();
+    }
+
+    public long getOfferCount() {
+        return this.offerCnt.sum();
+    }
+
+    public long getRejectCount() {
+        return this.rejectCnt.sum();
+    }
+
+    public long getFlushedRowCount() {
+        return this.flushedRowCnt.sum();
+    }
+
+    public long getFlushFailCount() {
+        return this.flushFailCnt.sum();
+    }
+
+    /**
+     * @return 반영({@code flush()} 한 번) 소요시간 분포
+     */
+    public LatencyHistogram.Snapshot getFlushSnapshot() {
+        return this.flushHistogram.getSnapshot();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    private void flushSafely() {
+        try {
+            flush();
+        }
+        catch (Throwable t) {
+            logger.error("Fail to flush last login dates! (pending: " + this.pendingMap.size() + ")", t);
+        }
+    }
+
+    /**
+     * <p>회원 목록의 로그인 일자를 한 번의 UPDATE로 반영합니다. 실패한 경우 다시 보관합니다.</p>
+     * @param batch : 반영할 회원 목록 (seq, lastLoginDate)
+     * @return 반영된 회원 수
+     */
+    private int flushBatch(List<MembersDao> batch) {
+        try {
+            membersMapper.updateLastLoginDates(batch);
+        }
+        catch (RuntimeException e) {
+            this.flushFailCnt.increment();
+            for (MembersDao membersDao : batch) {
+                this.pendingMap.merge(membersDao.getSeq(), membersDao.getLastLoginDate().getTime(), Math::max);
+            }
+            throw e;
+        }
+
+        for (MembersDao membersDao : batch) {
+            membersCacheMgr.updateLastLoginDate(membersDao.getSeq(), membersDao.getLastLoginDate());
+        }
+
+        this.flushedRowCnt.add(batch.size());
+        return batch.size();
+    }
+}
@@ -0,0 +1,237 @@
+package com.de4bi.members.manager;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+
+/**
+ * <p>검증이 완료된 MemberJwt를 보관하는 캐시입니다.</p>
+ * 같은 토큰이 반복해서 전달되는 경우 서명검증(HMAC)과 JSON파싱, 사용처(aud) 비교를 생략할 수 있습니다.
+ * <ul><li>키: 토큰의 서명부(JWS signature)이며, 조회 시 토큰 전체가 일치하는지 다시 확인합니다.</li>
+ * <li>만료: 각 항목은 토큰의 만료시간(exp)이 지나면 조회되지 않고 제거됩니다.</li>
+ * <li>용량: 세그먼트별 LRU로 최대 보관개수를 제한합니다.</li></ul>
+ */
+@Component
+@PropertySource("classpath:config.properties")
+public class MemberJwtCacheManager {
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 검증된 토큰 캐시 항목입니다.
+     */
+    public static class CachedJwt {
+
+        private static final int MAX_AUD_VERDICT_CNT = 8; // 항목당 보관할 최대 사용처 판정 개수
+
+        private final String memberJwt;                         // 원본 토큰
+        private final Jws<Claims> jws;                          // 검증된 Claims
+        private final long expTimeMs;                           // 토큰 만료시간(ms)
+        private final Map<String, Boolean> audVerdictMap;       // 요청 사용처별 판정 결과
+
+        private CachedJwt(String memberJwt, Jws<Claims> jws, long expTimeMs) {
+            this.memberJwt = memberJwt;
+            this.jws = jws;
+            this.expTimeMs = expTimeMs;
+            this.audVerdictMap = new ConcurrentHashMap<>(4);
+        }
+
+        public Jws<Claims> getJws() {
+            return this.jws;
+        }
+
+        /**
+         * @param audience : 요청 사용처
+         * @return 이전에 판정한 결과, 판정한 적이 없다면 null.
+         */
+        public Boolean getAudienceVerdict(String audience) {
+            return this.audVerdictMap.get(audience);
+        }
+
+        /**
+         * @param audience : 요청 사용처
+         * @param verdict : 사용처 판정 결과
+         */
+        public void putAudienceVerdict(String audience, boolean verdict) {
+            if (this.audVerdictMap.size() < MAX_AUD_VERDICT_CNT) {
+                this.audVerdictMap.put(audience, verdict);
+            }
+        }
+    }
+
+    /**
+     * 접근순서(access-order) LRU 세그먼트입니다. 동기화는 호출부에서 수행합니다.
+     */
+    private static class Segment extends LinkedHashMap<String, CachedJwt> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedJwt> eldest) {
+            return size() > this.maxSize;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private static final String ENVKEY_CACHE_ENABLED    = "member.jwt.cache.enabled";   // 캐시 사용여부
+    private static final String ENVKEY_CACHE_MAX_SIZE   = "member.jwt.cache.max-size";  // 최대 보관개수
+
+    private static final int SEGMENT_CNT = 16; // 락 경합을 줄이기 위한 세그먼트 수 (2의 거듭제곱)
+
+    private final boolean isEnabled;
+    private final Segment[] segments;
+    private final LongAdder hitCnt = new LongAdder();
+    private final LongAdder missCnt = new LongAdder();
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    public MemberJwtCacheManager(Environment env) {
+        this.isEnabled = Boolean.parseBoolean(env.getProperty(ENVKEY_CACHE_ENABLED, "true"));
+        final int maxSize = Integer.parseInt(env.getProperty(ENVKEY_CACHE_MAX_SIZE, "100000"));
+        final int segMaxSize = Math.max(1, maxSize / SEGMENT_CNT);
+
+        this.segments = new Segment[SEGMENT_CNT];
+        for (int i = 0; i < SEGMENT_CNT; ++i) {
+            this.segments[i] = new Segment(segMaxSize);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>검증된 토큰을 캐시에서 조회합니다.</p>
+     * @param memberJwt : 조회할 토큰 (not null)
+     * @return 캐시된 항목, 없거나 만료된 경우 null.
+     */
+    public CachedJwt get(String memberJwt) {
+        Objects.requireNonNull(memberJwt, "'memberJwt' is null!");
+        if (this.isEnabled == false) {
+            return null;
+        }
+
+        final String cacheKey = makeCacheKey(memberJwt);
+        final Segment segment = segmentOf(cacheKey);
+        CachedJwt rtCached = null;
+
+        synchronized (segment) {
+            rtCached = segment.get(cacheKey);
+            if (rtCached != null && System.currentTimeMillis() > rtCached.expTimeMs) {
+                segment.remove(cacheKey); // 토큰 만료시간 도달
+                rtCached = null;
+            }
+        }
+
+        if (rtCached == null || rtCached.memberJwt.equals(memberJwt) == false) {
+            this.missCnt.increment();
+            return null;
+        }
+
+        this.hitCnt.increment();
+        return rtCached;
+    }
+
+    /**
+     * <p>검증된 토큰을 캐시에 추가합니다.</p>
+     * @param memberJwt : 검증된 토큰 (not null)
+     * @param jws : 검증 결과 (not null)
+     * @return 추가된 항목, 만료시간(exp)이 없어 캐시하지 않은 경우에도 항목을 생성하여 반환합니다.
+     */
+    public CachedJwt put(String memberJwt, Jws<Claims> jws) {
+        Objects.requireNonNull(memberJwt, "'memberJwt' is null!");
+        Objects.requireNonNull(jws, "'jws' is null!");
+
+        final Date exp = jws.getBody().getExpiration();
+        final CachedJwt rtCached = new CachedJwt(memberJwt, jws, (exp == null ? Long.MAX_VALUE : exp.getTime()));
+        if (this.isEnabled == false || exp == null) {
+            return rtCached;
+        }
+
+        final String cacheKey = makeCacheKey(memberJwt);
+        final Segment segment = segmentOf(cacheKey);
+        synchronized (segment) {
+            segment.put(cacheKey, rtCached);
+        }
+
+        return rtCached;
+    }
+
+    /**
+     * <p>토큰을 캐시에서 제거합니다.</p>
+     * @param memberJwt : 제거할 토큰 (not null)
+     */
+    public void remove(String memberJwt) {
+        Objects.requireNonNull(memberJwt, "'memberJwt' is null!");
+        final String cacheKey = makeCacheKey(memberJwt);
+        final Segment segment = segmentOf(cacheKey);
+        synchronized (segment) {
+            segment.remove(cacheKey);
+        }
+    }
+
+    /**
+     * @return 캐시에 보관중인 항목 수 (만료되었지만 아직 제거되지 않은 항목 포함)
+     */
+    public int getSize() {
+        int rtSize = 0;
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                rtSize += segment.size();
+            }
+        }
+        return rtSize;
+    }
+
+    public long getHitCount() {
+        return this.hitCnt.sum();
+    }
+
+    public long getMissCount() {
+        return this.missCnt.sum();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>토큰의 서명부를 캐시 키로 사용합니다.</p>
+     * 서명부는 {@code {header}.{claims}}의 다이제스트이므로 별도의 해싱 없이 키로 사용할 수 있습니다.
+     * @param memberJwt : 토큰
+     * @return 캐시 키
+     */
+    private static String makeCacheKey(String memberJwt) {
+        final int lastDot = memberJwt.lastIndexOf('.');
+        return (lastDot < 0 ? memberJwt : memberJwt.substring(lastDot + 1));
+    }
+
+    private Segment segmentOf(String cacheKey) {
+        final int hash = cacheKey.hashCode();
+        return this.segments[(hash ^ (hash >>> 16)) & (SEGMENT_CNT - 1)];
+    }
+}
@@ -0,0 +1,64 @@
+package com.de4bi.members.manager;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.de4bi.common.util.MemberJwtKeyring;
+import com.de4bi.members.spring.SecureProperties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>MemberJwt 발급/검증에 사용할 keyring을 보관합니다.</p>
+ * {@code custom.secure.keys.member-jwt-keyring}이 설정되지 않은 경우 기존 단일 secret({@code member-jwt-secret})만 사용합니다.
+ * 설정된 경우에도 기존 secret은 kid가 없는 토큰(keyring 도입 이전 발급)을 검증하기 위해 유지됩니다.
+ * <ul><li>키 교체 절차: 다음 키를 미래의 활성화 시간과 함께 keyring에 추가하여 모든 서버에 배포합니다.
+ * 활성화 시간이 되면 재시작 없이 모든 서버가 새 키로 발급을 시작합니다.</li>
+ * <li>이전 키는 최대 토큰 유효기간({@code member.jwt.expired-hour-keeploggedin})이 지난 후 keyring에서 제거합니다.</li>
+ * <li>ES256 키를 사용하는 경우, 새 키는 활성화 시간보다 JWKS 캐시시간({@code member.jwt.jwks.max-age-sec}) 이상 먼저 배포합니다.</li></ul>
+ */
+@Component
+@PropertySource("classpath:config.properties")
+public class MemberJwtKeyringManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberJwtKeyringManager.class);
+
+    private static final String ENVKEY_JWKS_MAX_AGE_SEC = "member.jwt.jwks.max-age-sec"; // JWKS 응답 캐시시간(초)
+
+    private final MemberJwtKeyring keyring;
+    private final Map<String, Object> publicJwks;   // keyring은 불변이므로 한 번만 생성
+    private final long jwksMaxAgeSec;
+
+    public MemberJwtKeyringManager(SecureProperties secureProps, Environment env) {
+        this.keyring = MemberJwtKeyring.of(secureProps.getMemberJwtSecret(), secureProps.getMemberJwtKeyring());
+        this.publicJwks = Collections.unmodifiableMap(this.keyring.getPublicJwks());
+        this.jwksMaxAgeSec = Long.parseLong(env.getProperty(ENVKEY_JWKS_MAX_AGE_SEC, "3600"));
+        logger.info("MemberJwt keyring loaded. (activeKid: {} / nextActivateTime: {})",
+            this.keyring.getActiveKid(), this.keyring.getNextActivateTimeSec());
+    }
+
+    /**
+     * @return MemberJwt 발급/검증에 사용할 keyring
+     */
+    public MemberJwtKeyring getKeyring() {
+        return this.keyring;
+    }
+
+    /**
+     * @return 다른 서비스가 MemberJwt를 직접 검증하기 위한 공개키 목록 (JWKS)
+     */
+    public Map<String, Object> getPublicJwks() {
+        return this.publicJwks;
+    }
+
+    /**
+     * @return JWKS 응답의 캐시시간(초)
+     */
+    public long getJwksMaxAgeSec() {
+        return this.jwksMaxAgeSec;
+    }
+}
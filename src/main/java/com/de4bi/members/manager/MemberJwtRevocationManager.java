@@ -0,0 +1,197 @@
+package com.de4bi.members.manager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>폐기(로그아웃)된 MemberJwt의 목록을 관리합니다. 토큰은 jti(JWT 식별자)로 구분합니다.</p>
+ * 조회는 블룸필터를 먼저 확인하고, 필터에 존재할 수 있는 경우에만 정확한 목록(jti -> 만료시간)을 확인합니다.
+ * 대부분인 폐기되지 않은 토큰은 블룸필터의 비트 몇 개만 확인하므로 I/O나 락 없이 수 ns 내에 판정됩니다.
+ * <ul><li>폐기된 토큰은 토큰의 만료시간(exp)이 지나면 목록에서 제거됩니다. (이미 만료된 토큰은 검증단계에서 거부됨)</li>
+ * <li>블룸필터는 항목을 제거할 수 없으므로, 만료 항목 정리 시 남은 항목으로 새 필터를 만들어 교체합니다.</li>
+ * <li>목록은 서버 로컬에만 존재합니다.</li></ul>
+ */
+@Component
+@PropertySource("classpath:config.properties")
+public class MemberJwtRevocationManager {
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 고정크기 블룸필터입니다. 비트 설정/조회는 lock-free로 수행됩니다.
+     */
+    private static class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final int bitMask;      // 비트 수 - 1 (비트 수는 2의 거듭제곱)
+        private final int hashCnt;      // 항목당 해시 수
+
+        private BloomFilter(int bitCnt, int hashCnt) {
+            this.bits = new AtomicLongArray(bitCnt >>> 6);
+            this.bitMask = bitCnt - 1;
+            this.hashCnt = hashCnt;
+        }
+
+        private void put(String key) {
+            final long hash = hash64(key);
+            final int h1 = (int) hash;
+            final int h2 = (int) (hash >>> 32) | 1; // 홀수로 만들어 모든 비트를 순회하도록 함
+            for (int i = 0; i < this.hashCnt; ++i) {
+                final int bitIdx = (h1 + i * h2) & this.bitMask;
+                final int wordIdx = bitIdx >>> 6;
+                final long bitMask = 1L << bitIdx; // 하위 6비트만 사용됨
+                long word;
+                while (((word = this.bits.get(wordIdx)) & bitMask) == 0L &&
+                        this.bits.compareAndSet(wordIdx, word, word | bitMask) == false) {
+                    // CAS 재시도
+                }
+            }
+        }
+
+        private boolean mightContain(String key) {
+            final long hash = hash64(key);
+            final int h1 = (int) hash;
+            final int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < this.hashCnt; ++i) {
+                final int bitIdx = (h1 + i * h2) & this.bitMask;
+                if ((this.bits.get(bitIdx >>> 6) & (1L << bitIdx)) == 0L) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * FNV-1a(64bit) 해시입니다. 문자열 복사 없이 계산합니다.
+         */
+        private static long hash64(String key) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0, len = key.length(); i < len; ++i) {
+                hash ^= key.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash ^ (hash >>> 29);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private static final String ENVKEY_REVOCATION_BLOOM_BITS =
+        "member.jwt.revocation.bloom-bits"; // 블룸필터 비트 수 (2의 거듭제곱으로 올림)
+    private static final String ENVKEY_REVOCATION_BLOOM_HASHES =
+        "member.jwt.revocation.bloom-hashes"; // 블룸필터 항목당 해시 수
+    private static final String ENVKEY_REVOCATION_PURGE_INTERVAL_SEC =
+        "member.jwt.revocation.purge-interval-sec"; // 만료 항목 정리 주기(초)
+
+    private final int bloomBitCnt;
+    private final int bloomHashCnt;
+    private final long purgeIntervalMs;
+
+    private final ConcurrentMap<String, Long> revokedMap = new ConcurrentHashMap<>(); // jti -> 토큰 만료시간(ms)
+    private final AtomicLong nextPurgeTimeMs;
+    private volatile BloomFilter bloomFilter;
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    public MemberJwtRevocationManager(Environment env) {
+        final int bitCnt = Integer.parseInt(env.getProperty(ENVKEY_REVOCATION_BLOOM_BITS, "1048576"));
+        this.bloomBitCnt = Math.max(64, Integer.highestOneBit(Math.max(1, bitCnt - 1)) << 1);
+        this.bloomHashCnt = Math.max(1, Integer.parseInt(env.getProperty(ENVKEY_REVOCATION_BLOOM_HASHES, "4")));
+        this.purgeIntervalMs = Long.parseLong(env.getProperty(ENVKEY_REVOCATION_PURGE_INTERVAL_SEC, "60")) * 1000L;
+        this.nextPurgeTimeMs = new AtomicLong(System.currentTimeMillis() + this.purgeIntervalMs);
+        this.bloomFilter = new BloomFilter(this.bloomBitCnt, this.bloomHashCnt);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>토큰을 폐기합니다. 토큰의 만료시간까지 {@code isRevoked()}가 true를 반환합니다.</p>
+     * @param jti : 폐기할 토큰의 식별자 (not null)
+     * @param expTimeMs : 토큰 만료시간(ms)
+     */
+    public void revoke(String jti, long expTimeMs) {
+        Objects.requireNonNull(jti, "'jti' is null!");
+        final long curTimeMs = System.currentTimeMillis();
+        if (expTimeMs <= curTimeMs) {
+            return; // 이미 만료된 토큰
+        }
+
+        // [Note] 정확한 목록에 먼저 기록한 후 필터에 기록해야 필터 교체 중에도 항목이 누락되지 않는다
+        this.revokedMap.put(jti, expTimeMs);
+        this.bloomFilter.put(jti);
+        purgeIfNeeded(curTimeMs);
+    }
+
+    /**
+     * <p>토큰의 폐기여부를 확인합니다.</p>
+     * @param jti : 확인할 토큰의 식별자 (nullable)
+     * @return true: 폐기된 토큰<li>false: 폐기되지 않은 토큰</li>
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || this.bloomFilter.mightContain(jti) == false) {
+            return false;
+        }
+
+        final Long expTimeMs = this.revokedMap.get(jti);
+        return (expTimeMs != null && System.currentTimeMillis() < expTimeMs);
+    }
+
+    /**
+     * @return 폐기 목록의 항목 수 (만료되었지만 아직 정리되지 않은 항목 포함)
+     */
+    public int getSize() {
+        return this.revokedMap.size();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>정리 주기가 지났다면 만료된 항목을 제거하고 남은 항목으로 블룸필터를 다시 생성합니다.</p>
+     * 정리는 한 스레드만 수행하며, 정리 중에도 조회는 이전 필터로 계속 수행됩니다.
+     * @param curTimeMs : 현재 시간(ms)
+     */
+    private void purgeIfNeeded(long curTimeMs) {
+        final long nextPurgeTimeMs = this.nextPurgeTimeMs.get();
+        if (curTimeMs < nextPurgeTimeMs ||
+            this.nextPurgeTimeMs.compareAndSet(nextPurgeTimeMs, curTimeMs + this.purgeIntervalMs) == false) {
+            return;
+        }
+
+        final BloomFilter newFilter = new BloomFilter(this.bloomBitCnt, this.bloomHashCnt);
+        final Iterator<Map.Entry<String, Long>> iter = this.revokedMap.entrySet().iterator();
+        while (iter.hasNext()) {
+            final Map.Entry<String, Long> entry = iter.next();
+            if (entry.getValue() <= curTimeMs) {
+                iter.remove();
+            }
+            else {
+                newFilter.put(entry.getKey());
+            }
+        }
+
+        // [Note] 교체 직전에 이전 필터에만 기록된 항목이 누락되지 않도록 교체 후 목록을 한 번 더 반영한다
+        this.bloomFilter = newFilter;
+        for (String jti : this.revokedMap.keySet()) {
+            newFilter.put(jti);
+        }
+    }
+}
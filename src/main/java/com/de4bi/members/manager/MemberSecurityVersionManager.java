@@ -0,0 +1,121 @@
+package com.de4bi.members.manager;
+
+import java.util.Objects;
+
+import com.de4bi.common.data.StripedLruMap;
+
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>회원별 보안버전(상태/권한/탈퇴여부로부터 계산된 값)을 서버 로컬에서 추적합니다.</p>
+ * MemberJwt에 포함된 보안버전이 DB에서 마지막으로 확인한 보안버전과 같고, 재확인 주기가 지나지 않았다면
+ * DB조회 없이 토큰에 포함된 상태/권한을 신뢰할 수 있습니다.
+ * <ul><li>이 서버에서 회원정보를 변경한 경우 {@code touch()}로 즉시 재확인하도록 합니다.</li>
+ * <li>보안버전은 DB에 저장하지 않고 서버마다 따로 추적합니다. 따라서 다른 서버나 DB에서 직접 수행한
+ * 정지/탈퇴/휴면/권한 변경은 이 서버에 알려지지 않으며, 재확인 주기({@code member.jwt.member-claims.recheck-sec}, 기본 30초)가
+ * 지날 때까지 변경 전의 토큰이 계속 허용될 수 있습니다. 즉시 차단이 필요하다면 토큰을 폐기하거나 주기를 줄여야 합니다.</li>
+ * <li>용량: 최대 회원 수({@code member.jwt.member-claims.max-size})를 넘으면 오래 사용하지 않은 회원부터 제거합니다.
+ * 제거된 회원은 다음 검증에서 DB를 재확인합니다.</li></ul>
+ */
+@Component
+@PropertySource("classpath:config.properties")
+public class MemberSecurityVersionManager {
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * DB에서 확인된 회원의 보안정보입니다. (immutable)
+     */
+    private static class VerifiedEntry {
+
+        private final long secVer;          // 보안버전
+        private final long status;          // 상태
+        private final long authority;       // 권한
+        private final long verifiedUntilMs; // 신뢰 가능한 시간(ms)
+
+        private VerifiedEntry(long secVer, long status, long authority, long verifiedUntilMs) {
+            this.secVer = secVer;
+            this.status = status;
+            this.authority = authority;
+            this.verifiedUntilMs = verifiedUntilMs;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private static final String ENVKEY_MEMBER_CLAIMS_ENABLED =
+        "member.jwt.member-claims.enabled"; // 토큰 내 회원 상태/권한 사용여부
+    private static final String ENVKEY_MEMBER_CLAIMS_RECHECK_SEC =
+        "member.jwt.member-claims.recheck-sec"; // DB 재확인 주기(초)
+    private static final String ENVKEY_MEMBER_CLAIMS_MAX_SIZE =
+        "member.jwt.member-claims.max-size"; // 추적할 최대 회원 수
+
+    private final boolean isEnabled;
+    private final long recheckMs;
+    private final StripedLruMap<String, VerifiedEntry> verifiedMap;
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    public MemberSecurityVersionManager(Environment env) {
+        this.isEnabled = Boolean.parseBoolean(env.getProperty(ENVKEY_MEMBER_CLAIMS_ENABLED, "false"));
+        this.recheckMs = Long.parseLong(env.getProperty(ENVKEY_MEMBER_CLAIMS_RECHECK_SEC, "30")) * 1000L;
+        this.verifiedMap = new StripedLruMap<>(Integer.parseInt(env.getProperty(ENVKEY_MEMBER_CLAIMS_MAX_SIZE, "100000")));
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return true: MemberJwt에 회원 상태/권한/보안버전을 포함하여 검증 시 사용<li>false: 사용하지 않음</li>
+     */
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    /**
+     * <p>토큰의 회원 상태/권한을 DB조회 없이 신뢰할 수 있는지 확인합니다.</p>
+     * @param id : 회원 아이디
+     * @param secVer : 토큰의 보안버전
+     * @param status : 토큰의 회원 상태
+     * @param authority : 토큰의 회원 권한
+     * @return true: 신뢰 가능<li>false: DB조회 필요</li>
+     */
+    public boolean isVerified(String id, long secVer, long status, long authority) {
+        Objects.requireNonNull(id, "'id' is null!");
+        final VerifiedEntry entry = this.verifiedMap.get(id);
+        return (entry != null &&
+                entry.secVer == secVer && entry.status == status && entry.authority == authority &&
+                System.currentTimeMillis() < entry.verifiedUntilMs);
+    }
+
+    /**
+     * <p>DB에서 확인한 회원의 보안정보를 기록합니다. 재확인 주기 동안 {@code isVerified()}가 true를 반환합니다.</p>
+     * @param id : 회원 아이디
+     * @param secVer : DB로부터 계산한 보안버전
+     * @param status : DB의 회원 상태
+     * @param authority : DB의 회원 권한
+     */
+    public void markVerified(String id, long secVer, long status, long authority) {
+        Objects.requireNonNull(id, "'id' is null!");
+        this.verifiedMap.put(id, new VerifiedEntry(secVer, status, authority, System.currentTimeMillis() + this.recheckMs));
+    }
+
+    /**
+     * <p>회원의 상태/권한/탈퇴여부가 변경되었을 수 있음을 알립니다. 다음 검증은 DB를 조회합니다.</p>
+     * @param id : 회원 아이디 (nullable)
+     */
+    public void touch(String id) {
+        if (id != null) {
+            this.verifiedMap.remove(id);
+        }
+    }
+}
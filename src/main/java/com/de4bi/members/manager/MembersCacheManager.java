@@ -0,0 +1,619 @@
+package com.de4bi.members.manager;
+
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.de4bi.common.data.StripedLruMap;
+import com.de4bi.members.data.dao.MembersDao;
+
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>DB에서 조회한 회원정보를 seq, id, nickname 세 가지 키로 함께 조회할 수 있도록 보관하는 캐시입니다.</p>
+ * 회원정보는 seq를 키로 한 번만 보관하고, id/nickname은 seq를 가리키는 보조 인덱스로 관리합니다.
+ * <ul><li>만료: 각 항목은 보관시간({@code member.cache.ttl-sec})이 지나면 조회되지 않습니다.
+ * 다른 서버나 DB에서 직접 변경한 내용은 이 시간 이내에 반영됩니다.</li>
+ * <li>용량: 세그먼트별 LRU로 최대 보관개수를 제한합니다. 부정 캐시와 부분 조회도 같은 방식으로 오래된 항목부터 제거합니다.</li>
+ * <li>부정 캐시: 존재하지 않는 회원의 조회결과도 짧은 시간({@code member.cache.negative-ttl-sec}) 보관합니다.</li>
+ * <li>부분 조회(projection): 일부 컬럼만 조회한 회원정보는 전체 회원정보와 섞이지 않도록 {@link Projection}별로 따로 보관하며,
+ * 만료/무효화 규칙은 전체 회원정보와 같습니다.</li>
+ * <li>무효화: 회원정보를 추가/수정/삭제한 경우 {@code invalidate()}를 호출합니다.
+ * 무효화 이전에 시작된 DB조회의 결과는, 그 결과의 키(seq, id, nickname)가 무효화된 경우 캐시에 저장되지 않습니다.
+ * 무효화 기록은 키의 해시로 나눈 구간별로 보관하므로, 다른 회원의 무효화는 (같은 구간이 아니라면) 저장을 막지 않습니다.</li>
+ * <li>복사: 조회/저장 시 복사본을 사용하므로 반환된 DAO를 수정해도 캐시에 영향이 없습니다.</li>
+ * <li>통계: 조회 메서드는 적중한 경우에만 집계합니다. 캐시에서 찾지 못해 DB를 조회하는 호출부에서
+ * {@code recordMiss()}를 한 번 호출하여, 논리적인 조회 한 번당 적중/미적중이 한 번만 집계되도록 합니다.</li></ul>
+ */
+@Component
+@PropertySource("classpath:config.properties")
+public class MembersCacheManager {
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 회원정보 캐시 항목입니다. (immutable)
+     */
+    private static class CachedMember {
+
+        private final MembersDao membersDao;    // 보관용 복사본 (외부로 노출하지 않음)
+        private final long expTimeMs;           // 만료시간(ms)
+
+        private CachedMember(MembersDao membersDao, long expTimeMs) {
+            this.membersDao = membersDao;
+            this.expTimeMs = expTimeMs;
+        }
+    }
+
+    /**
+     * 일부 컬럼만 조회한 회원정보의 종류입니다.
+     */
+    public enum Projection {
+        AUTH("a:"),     // 인증 확인용 (selectAuthById)
+        LOGIN("l:"),    // 로그인 확인용 (selectLoginById)
+        INFO("f:");     // 기본정보 (selectInfo)
+
+        private final String keyPrefix;
+
+        private Projection(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+    }
+
+    /**
+     * seq를 키로 하는 접근순서(access-order) LRU 세그먼트입니다. 동기화는 호출부에서 수행합니다.
+     */
+    private class Segment extends LinkedHashMap<Long, CachedMember> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private Segment(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedMember> eldest) {
+            if (size() > this.maxSize) {
+                removeIndexes(eldest.getKey(), eldest.getValue().membersDao);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private static final String ENVKEY_CACHE_ENABLED        = "member.cache.enabled";           // 캐시 사용여부
+    private static final String ENVKEY_CACHE_MAX_SIZE       = "member.cache.max-size";          // 최대 보관개수
+    private static final String ENVKEY_CACHE_TTL_SEC        = "member.cache.ttl-sec";           // 보관시간(초)
+    private static final String ENVKEY_CACHE_NEGATIVE_TTL_SEC = "member.cache.negative-ttl-sec"; // 부정 캐시 보관시간(초)
+
+    private static final int SEGMENT_CNT = 16; // 락 경합을 줄이기 위한 세그먼트 수 (2의 거듭제곱)
+    private static final int INVALIDATION_STRIPE_CNT = 256; // 무효화 기록을 나누어 보관할 구간 수 (2의 거듭제곱)
+
+    private static final String NEGATIVE_KEY_SEQ        = "s:";
+    private static final String NEGATIVE_KEY_ID         = "i:";
+    private static final String NEGATIVE_KEY_NICKNAME   = "n:";
+
+    private final boolean isEnabled;
+    private final long ttlMs;
+    private final long negativeTtlMs;
+    private final Segment[] segments;
+    private final ConcurrentMap<String, Long> idIndex = new ConcurrentHashMap<>();          // id -> seq
+    private final ConcurrentMap<String, Long> nicknameIndex = new ConcurrentHashMap<>();    // nickname -> seq
+    private final StripedLruMap<String, Long> negativeMap;              // 조회키 -> 만료시간(ms)
+    private final StripedLruMap<String, CachedMember> projectionMap;    // 종류+seq -> 부분 회원정보
+    private final StripedLruMap<String, Long> projectionIdIndex;        // id -> seq (부분 회원정보)
+    private final AtomicLong generation = new AtomicLong();                                 // 무효화 순번
+    private final AtomicLongArray invalidatedGens = new AtomicLongArray(INVALIDATION_STRIPE_CNT); // 구간별 마지막 무효화 순번
+
+    private final LongAdder hitCnt = new LongAdder();
+    private final LongAdder negativeHitCnt = new LongAdder();
+    private final LongAdder missCnt = new LongAdder();
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    public MembersCacheManager(Environment env) {
+        this.isEnabled = Boolean.parseBoolean(env.getProperty(ENVKEY_CACHE_ENABLED, "true"));
+        this.ttlMs = Long.parseLong(env.getProperty(ENVKEY_CACHE_TTL_SEC, "60")) * 1000L;
+        this.negativeTtlMs = Long.parseLong(env.getProperty(ENVKEY_CACHE_NEGATIVE_TTL_SEC, "5")) * 1000L;
+        final int maxSize = Integer.parseInt(env.getProperty(ENVKEY_CACHE_MAX_SIZE, "10000"));
+        final int segMaxSize = Math.max(1, maxSize / SEGMENT_CNT);
+        this.negativeMap = new StripedLruMap<>(Math.max(1, maxSize / 4));
+        this.projectionMap = new StripedLruMap<>(Math.max(1, maxSize));
+        this.projectionIdIndex = new StripedLruMap<>(Math.max(1, maxSize));
+
+        this.segments = new Segment[SEGMENT_CNT];
+        for (int i = 0; i < SEGMENT_CNT; ++i) {
+            this.segments[i] = new Segment(segMaxSize);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return true: 캐시 사용<li>false: 캐시 사용하지 않음</li>
+     */
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    /**
+     * <p>DB조회 전에 현재 세대(무효화 순번)를 확인합니다. 조회 결과를 저장할 때 전달합니다.</p>
+     * @return 현재 세대
+     */
+    public long getGeneration() {
+        return this.generation.get();
+    }
+
+    /**
+     * <p>seq로 회원을 조회합니다.</p>
+     * @param seq : 회원 시퀀스
+     * @return 회원정보의 복사본, 캐시에 없는 경우 null.
+     */
+    public MembersDao getBySeq(long seq) {
+        return lookup(seq, null, null);
+    }
+
+    /**
+     * <p>id로 회원을 조회합니다.</p>
+     * @param id : 회원 아이디 (not null)
+     * @return 회원정보의 복사본, 캐시에 없는 경우 null.
+     */
+    public MembersDao getById(String id) {
+        final Long seq = (this.isEnabled ? this.idIndex.get(id) : null);
+        return lookup(seq, id, null);
+    }
+
+    /**
+     * <p>nickname으로 회원을 조회합니다.</p>
+     * @param nickname : 회원 닉네임 (not null)
+     * @return 회원정보의 복사본, 캐시에 없는 경우 null.
+     */
+    public MembersDao getByNickname(String nickname) {
+        final Long seq = (this.isEnabled ? this.nicknameIndex.get(nickname) : null);
+        return lookup(seq, null, nickname);
+    }
+
+    /**
+     * <p>id로 일부 컬럼만 조회한 회원정보를 조회합니다.</p>
+     * @param projection : 부분 회원정보 종류
+     * @param id : 회원 아이디 (not null)
+     * @return 회원정보의 복사본 (조회한 컬럼만 채워짐), 캐시에 없는 경우 null.
+     */
+    public MembersDao getProjectionById(Projection projection, String id) {
+        final Long seq = (this.isEnabled ? this.projectionIdIndex.get(id) : null);
+        return (seq == null ? null : lookupProjection(projection, seq, id));
+    }
+
+    /**
+     * <p>seq로 일부 컬럼만 조회한 회원정보를 조회합니다.</p>
+     * @param projection : 부분 회원정보 종류
+     * @param seq : 회원 시퀀스
+     * @return 회원정보의 복사본 (조회한 컬럼만 채워짐), 캐시에 없는 경우 null.
+     */
+    public MembersDao getProjectionBySeq(Projection projection, long seq) {
+        return lookupProjection(projection, seq, null);
+    }
+
+    /**
+     * <p>{@code getBySeq()}가 null을 반환한 경우, 존재하지 않는 회원으로 캐시되어 있는지 확인합니다.</p>
+     * @param seq : 회원 시퀀스
+     * @return true: 존재하지 않는 회원으로 캐시되어 있음<li>false: 캐시되어 있지 않음</li>
+     */
+    public boolean isNegativeBySeq(long seq) {
+        return isNegative(NEGATIVE_KEY_SEQ + seq);
+    }
+
+    /**
+     * <p>{@code getById()}가 null을 반환한 경우, 존재하지 않는 회원으로 캐시되어 있는지 확인합니다.</p>
+     * @param id : 회원 아이디 (not null)
+     * @return true: 존재하지 않는 회원으로 캐시되어 있음<li>false: 캐시되어 있지 않음</li>
+     */
+    public boolean isNegativeById(String id) {
+        return isNegative(NEGATIVE_KEY_ID + id);
+    }
+
+    /**
+     * <p>{@code getByNickname()}이 null을 반환한 경우, 존재하지 않는 회원으로 캐시되어 있는지 확인합니다.</p>
+     * @param nickname : 회원 닉네임 (not null)
+     * @return true: 존재하지 않는 회원으로 캐시되어 있음<li>false: 캐시되어 있지 않음</li>
+     */
+    public boolean isNegativeByNickname(String nickname) {
+        return isNegative(NEGATIVE_KEY_NICKNAME + nickname);
+    }
+
+    /**
+     * <p>DB에서 조회한 회원정보를 캐시에 저장합니다.</p>
+     * @param membersDao : 조회된 회원정보 (not null), 복사본이 저장됩니다.
+     * @param generation : DB조회 전에 {@code getGeneration()}으로 확인한 세대
+     */
+    public void put(MembersDao membersDao, long generation) {
+        if (this.isEnabled == false || membersDao == null || membersDao.getSeq() <= 0L) {
+            return;
+        }
+
+        final long seq = membersDao.getSeq();
+        final MembersDao copyDao = copyOf(membersDao);
+        final CachedMember cached = new CachedMember(copyDao, System.currentTimeMillis() + this.ttlMs);
+        final Segment segment = segmentOf(seq);
+        synchronized (segment) {
+            // [Note] 무효화 여부 확인과 저장을 세그먼트 락 안에서 수행해야 무효화 직후 이전 값이 저장되지 않는다
+            if (isInvalidatedSince(generation, seq, copyDao.getId(), copyDao.getNickname())) {
+                return;
+            }
+
+            final CachedMember old = segment.put(seq, cached);
+            if (old != null) {
+                removeIndexes(seq, old.membersDao);
+            }
+            if (copyDao.getId() != null) {
+                this.idIndex.put(copyDao.getId(), seq);
+            }
+            if (copyDao.getNickname() != null) {
+                this.nicknameIndex.put(copyDao.getNickname(), seq);
+            }
+        }
+    }
+
+    /**
+     * <p>DB에서 일부 컬럼만 조회한 회원정보를 캐시에 저장합니다. {@code getBySeq()} 등 전체 회원정보 조회에는 사용되지 않습니다.</p>
+     * @param projection : 부분 회원정보 종류
+     * @param membersDao : 조회된 회원정보 (seq, id는 필수), 복사본이 저장됩니다.
+     * @param generation : DB조회 전에 {@code getGeneration()}으로 확인한 세대
+     */
+    public void putProjection(Projection projection, MembersDao membersDao, long generation) {
+        if (this.isEnabled == false || membersDao == null || membersDao.getSeq() <= 0L || membersDao.getId() == null) {
+            return;
+        }
+
+        final long seq = membersDao.getSeq();
+        final String projectionKey = projection.keyPrefix + seq;
+        final CachedMember cached = new CachedMember(copyOf(membersDao), System.currentTimeMillis() + this.ttlMs);
+        this.projectionMap.put(projectionKey, cached);
+        this.projectionIdIndex.put(membersDao.getId(), seq);
+        if (isInvalidatedSince(generation, seq, membersDao.getId(), null)) {
+            // 조회 중 무효화된 경우 저장하지 않음 (무효화는 구간을 먼저 기록한 후 제거하므로 둘 중 한 쪽에서 반드시 제거됨)
+            this.projectionMap.remove(projectionKey, cached);
+        }
+    }
+
+    /**
+     * <p>존재하지 않는 회원의 조회결과를 캐시에 저장합니다.</p>
+     * @param seq : 조회한 회원 시퀀스 (0이하라면 무시)
+     * @param id : 조회한 회원 아이디 (nullable)
+     * @param nickname : 조회한 회원 닉네임 (nullable)
+     * @param generation : DB조회 전에 {@code getGeneration()}으로 확인한 세대
+     */
+    public void putNegative(long seq, String id, String nickname, long generation) {
+        if (this.isEnabled == false || this.negativeTtlMs <= 0L) {
+            return;
+        }
+
+        final String negativeKey = (seq > 0L ? NEGATIVE_KEY_SEQ + seq :
+            (id != null ? NEGATIVE_KEY_ID + id : (nickname != null ? NEGATIVE_KEY_NICKNAME + nickname : null)));
+        if (negativeKey == null) {
+            return;
+        }
+
+        this.negativeMap.put(negativeKey, System.currentTimeMillis() + this.negativeTtlMs);
+        if (isInvalidatedSince(generation, seq, (seq > 0L ? null : id), (seq > 0L || id != null ? null : nickname))) {
+            this.negativeMap.remove(negativeKey); // 조회 중 무효화된 경우 저장하지 않음
+        }
+    }
+
+    /**
+     * <p>캐시에 보관된 회원정보의 마지막 로그인 일자만 수정합니다. 보관시간은 유지됩니다.</p>
+     * 마지막 로그인 일자만 변경된 경우(write-behind 반영 등) {@code invalidate()} 대신 사용하여, 로그인할 때마다 캐시가 비워지지 않도록 합니다.
+     * 보관된 값보다 이전 일자라면 수정하지 않습니다.
+     * @param seq : 회원 시퀀스
+     * @param lastLoginDate : 마지막 로그인 일자 (not null)
+     */
+    public void updateLastLoginDate(long seq, Date lastLoginDate) {
+        if (this.isEnabled == false || seq <= 0L) {
+            return;
+        }
+
+        final Segment segment = segmentOf(seq);
+        synchronized (segment) {
+            final CachedMember cached = segment.get(seq);
+            if (cached != null && isBefore(cached.membersDao.getLastLoginDate(), lastLoginDate)) {
+                segment.put(seq, withLastLoginDate(cached, lastLoginDate));
+            }
+        }
+
+        // 부분 회원정보 중 마지막 로그인 일자를 포함하는 항목
+        final String projectionKey = Projection.INFO.keyPrefix + seq;
+        final CachedMember projected = this.projectionMap.get(projectionKey);
+        if (projected != null && isBefore(projected.membersDao.getLastLoginDate(), lastLoginDate)) {
+            this.projectionMap.replace(projectionKey, projected, withLastLoginDate(projected, lastLoginDate));
+        }
+    }
+
+    /**
+     * <p>회원정보를 추가/수정/삭제한 후 관련 항목을 제거합니다.</p>
+     * 전달된 키와 캐시에 보관된 이전 값(이전 id/nickname)의 인덱스, 부정 캐시를 모두 제거합니다.
+     * @param seq : 변경된 회원 시퀀스 (0이하라면 무시)
+     * @param id : 변경된 회원 아이디 (nullable)
+     * @param nickname : 변경된 회원 닉네임 (nullable)
+     */
+    public void invalidate(long seq, String id, String nickname) {
+        if (this.isEnabled == false) {
+            return;
+        }
+
+        // [Note] 구간에 무효화 순번을 먼저 기록한 후 제거해야, 진행 중인 저장이 기록을 보지 못해도 이후의 제거로 지워진다
+        final long invGen = this.generation.incrementAndGet();
+        markInvalidated(invGen, seq, id, nickname);
+        invalidateSeq(invGen, seq);
+        if (id != null) {
+            final Long idSeq = this.idIndex.get(id);
+            if (idSeq != null) {
+                invalidateSeq(invGen, idSeq);
+            }
+            this.idIndex.remove(id);
+            this.negativeMap.remove(NEGATIVE_KEY_ID + id);
+
+            final Long projectionSeq = this.projectionIdIndex.remove(id);
+            if (projectionSeq != null) {
+                removeProjections(projectionSeq);
+            }
+        }
+        if (nickname != null) {
+            final Long nicknameSeq = this.nicknameIndex.get(nickname);
+            if (nicknameSeq != null) {
+                invalidateSeq(invGen, nicknameSeq);
+            }
+            this.nicknameIndex.remove(nickname);
+            this.negativeMap.remove(NEGATIVE_KEY_NICKNAME + nickname);
+        }
+    }
+
+    /**
+     * @return 캐시에 보관중인 회원 수 (만료되었지만 아직 제거되지 않은 항목 포함)
+     */
+    public int getSize() {
+        int rtSize = 0;
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                rtSize += segment.size();
+            }
+        }
+        return rtSize;
+    }
+
+    /**
+     * <p>캐시에서 찾지 못해 DB를 조회하는 경우 호출합니다. 논리적인 조회 한 번당 한 번만 호출합니다.</p>
+     */
+    public void recordMiss() {
+        if (this.isEnabled) {
+            this.missCnt.increment();
+        }
+    }
+
+    public long getHitCount() {
+        return this.hitCnt.sum();
+    }
+
+    public long getNegativeHitCount() {
+        return this.negativeHitCnt.sum();
+    }
+
+    public long getMissCount() {
+        return this.missCnt.sum();
+    }
+
+    /**
+     * @return 적중률 (부정 캐시 적중 포함, 조회가 없었다면 0)
+     */
+    public double getHitRatio() {
+        final long hit = getHitCount() + getNegativeHitCount();
+        final long total = hit + getMissCount();
+        return (total == 0L ? 0.0d : (double) hit / total);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @param seq : 조회할 회원 시퀀스 (인덱스에 없다면 null)
+     * @param id : id로 조회한 경우 아이디 (인덱스 검증용)
+     * @param nickname : nickname으로 조회한 경우 닉네임 (인덱스 검증용)
+     * @return 회원정보의 복사본, 캐시에 없는 경우 null.
+     */
+    private MembersDao lookup(Long seq, String id, String nickname) {
+        if (this.isEnabled == false) {
+            return null;
+        }
+
+        MembersDao rtDao = null;
+        if (seq != null) {
+            final Segment segment = segmentOf(seq);
+            synchronized (segment) {
+                final CachedMember cached = segment.get(seq);
+                if (cached != null && System.currentTimeMillis() > cached.expTimeMs) {
+                    segment.remove(seq); // 보관시간 만료
+                    removeIndexes(seq, cached.membersDao);
+                }
+                else if (cached != null) {
+                    rtDao = cached.membersDao;
+                }
+            }
+        }
+
+        // 인덱스가 가리키는 회원의 값이 바뀐 경우(다른 회원이 같은 닉네임을 사용하게 된 경우 등)는 미적중
+        if (rtDao != null && ((id != null && id.equals(rtDao.getId()) == false) ||
+            (nickname != null && nickname.equals(rtDao.getNickname()) == false))) {
+            rtDao = null;
+        }
+
+        if (rtDao == null) {
+            return null;
+        }
+
+        this.hitCnt.increment();
+        return copyOf(rtDao);
+    }
+
+    /**
+     * @param projection : 부분 회원정보 종류
+     * @param seq : 조회할 회원 시퀀스
+     * @param id : id로 조회한 경우 아이디 (인덱스 검증용)
+     * @return 회원정보의 복사본, 캐시에 없는 경우 null.
+     */
+    private MembersDao lookupProjection(Projection projection, long seq, String id) {
+        if (this.isEnabled == false) {
+            return null;
+        }
+
+        final String projectionKey = projection.keyPrefix + seq;
+        final CachedMember cached = this.projectionMap.get(projectionKey);
+        if (cached == null) {
+            return null;
+        }
+
+        if (System.currentTimeMillis() > cached.expTimeMs) {
+            this.projectionMap.remove(projectionKey, cached); // 보관시간 만료
+            return null;
+        }
+
+        // 인덱스가 가리키는 회원의 아이디가 바뀐 경우는 미적중
+        if (id != null && id.equals(cached.membersDao.getId()) == false) {
+            return null;
+        }
+
+        this.hitCnt.increment();
+        return copyOf(cached.membersDao);
+    }
+
+    private void removeProjections(long seq) {
+        for (Projection projection : Projection.values()) {
+            this.projectionMap.remove(projection.keyPrefix + seq);
+        }
+    }
+
+    private boolean isNegative(String negativeKey) {
+        if (this.isEnabled == false) {
+            return false;
+        }
+
+        final Long expTimeMs = this.negativeMap.get(negativeKey);
+        if (expTimeMs != null && System.currentTimeMillis() > expTimeMs) {
+            this.negativeMap.remove(negativeKey, expTimeMs); // 보관시간 만료
+        }
+
+        if (expTimeMs == null || System.currentTimeMillis() > expTimeMs) {
+            return false; // 미적중은 DB를 조회하는 호출부에서 집계
+        }
+
+        this.negativeHitCnt.increment();
+        return true;
+    }
+
+    private void invalidateSeq(long invGen, long seq) {
+        this.negativeMap.remove(NEGATIVE_KEY_SEQ + seq);
+        if (seq <= 0L) {
+            return;
+        }
+
+        markInvalidated(invGen, seq, null, null);
+        removeProjections(seq);
+
+        final Segment segment = segmentOf(seq);
+        synchronized (segment) {
+            final CachedMember old = segment.remove(seq);
+            if (old != null) {
+                removeIndexes(seq, old.membersDao);
+            }
+        }
+    }
+
+    /**
+     * <p>키(seq, id, nickname)가 속한 구간에 무효화 순번을 기록합니다.</p>
+     */
+    private void markInvalidated(long invGen, long seq, String id, String nickname) {
+        if (seq > 0L) {
+            this.invalidatedGens.accumulateAndGet(stripeOf(Long.hashCode(seq)), invGen, Math::max);
+        }
+        if (id != null) {
+            this.invalidatedGens.accumulateAndGet(stripeOf(id.hashCode()), invGen, Math::max);
+        }
+        if (nickname != null) {
+            this.invalidatedGens.accumulateAndGet(stripeOf(nickname.hashCode()), invGen, Math::max);
+        }
+    }
+
+    /**
+     * @param generation : DB조회 전에 확인한 세대
+     * @return true: DB조회 이후 키(seq, id, nickname) 중 하나가 속한 구간이 무효화됨<li>false: 무효화되지 않음</li>
+     */
+    private boolean isInvalidatedSince(long generation, long seq, String id, String nickname) {
+        return ((seq > 0L && this.invalidatedGens.get(stripeOf(Long.hashCode(seq))) > generation) ||
+            (id != null && this.invalidatedGens.get(stripeOf(id.hashCode())) > generation) ||
+            (nickname != null && this.invalidatedGens.get(stripeOf(nickname.hashCode())) > generation));
+    }
+
+    private static int stripeOf(int hash) {
+        return (hash ^ (hash >>> 16)) & (INVALIDATION_STRIPE_CNT - 1);
+    }
+
+    /**
+     * <p>보조 인덱스가 해당 seq를 가리키는 경우에만 제거합니다.</p>
+     */
+    private void removeIndexes(long seq, MembersDao membersDao) {
+        if (membersDao.getId() != null) {
+            this.idIndex.remove(membersDao.getId(), seq);
+        }
+        if (membersDao.getNickname() != null) {
+            this.nicknameIndex.remove(membersDao.getNickname(), seq);
+        }
+    }
+
+    private Segment segmentOf(long seq) {
+        final int hash = Long.hashCode(seq);
+        return this.segments[(hash ^ (hash >>> 16)) & (SEGMENT_CNT - 1)];
+    }
+
+    /**
+     * <p>회원정보를 복사합니다. 가변 객체인 {@link Date}도 복사합니다.</p>
+     */
+    private static boolean isBefore(Date cachedDate, Date newDate) {
+        return (cachedDate == null || cachedDate.before(newDate));
+    }
+
+    private static CachedMember withLastLoginDate(CachedMember cached, Date lastLoginDate) {
+        final MembersDao copyDao = cached.membersDao.toBuilder().lastLoginDate(copyOf(lastLoginDate)).build();
+        return new CachedMember(copyDao, cached.expTimeMs);
+    }
+
+    private static MembersDao copyOf(MembersDao membersDao) {
+        return membersDao.toBuilder()
+            .joinDate(copyOf(membersDao.getJoinDate()))
+            .lastLoginDate(copyOf(membersDao.getLastLoginDate()))
+            .deregisterDate(copyOf(membersDao.getDeregisterDate()))
+            .build();
+    }
+
+    private static Date copyOf(Date date) {
+        return (date == null ? null : (Date) date.clone());
+    }
+}
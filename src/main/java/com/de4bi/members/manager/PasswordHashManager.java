@@ -0,0 +1,231 @@
+package com.de4bi.members.manager;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import com.de4bi.common.data.LatencyHistogram;
+import com.de4bi.common.exception.ApiException;
+import com.de4bi.common.util.PasswordHasher;
+import com.de4bi.common.util.Pbkdf2PasswordHasher;
+import com.de4bi.common.util.Sha256PasswordHasher;
+import com.de4bi.members.spring.SecureProperties;
+
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * <p>비밀번호 해싱/검증을 전용 스레드풀에서 수행합니다.</p>
+ * 새 비밀번호는 PBKDF2({@code member.password.hash.pbkdf2-iterations}회 반복)로 해싱하며,
+ * 검증 시에는 저장된 해시의 접두어로 알고리즘을 정하므로 기존 SHA256 해시도 검증할 수 있습니다.
+ * <ul><li>해싱은 CPU 비용이 크므로 크기가 제한된 스레드풀/대기열에서 수행하여, 로그인이 몰려도 다른 API 스레드가 CPU를 잃지 않도록 합니다.</li>
+ * <li>대기열이 가득 찼거나 제한시간({@code timeout-ms})을 넘긴 경우 503(SERVICE_UNAVAILABLE)으로 실패합니다.</li>
+ * <li>대기시간과 해싱시간 분포를 기록하므로, 반복횟수와 스레드 수 조정에 사용할 수 있습니다.</li></ul>
+ */
+@Component
+@PropertySource("classpath:config.properties")
+public class PasswordHashManager {
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private static final String ENVKEY_PBKDF2_ITERATIONS =
+        "member.password.hash.pbkdf2-iterations"; // PBKDF2 반복횟수
+    private static final String ENVKEY_THREADS =
+        "member.password.hash.threads"; // 해싱 스레드 수 (0: CPU 코어 수)
+    private static final String ENVKEY_QUEUE_SIZE =
+        "member.password.hash.queue-size"; // 해싱 대기열 크기
+    private static final String ENVKEY_TIMEOUT_MS =
+        "member.password.hash.timeout-ms"; // 해싱 제한시간(ms, 대기시간 포함)
+
+    private final String pepper;
+    private final Pbkdf2PasswordHasher currentHasher;
+    private final PasswordHasher[] hashers;
+    private final String dummyHash; // 저장된 해시가 없는 경우의 검증에 사용할 해시
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    private final LatencyHistogram queueWaitHistogram = new LatencyHistogram();
+    private final LatencyHistogram hashTimeHistogram = new LatencyHistogram();
+    private final LongAdder rejectCnt = new LongAdder();    // 대기열 초과로 거부된 수
+    private final LongAdder timeoutCnt = new LongAdder();   // 제한시간 초과 수
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    public PasswordHashManager(SecureProperties secureProps, Environment env) {
+        this.pepper = secureProps.getMemberPasswordServerSalt();
+        this.currentHasher = new Pbkdf2PasswordHasher(Integer.parseInt(env.getProperty(ENVKEY_PBKDF2_ITERATIONS, "310000")));
+        this.hashers = new PasswordHasher[] { this.currentHasher, new Sha256PasswordHasher() };
+        this.dummyHash = this.currentHasher.newDummyHash();
+        this.timeoutMs = Long.parseLong(env.getProperty(ENVKEY_TIMEOUT_MS, "3000"));
+
+        final int cfgThreads = Integer.parseInt(env.getProperty(ENVKEY_THREADS, "0"));
+        final int threads = (cfgThreads > 0 ? cfgThreads : Runtime.getRuntime().availableProcessors());
+        final int queueSize = Math.max(1, Integer.parseInt(env.getProperty(ENVKEY_QUEUE_SIZE, "64")));
+        final AtomicInteger threadIdx = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueSize), runnable -> {
+                final Thread thread = new Thread(runnable, "password-hash-" + threadIdx.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        this.executor.shutdownNow();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>비밀번호를 현재 알고리즘으로 해싱합니다.</p>
+     * @param password : 평문 비밀번호
+     * @return 접두어를 포함한 비밀번호 해시
+     * @throws ApiException 해싱 스레드풀이 가득 찼거나 제한시간을 초과한 경우
+     */
+    public String hash(String password) {
+        return execute(() -> this.currentHasher.hash(password, this.pepper));
+    }
+
+    /**
+     * <p>비밀번호가 저장된 해시와 일치하는지 검사합니다.</p>
+     * @param password : 평문 비밀번호
+     * @param encodedPw : 저장된 비밀번호 해시
+     * @return true: 일치<li>false: 불일치 또는 알 수 없는 해시 형식</li>
+     * @throws ApiException 해싱 스레드풀이 가득 찼거나 제한시간을 초과한 경우
+     */
+    public boolean matches(String password, String encodedPw) {
+        final PasswordHasher hasher = findHasher(encodedPw);
+        if (hasher == null) {
+            return false;
+        }
+        return execute(() -> hasher.matches(password, this.pepper, encodedPw));
+    }
+
+    /**
+     * <p>저장된 해시가 없는 경우(존재하지 않는 회원 등)에도 {@code matches()}와 같은 비용으로 검증을 수행합니다.</p>
+     * 응답시간으로 회원 존재여부를 알 수 없도록 할 때 사용하며, 결과는 항상 불일치입니다.
+     * @param password : 평문 비밀번호
+     * @throws ApiException 해싱 스레드풀이 가득 찼거나 제한시간을 초과한 경우
+     */
+    public void matchesDummy(String password) {
+        execute(() -> this.currentHasher.matches(password, this.pepper, this.dummyHash));
+    }
+
+    /**
+     * @param encodedPw : 저장된 비밀번호 해시
+     * @return true: 현재 알고리즘/반복횟수로 다시 해싱해야 함<li>false: 다시 해싱할 필요 없음</li>
+     */
+    public boolean needsRehash(String encodedPw) {
+        return this.currentHasher.needsRehash(encodedPw);
+    }
+
+    public int getIterations() {
+        return this.currentHasher.getIterations();
+    }
+
+    public int getThreads() {
+        return this.executor.getMaximumPoolSize();
+    }
+
+    public int getActiveCount() {
+        return this.executor.getActiveCount();
+    }
+
+    public int getQueuedCount() {
+        return this.executor.getQueue().size();
+    }
+
+    public long getRejectCount() {
+        return this.rejectCnt.sum();
+    }
+
+    public long getTimeoutCount() {
+        return this.timeoutCnt.sum();
+    }
+
+    public LatencyHistogram.Snapshot getQueueWaitSnapshot() {
+        return this.queueWaitHistogram.getSnapshot();
+    }
+
+    public LatencyHistogram.Snapshot getHashTimeSnapshot() {
+        return this.hashTimeHistogram.getSnapshot();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    private PasswordHasher findHasher(String encodedPw) {
+        for (PasswordHasher hasher : this.hashers) {
+            if (hasher.supports(encodedPw)) {
+                return hasher;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <p>해싱 스레드풀에서 작업을 수행하고 결과를 기다립니다.</p>
+     */
+    private <T> T execute(Callable<T> task) {
+        final long submitNanos = System.nanoTime();
+        final Future<T> future;
+        try {
+            future = this.executor.submit(() -> {
+                final long bgnNanos = System.nanoTime();
+                this.queueWaitHistogram.record(bgnNanos - submitNanos);
+                try {
+                    return task.call();
+                }
+                finally {
+                    this.hashTimeHistogram.record(System.nanoTime() - bgnNanos);
+                }
+            });
+        }
+        catch (RejectedExecutionException e) {
+            this.rejectCnt.increment();
+            throw ApiException.of(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.",
+                "Password hash queue is full! (queued: " + getQueuedCount() + ")", e);
+        }
+
+        try {
+            return future.get(this.timeoutMs, TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException e) {
+            future.cancel(true);
+            this.timeoutCnt.increment();
+            throw ApiException.of(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.",
+                "Password hash timeout! (timeoutMs: " + this.timeoutMs + ")", e);
+        }
+        catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password!", e);
+        }
+        catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Hashing Fail!", cause);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.de4bi.members.service;
+
+import com.de4bi.common.data.ApiResult;
+import com.de4bi.members.controller.dto.AopLogConfigResDto;
+import com.de4bi.members.data.code.ResponseCode;
+import com.de4bi.members.manager.AopLogManager;
+
+import org.springframework.stereotype.Service;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * 서버 로그 설정에 대한 서비스입니다.
+ */
+@AllArgsConstructor
+@Service
+public class LoggingService {
+
+    ////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////
+
+    private final AopLogManager aopLogMgr;
+
+    ////////////////////////////////////////////////////////////////
+    // Public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>Controller/Service/Mapper AOP의 로그 설정을 조회합니다.</p>
+     * @return true: 조회 성공 (data: {@link AopLogConfigResDto})
+     */
+    public ApiResult<AopLogConfigResDto> selectAopLogConfig() {
+        final AopLogConfigResDto resDto = AopLogConfigResDto.builder()
+            .level(aopLogMgr.getLevel())
+            .payloadSampleRate(aopLogMgr.getPayloadSampleRate())
+            .build();
+
+        return ApiResult.of(true, AopLogConfigResDto.class).setCode(ResponseCode.A_SUCCESS).setData(resDto);
+    }
+
+    /**
+     * <p>Controller/Service/Mapper AOP의 로그 설정을 변경합니다. 서버를 재시작하면 {@code config.properties}의 값으로 돌아갑니다.</p>
+     * @param level : 로그 레벨 (TRACE, DEBUG, INFO, WARN, ERROR, OFF / null: 변경하지 않음)
+     * @param payloadSampleRate : 결과(payload)를 로그에 포함할 요청 비율 (0.0 ~ 1.0 / null: 변경하지 않음)
+     * @return true: 변경 성공 (data: 변경된 {@link AopLogConfigResDto})
+     * @throws ApiException 알 수 없는 로그 레벨인 경우
+     */
+    public ApiResult<AopLogConfigResDto> updateAopLogConfig(String level, Double payloadSampleRate) {
+        if (level != null) {
+            aopLogMgr.setLevel(level);
+        }
+        if (payloadSampleRate != null) {
+            aopLogMgr.setPayloadSampleRate(payloadSampleRate);
+        }
+
+        return selectAopLogConfig();
+    }
+}
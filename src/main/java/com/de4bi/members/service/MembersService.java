@@ -1,33 +1,70 @@
 package com.de4bi.members.service;
 
 import java.sql.Date;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import com.de4bi.common.data.ApiResult;
 import com.de4bi.common.data.ThreadStorage;
 import com.de4bi.common.exception.ApiException;
+import com.de4bi.common.exception.MapperException;
+import com.de4bi.common.util.AudienceMatcher;
 import com.de4bi.common.util.MemberJwtUtil;
-import com.de4bi.common.util.SecurityUtil;
 import com.de4bi.common.util.StringUtil;
 import com.de4bi.members.aop.ControllerAop;
+import com.de4bi.members.controller.dto.IntrospectMemberJwtResDto;
 import com.de4bi.members.controller.dto.SelectMemberInfoResDto;
+import com.de4bi.members.controller.dto.SelectMembersInfoResDto;
+import com.de4bi.members.controller.dto.SelectMembersListResDto;
 import com.de4bi.members.controller.dto.SigninMembersDto;
 import com.de4bi.members.controller.dto.SocialSigninMembersDto;
 import com.de4bi.members.data.code.ResponseCode;
 import com.de4bi.members.data.code.MembersCode;
+import com.de4bi.members.data.dao.MembersAuthDao;
 import com.de4bi.members.data.dao.MembersDao;
+import com.de4bi.members.data.dao.MembersInfoDao;
+import com.de4bi.members.data.dao.MembersLoginDao;
 import com.de4bi.members.db.mapper.MembersMapper;
-import com.de4bi.members.spring.SecureProperties;
+import com.de4bi.members.manager.LastLoginWriteBehindManager;
+import com.de4bi.members.manager.MemberJwtCacheManager;
+import com.de4bi.members.manager.MemberJwtKeyringManager;
+import com.de4bi.members.manager.MemberJwtRevocationManager;
+import com.de4bi.members.manager.MemberSecurityVersionManager;
+import com.de4bi.members.manager.MembersCacheManager;
+import com.de4bi.members.manager.MembersCacheManager.Projection;
+import com.de4bi.members.manager.PasswordHashManager;
 import com.de4bi.members.util.MembersUtil;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
 import io.swagger.models.Response;
 import lombok.AllArgsConstructor;
 
@@ -39,13 +76,21 @@ import lombok.AllArgsConstructor;
 @Service
 public class MembersService {
 
+    private static final Logger logger = LoggerFactory.getLogger(MembersService.class);
+
     ////////////////////////////////////////////////////////////////
     // Fields
     ////////////////////////////////////////////////////////////////
     
     private final MembersMapper membersMapper;
-    private final SecureProperties secureProps;
     private final Environment env;
+    private final MemberJwtCacheManager memberJwtCacheMgr;
+    private final MemberJwtKeyringManager memberJwtKeyringMgr;
+    private final MemberJwtRevocationManager memberJwtRevocationMgr;
+    private final MemberSecurityVersionManager memberSecVerMgr;
+    private final MembersCacheManager membersCacheMgr;
+    private final LastLoginWriteBehindManager lastLoginWriteBehindMgr;
+    private final PasswordHashManager passwordHashMgr;
 
     private static final String ENVKEY_MEMBER_JWT_DEFAULT_AUDIENCE =
         "member.jwt.default-aud"; // MemberJwt 기본 audience
@@ -53,6 +98,20 @@ public class MembersService {
         "member.jwt.expired-hour"; // MemberJwt 기본 로그인 만료시간
     private static final String ENVKEY_MEMBER_JWT_EXPIRED_IN_MS_KEEPLOGGEDIN =
         "member.jwt.expired-hour-keeploggedin"; // MemberJwt 로그인 유지옵션 시 만료시간
+    private static final String ENVKEY_MEMBER_JWT_INTROSPECT_MAX_BATCH =
+        "member.jwt.introspect.max-batch"; // MemberJwt 일괄 검사 시 최대 토큰 수
+    private static final String ENVKEY_MEMBER_SELECT_MAX_BATCH =
+        "member.select.max-batch"; // 회원 기본정보 일괄 조회 시 최대 회원 수
+    private static final String ENVKEY_MEMBER_LIST_DEFAULT_SIZE =
+        "member.list.default-size"; // 회원 목록 조회 시 기본 페이지 크기
+    private static final String ENVKEY_MEMBER_LIST_MAX_SIZE =
+        "member.list.max-size"; // 회원 목록 조회 시 최대 페이지 크기
+    private static final String ENVKEY_MEMBER_UPDATE_MAX_RETRY =
+        "member.update.max-retry"; // 회원정보 수정 시 버전 충돌 재시도 횟수
+
+    private static final String LIST_CURSOR_PREFIX = "s"; // 목록 조회 커서 접두어 (커서 형식 버전)
+    private static final int MYSQL_ER_DUP_ENTRY = 1062; // 유니크키 위반 오류코드
+    private static final Pattern DUPLICATED_KEY_PATTERN = Pattern.compile("for key '([^']+)'"); // 유니크키 위반 메시지의 키 이름
 
     ////////////////////////////////////////////////////////////////
     // Query methods
@@ -67,27 +126,52 @@ public class MembersService {
      * @return true: 회원이 존재하는 경우 {@link MembersDao}를 함께 반환<li>false: 회원이 존재하지 않는 경우</li>
      * @apiNote 세 파라미터중 1개의 파라미터만 전달하면 나머지는 null(0L)을 허용합니다.
      * 조회 순서는 <code>seq, id, nickname</code>순서입니다.
+     * 캐시<code>(MembersCacheManager)</code>에 보관된 회원은 DB조회 없이 복사본을 반환합니다.
      */
     public ApiResult<MembersDao> select(long seq, String id, String nickname) {
         MembersDao selDao = null;
         int paramSwitch = -1;
+        boolean isCached = true;    // 캐시 적중(부정 캐시 포함) 여부
+        final long cacheGen = membersCacheMgr.getGeneration();
         
         if (seq > 0L) {
-            selDao = membersMapper.select(seq);
+            selDao = membersCacheMgr.getBySeq(seq);
+            if (selDao == null && membersCacheMgr.isNegativeBySeq(seq) == false) {
+                selDao = membersMapper.select(seq);
+                isCached = false;
+            }
             paramSwitch = 0;
         }
         else if (id != null) {
-            selDao = membersMapper.selectById(id);
+            selDao = membersCacheMgr.getById(id);
+            if (selDao == null && membersCacheMgr.isNegativeById(id) == false) {
+                selDao = membersMapper.selectById(id);
+                isCached = false;
+            }
             paramSwitch = 1;
         }
         else if (nickname != null) {
-            selDao = membersMapper.selectByNickname(nickname);
+            selDao = membersCacheMgr.getByNickname(nickname);
+            if (selDao == null && membersCacheMgr.isNegativeByNickname(nickname) == false) {
+                selDao = membersMapper.selectByNickname(nickname);
+                isCached = false;
+            }
             paramSwitch = 2;
         }
         else {
             throw ApiException.of().setInternalMsg(
                 "Illegal parameter! (seq: " + seq + ", id: " + id + "nickname: " + nickname + ")");
         }
+
+        if (isCached == false) {
+            membersCacheMgr.recordMiss();
+            if (selDao != null) {
+                membersCacheMgr.put(selDao, cacheGen);
+            }
+            else {
+                membersCacheMgr.putNegative(seq, id, nickname, cacheGen);
+            }
+        }
         
         if (selDao == null) {
             String extMsg = "Fail to select member.";
@@ -116,10 +200,54 @@ public class MembersService {
     public ApiResult<Void> insert(MembersDao membersDao) {
         Objects.requireNonNull(membersDao, "'membersDao' is null!");
         final boolean rtRst = (membersMapper.insert(membersDao) != 0);
+        membersCacheMgr.invalidate(membersDao.getSeq(), membersDao.getId(), membersDao.getNickname());
         return ApiResult.of(rtRst).setCode(rtRst ? ResponseCode.DB_SUCCESS : ResponseCode.DB_INSERT_FAIL)
             .setMessage(rtRst ? null : "Fail to insert member. (seq: " + membersDao.getSeq() + ")");
     }
 
+    /**
+     * <strong>[Query Method]</strong>
+     * <p>신규 회원을 추가하거나, 재가입 가능한 탈퇴 회원이라면 기존 회원정보를 갱신합니다.</p>
+     * @param membersDao : 가입할 회원 정보 (성공 시 <code>seq</code>가 채워짐)
+     * @return true: 가입 성공<li>false: 가입 실패 <code>(M_DUPLICATED_EMAIL, M_DUPLICATED_NICKNAME, M_RECENTLY_DEREGISTERED, M_BANNED_MEMBER)</code></li>
+     * @apiNote 재가입 가능여부 검사와 추가/갱신을 한 번의 쿼리<code>(INSERT ... ON DUPLICATE KEY UPDATE)</code>로 수행하므로
+     * 같은 아이디/닉네임의 동시 가입 요청 중 하나만 성공합니다. 가입에 실패한 경우에만 사유 확인을 위해 다시 조회합니다.
+     */
+    public ApiResult<Void> insertOrRejoin(MembersDao membersDao) {
+        Objects.requireNonNull(membersDao, "'membersDao' is null!");
+        membersDao.setSeq(0L);
+
+        final Instant rejoinableBefore = Instant.now().minus(MembersUtil.REJOINABLE_AFTER_DAYS, ChronoUnit.DAYS);
+        try {
+            membersMapper.insertOrRejoin(membersDao, rejoinableBefore, MembersCode.MEMBERS_STATUS_BANNED.getSeq());
+        }
+        catch (MapperException e) {
+            final String duplicatedKeyName = findDuplicatedKeyName(e);
+            if (duplicatedKeyName == null) {
+                throw e;
+            }
+
+            final boolean isNicknameDuplicated = duplicatedKeyName.contains(MembersDao.COL_NICKNAME);
+            return ApiResult.of(false)
+                .setCode(isNicknameDuplicated ? ResponseCode.M_DUPLICATED_NICKNAME : ResponseCode.M_DUPLICATED_EMAIL)
+                .setMessage("Duplicated member! (id: " + membersDao.getId() + ", nickname: " + membersDao.getNickname() + ")");
+        }
+
+        membersCacheMgr.invalidate(membersDao.getSeq(), membersDao.getId(), membersDao.getNickname());
+        if (membersDao.getSeq() > 0L) {
+            memberSecVerMgr.touch(membersDao.getId()); // 재가입으로 상태/권한이 바뀌었을 수 있으므로 다음 검증 시 DB 재확인
+            return ApiResult.of(true).setCode(ResponseCode.DB_SUCCESS);
+        }
+
+        // 가입 실패 사유 확인 (아이디가 없거나 재가입 가능하다면 닉네임이 다른 회원과 겹친 경우)
+        ApiResult<Void> tempRst = MembersUtil.checkMemberSigninable(select(0L, membersDao.getId(), null).getData());
+        if (tempRst.getResult()) {
+            tempRst = ApiResult.of(false).setCode(ResponseCode.M_DUPLICATED_NICKNAME)
+                .setMessage("Nickname already in use! (nickname: " + membersDao.getNickname() + ")");
+        }
+        return tempRst;
+    }
+
     /**
      * <strong>[Query Method]</strong>
      * <p>회원 정보를 수정합니다.</p>
@@ -130,10 +258,36 @@ public class MembersService {
     public ApiResult<Void> update(MembersDao membersDao) {
         Objects.requireNonNull(membersDao, "'membersDao' is null!");
         final boolean rtRst = (membersMapper.update(membersDao) != 0);
+        membersCacheMgr.invalidate(membersDao.getSeq(), membersDao.getId(), membersDao.getNickname());
+        memberSecVerMgr.touch(membersDao.getId()); // 상태/권한이 바뀌었을 수 있으므로 다음 검증 시 DB 재확인
         return ApiResult.of(rtRst).setCode(rtRst ? ResponseCode.DB_SUCCESS : ResponseCode.DB_UPDATE_FAIL)
             .setMessage(rtRst ? null : "Fail to update member. (seq: " + membersDao.getSeq() + ")");
     }
 
+    /**
+     * <strong>[Query Method]</strong>
+     * <p>회원 정보 중 값이 바뀐 컬럼만 수정합니다.</p>
+     * @param membersDao : 수정할 회원 정보 (조회 후 setter로 값을 바꾼 DAO)
+     * @return true: 회원정보 수정 성공 (바뀐 컬럼이 없는 경우 DB에 접근하지 않고 성공)<li>false: 회원정보 수정 실패</li>
+     * @apiNote <code>membersDao.seq</code>값은 수정할 대상의 <code>seq</code>값을 의미합니다.
+     * 수정 성공 시 <code>membersDao</code>의 바뀐 컬럼 기록은 초기화됩니다.
+     */
+    public ApiResult<Void> updateChanged(MembersDao membersDao) {
+        return updateChanged(membersDao, false);
+    }
+
+    /**
+     * <strong>[Query Method]</strong>
+     * <p>회원 정보 중 값이 바뀐 컬럼만 수정합니다. 조회 이후 다른 요청이 회원정보를 수정했다면 수정하지 않습니다. (낙관적 잠금)</p>
+     * @param membersDao : 수정할 회원 정보 (조회 후 setter로 값을 바꾼 DAO)
+     * @return true: 회원정보 수정 성공 (바뀐 컬럼이 없는 경우 DB에 접근하지 않고 성공)
+     * <li>false: 회원정보 수정 실패 <code>(버전 불일치 시 M_CONFLICTED_UPDATE)</code></li>
+     * @apiNote 수정 성공 시 <code>membersDao</code>의 버전은 1 증가하고, 바뀐 컬럼 기록은 초기화됩니다.
+     */
+    public ApiResult<Void> updateChangedWithVersion(MembersDao membersDao) {
+        return updateChanged(membersDao, true);
+    }
+
     /**
      * <strong>[Query Method]</strong>
      * <p>회원 정보를 삭제합니다.</p>
@@ -142,6 +296,7 @@ public class MembersService {
      */
     public ApiResult<Void> delete(long seq) {
         final boolean rtRst = (membersMapper.delete(seq) != 0);
+        membersCacheMgr.invalidate(seq, null, null);
         return ApiResult.of(rtRst).setCode(rtRst ? ResponseCode.DB_SUCCESS : ResponseCode.DB_DELETE_FAIL)
             .setMessage(rtRst ? null : "Fail to delete member. (seq: " + rtRst + ")");
     }
@@ -152,19 +307,33 @@ public class MembersService {
 
     /**
      * <p>MemberJwt를 발급합니다.</p>
-     * @param id : 회원 아이디
+     * @param membersDao : 발급 대상 회원 (DB에서 조회된 값)
      * @param audience : 사용 가능한 기관 <code>(null -> "*.de4bi.com")</code>
      * @param expSec : 초 단위 만료 시간 <code>(10L -> 10초 후 만료)</code>
      * @return true: 발급 성공 <code>(data: member_jwt)</code><li>false: 발급 실패</li>
      * @throws {@link io.jsonwebtoken.JwtException.JwtException} : 토큰 발급 중 예외 발생 시
+     * @apiNote <code>member.jwt.member-claims.enabled=true</code>인 경우 회원의 시퀀스, 상태, 권한, 보안버전을 Claims에 포함합니다.
      */
-    public ApiResult<String> issueMemberJwt(String id, String audience, long expSec) {
-        Objects.requireNonNull(id, "'id' is null!");
+    public ApiResult<String> issueMemberJwt(MembersDao membersDao, String audience, long expSec) {
+        Objects.requireNonNull(membersDao, "'membersDao' is null!");
+        final String id = membersDao.getId();
+        Objects.requireNonNull(id, "'membersDao.id' is null!");
 
         if (StringUtil.isEmpty(audience)) {
             audience = env.getProperty(ENVKEY_MEMBER_JWT_DEFAULT_AUDIENCE);
         }
 
+        // 회원 상태/권한/보안버전 (검증 시 DB조회 생략용)
+        Map<String, Object> privateClaims = null;
+        if (memberSecVerMgr.isEnabled()) {
+            final long secVer = MembersUtil.makeSecurityVersion(membersDao);
+            privateClaims = new LinkedHashMap<>();
+            privateClaims.put(MemberJwtUtil.CLAIM_KEY_MEMBER_SEQ, membersDao.getSeq());
+            privateClaims.put(MemberJwtUtil.CLAIM_KEY_MEMBER_STATUS, membersDao.getStatus());
+            privateClaims.put(MemberJwtUtil.CLAIM_KEY_MEMBER_AUTHORITY, membersDao.getAuthority());
+            privateClaims.put(MemberJwtUtil.CLAIM_KEY_MEMBER_SEC_VER, secVer);
+        }
+
         final long curTime = System.currentTimeMillis() / 1000L;
         final MemberJwtUtil.JwtClaims jwtClaims = MemberJwtUtil.JwtClaims.builder()
             .id(ThreadStorage.getStr(ApiResult.KEY_TID))    // jid(JWT 식별자) = tid
@@ -174,8 +343,9 @@ public class MembersService {
             .issuedAt(curTime)                              // iat : 발급시간(초 단위)
             .expiration(curTime + expSec)                   // exp : 만료시간(초 단위)
             .notBefore(curTime)                             // nbf : 시작시간(초 단위)
+            .privateClaims(privateClaims)                   // 회원 상태/권한/보안버전 (nullable)
             .build();
-        final String memberJwt = MemberJwtUtil.issue(null, jwtClaims, secureProps.getMemberJwtSecret());
+        final String memberJwt = MemberJwtUtil.issue(null, jwtClaims, memberJwtKeyringMgr.getKeyring());
         
         return ApiResult.of(true, String.class).setCode(ResponseCode.A_SUCCESS).setData(memberJwt);
     }
@@ -186,7 +356,8 @@ public class MembersService {
      * @param audience : 사용처 도메인 <code>(null -> "*.de4bi.com")</code>
      * @return true: 검증 성공 시 검증된 유저의 정보<code>(data: member_dao)</code>
      * <li>false: 검증 실패</li>
-     * @apiNote 반환 데이터를 위해 내부적으로 <code>select(seq, id, nickname)메서드를 사용합니다.</code>
+     * @apiNote 반환 데이터를 위해 인증 확인용 컬럼<code>(seq, id, status, authority, deregister_date)</code>만 조회합니다.
+     * 단, 토큰에 포함된 보안버전이 로컬에서 확인된 값과 같다면 DB조회 없이 Claims로 회원 DAO(seq, id, status, authority)를 구성합니다.
      */
     public ApiResult<MembersDao> validateMemberJwt(String memberJwt, String audience) {
         Objects.requireNonNull(memberJwt, "'memberJwt' is null!");
@@ -195,49 +366,166 @@ public class MembersService {
             audience = env.getProperty(ENVKEY_MEMBER_JWT_DEFAULT_AUDIENCE);
         }
 
-        // JWT 검증
-        final Jws<Claims> jws = MemberJwtUtil.validate(memberJwt, secureProps.getMemberJwtSecret(), null);
+        // JWT 검증 (캐시된 토큰은 서명검증 및 파싱을 생략)
+        final MemberJwtCacheManager.CachedJwt cachedJwt = verifyMemberJwt(memberJwt);
+        final Jws<Claims> jws = cachedJwt.getJws();
 
-        // 사용처(aud) 비교
-        boolean isSameAud = true;
-        final String jwtAud = jws.getBody().getAudience();
-        final String[] jwtAudSplit = jwtAud.split(".");
-        final String[] audenceSplit = audience.split(".");
-        if (jwtAudSplit.length != audenceSplit.length) {
-            isSameAud = false;
-        }
-        else {
-            String firstStr = null;
-            String secondStr = null;
-            for (int i = 0; i < jwtAudSplit.length; ++i) {
-                if ((firstStr = audenceSplit[i]).equals("*") || // '*' : 와일드카드
-                    (secondStr = jwtAudSplit[i]).equals("*")) {
-                    continue;
-                }
-                else if (firstStr.equals(secondStr) == false) {
-                    isSameAud = false;
-                    break;
-                }
-            }
-        }
-        
-        if (isSameAud == false) {
+        // 사용처(aud) 비교 (토큰별로 판정결과를 캐시)
+        final Object jwtAud = jws.getBody().get(Claims.AUDIENCE);
+        if (checkAudience(cachedJwt, audience) == false) {
             return ApiResult.of(false, MembersDao.class)
                 .setCode(ResponseCode.MA_JWT_INVAILD_AUD)
                 .setMessage("No same audience! (audience: " + audience + " / " + " jwtAud: " + jwtAud + ")");
         }
 
+        // 토큰의 회원 상태/권한이 로컬에서 확인된 보안버전과 같다면 DB조회 생략
+        final MembersDao claimsMemberDao = makeVerifiedMembersDao(jws.getBody());
+        if (claimsMemberDao != null) {
+            return ApiResult.of(true, MembersDao.class).setCode(ResponseCode.MA_SUCCESS).setData(claimsMemberDao);
+        }
+
         // 로그인 가능여부 조회
         final String jwtSub = jws.getBody().getSubject();
-        final MembersDao loginMemberDao = select(0L, jwtSub, null).getData();
+        final MembersDao loginMemberDao = selectAuthMember(jwtSub);
         ApiResult<Void> tempRst = null;
         if ((tempRst = MembersUtil.checkMemberLoginable(loginMemberDao)).getResult() == false) {
+            memberSecVerMgr.touch(jwtSub);
             return ApiResult.of(tempRst, MembersDao.class);
         }
 
+        if (memberSecVerMgr.isEnabled()) {
+            memberSecVerMgr.markVerified(jwtSub, MembersUtil.makeSecurityVersion(loginMemberDao),
+                loginMemberDao.getStatus(), loginMemberDao.getAuthority());
+        }
+
         return ApiResult.of(true, MembersDao.class).setCode(ResponseCode.MA_SUCCESS).setData(loginMemberDao);
     }
 
+    /**
+     * <p>여러 MemberJwt를 한 번에 검증합니다. (API 게이트웨이용, 관리자 JWT 필요)</p>
+     * @param memberJwts : 검사할 <code>member_jwt</code>문자열 목록 (not null)
+     * @param audience : 사용처 도메인 <code>(null -> "*.de4bi.com")</code>
+     * @return true: 검사 수행 <code>(data: 요청 순서와 같은 순서의 토큰별 판정 결과)</code>
+     * <li>false: 요청 토큰 수가 최대치<code>(member.jwt.introspect.max-batch)</code>를 초과한 경우</li>
+     * @throws ApiException 토큰 목록이 없는 경우 (400)
+     * @apiNote 서명/만료/사용처를 통과한 토큰의 회원들은 한 번의 쿼리<code>(selectAuthByIds)</code>로 조회합니다.
+     * 토큰의 보안버전이 로컬에서 확인된 값과 같은 회원은 조회 대상에서 제외됩니다.
+     */
+    public ApiResult<IntrospectMemberJwtResDto> introspectMemberJwts(List<String> memberJwts, String audience) {
+        if (memberJwts == null) {
+            throw ApiException.of(HttpStatus.BAD_REQUEST, "검사할 토큰 목록이 없습니다.", "'memberJwts' is null!");
+        }
+
+        final int maxBatch = Integer.parseInt(env.getProperty(ENVKEY_MEMBER_JWT_INTROSPECT_MAX_BATCH, "100"));
+        if (memberJwts.size() > maxBatch) {
+            return ApiResult.of(false, IntrospectMemberJwtResDto.class).setCode(ResponseCode.A_FAIL)
+                .setMessage("Too many tokens! (size: " + memberJwts.size() + " / max: " + maxBatch + ")");
+        }
+
+        if (StringUtil.isEmpty(audience)) {
+            audience = env.getProperty(ENVKEY_MEMBER_JWT_DEFAULT_AUDIENCE);
+        }
+
+        // 토큰별 서명, 유효기간, 사용처 검사
+        final int tokenCnt = memberJwts.size();
+        final IntrospectMemberJwtResDto.Verdict[] verdicts = new IntrospectMemberJwtResDto.Verdict[tokenCnt];
+        final Claims[] pendingClaims = new Claims[tokenCnt];        // DB조회가 필요한 토큰의 Claims
+        final Set<String> lookupIds = new LinkedHashSet<>();        // DB조회가 필요한 회원 아이디 (중복제거)
+
+        for (int i = 0; i < tokenCnt; ++i) {
+            final String memberJwt = memberJwts.get(i);
+            if (StringUtil.isEmpty(memberJwt)) {
+                verdicts[i] = makeInactiveVerdict(ResponseCode.MA_JWT_VALIDATION_FAIL);
+                continue;
+            }
+
+            MemberJwtCacheManager.CachedJwt cachedJwt = null;
+            try {
+                cachedJwt = verifyMemberJwt(memberJwt);
+            }
+            catch (ApiException | JwtException | IllegalArgumentException e) {
+                verdicts[i] = makeInactiveVerdict(ResponseCode.MA_JWT_VALIDATION_FAIL);
+                continue;
+            }
+
+            if (checkAudience(cachedJwt, audience) == false) {
+                verdicts[i] = makeInactiveVerdict(ResponseCode.MA_JWT_INVAILD_AUD);
+                continue;
+            }
+
+            final Claims claims = cachedJwt.getJws().getBody();
+            final MembersDao claimsMemberDao = makeVerifiedMembersDao(claims);
+            if (claimsMemberDao != null) {
+                verdicts[i] = makeActiveVerdict(claimsMemberDao, claims);
+            }
+            else {
+                pendingClaims[i] = claims;
+                lookupIds.add(claims.getSubject());
+            }
+        }
+
+        // 남은 회원을 한 번의 쿼리로 조회
+        final Map<String, MembersDao> lookupMemberMap = new HashMap<>();
+        if (lookupIds.isEmpty() == false) {
+            for (MembersAuthDao authDao : membersMapper.selectAuthByIds(new ArrayList<>(lookupIds))) {
+                lookupMemberMap.put(authDao.getId(), authDao.toMembersDao());
+            }
+        }
+
+        // 로그인 가능여부 검사
+        for (int i = 0; i < tokenCnt; ++i) {
+            if (verdicts[i] != null) {
+                continue;
+            }
+
+            final String jwtSub = pendingClaims[i].getSubject();
+            final MembersDao loginMemberDao = lookupMemberMap.get(jwtSub);
+            if (loginMemberDao == null) {
+                verdicts[i] = makeInactiveVerdict(ResponseCode.M_NOT_EXIST_MEMBER);
+                continue;
+            }
+
+            final ApiResult<Void> loginableRst = MembersUtil.checkMemberLoginable(loginMemberDao);
+            if (loginableRst.getResult() == false) {
+                memberSecVerMgr.touch(jwtSub);
+                verdicts[i] = makeInactiveVerdict(loginableRst.getCode());
+                continue;
+            }
+
+            if (memberSecVerMgr.isEnabled()) {
+                memberSecVerMgr.markVerified(jwtSub, MembersUtil.makeSecurityVersion(loginMemberDao),
+                    loginMemberDao.getStatus(), loginMemberDao.getAuthority());
+            }
+
+            verdicts[i] = makeActiveVerdict(loginMemberDao, pendingClaims[i]);
+        }
+
+        final IntrospectMemberJwtResDto rtDto = IntrospectMemberJwtResDto.builder()
+            .verdicts(Arrays.asList(verdicts))
+            .build();
+
+        return ApiResult.of(true, IntrospectMemberJwtResDto.class).setCode(ResponseCode.A_SUCCESS).setData(rtDto);
+    }
+
+    /**
+     * <p>로그아웃을 수행합니다. 토큰은 만료시간까지 폐기 목록에 등록되어 더 이상 사용할 수 없습니다.</p>
+     * @param memberJwt : 폐기할 <code>member_jwt</code>문자열
+     * @return true: 로그아웃 성공<li>false: 로그아웃 실패</li>
+     */
+    public ApiResult<Void> logout(String memberJwt) {
+        Objects.requireNonNull(memberJwt, "'memberJwt' is null!");
+
+        final Claims claims = verifyMemberJwt(memberJwt).getJws().getBody();
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return ApiResult.of(false).setCode(ResponseCode.MA_FAIL)
+                .setMessage("Token has no 'jti' or 'exp'! (sub: " + claims.getSubject() + ")");
+        }
+
+        memberJwtRevocationMgr.revoke(claims.getId(), claims.getExpiration().getTime());
+        memberJwtCacheMgr.remove(memberJwt);
+        return ApiResult.of(true).setCode(ResponseCode.A_SUCCESS);
+    }
+
     /**
      * <p>소셜로 회원가입을 시도합니다.</p>
      * @param membersDto : 신규 회원정보 DTO
@@ -246,17 +534,8 @@ public class MembersService {
     public ApiResult<Void> socialSignin(SocialSigninMembersDto membersDto) {
         Objects.requireNonNull(membersDto, "'membersDto' is null!");
 
-        final String newId = membersDto.getId();
-        final MembersDao selMembersDao = select(0L, newId, null).getData();
-
-        ApiResult<Void> tempRst = MembersUtil.checkMemberExist(selMembersDao);
-        if ((tempRst = MembersUtil.checkMemberSigninable(selMembersDao)).getResult() == false) {
-            return tempRst;
-        }
-
-        final boolean isRejoinMember = (tempRst.getResult() ? true : false);
         final MembersDao singinMembersDao = MembersDao.builder()
-            .seq(isRejoinMember ? selMembersDao.getSeq() : 0L)
+            .seq(0L)
             .id(membersDto.getId())
             .password(null)
             .nickname(membersDto.getNickname())
@@ -269,7 +548,7 @@ public class MembersService {
             .deregisterDate(null)
             .build();
 
-        return isRejoinMember ? update(singinMembersDao) : insert(singinMembersDao);
+        return insertOrRejoin(singinMembersDao);
     }
 
     /**
@@ -280,18 +559,8 @@ public class MembersService {
     public ApiResult<Void> signin(SigninMembersDto membersDto) {
         Objects.requireNonNull(membersDto, "'membersDto' is null!");
 
-        final String newId = membersDto.getId();
-        final MembersDao selMembersDao = select(0L, newId, null).getData();
-        
-        ApiResult<Void> tempRst = MembersUtil.checkMemberExist(selMembersDao);
-        final boolean isRejoinMember = (tempRst.getResult() ? true : false);
-        
-        if ((tempRst = MembersUtil.checkMemberSigninable(selMembersDao)).getResult() == false) {
-            return tempRst;
-        }
-
         final MembersDao singinMembersDao = MembersDao.builder()
-            .seq(isRejoinMember ? selMembersDao.getSeq() : 0L)    
+            .seq(0L)
             .id(membersDto.getId())
             .password(null)
             .nickname(membersDto.getNickname())
@@ -304,7 +573,7 @@ public class MembersService {
             .deregisterDate(null)
             .build();
 
-        return isRejoinMember ? update(singinMembersDao) : insert(singinMembersDao);
+        return insertOrRejoin(singinMembersDao);
     }
 
     /**
@@ -317,7 +586,7 @@ public class MembersService {
     public ApiResult<String> socialLogin(String id, String audience, boolean isKeepLoggedIn) {
         Objects.requireNonNull(id, "'id' is null!");
 
-        final MembersDao loginMemberDao = select(0L, id, null).getData();
+        final MembersDao loginMemberDao = selectAuthMember(id);
 
         // 회원 존재여부 검사
         ApiResult<?> tempRst = MembersUtil.checkMemberExist(loginMemberDao);
@@ -334,17 +603,20 @@ public class MembersService {
         final long expSec = isKeepLoggedIn
             ? Long.parseLong(env.getProperty(ENVKEY_MEMBER_JWT_EXPIRED_IN_MS_KEEPLOGGEDIN))
             : Long.parseLong(env.getProperty(ENVKEY_MEMBER_JWT_EXPIRED_IN_MS));
-        final ApiResult<String> rtRst = issueMemberJwt(id, audience, expSec);
+        final ApiResult<String> rtRst = issueMemberJwt(loginMemberDao, audience, expSec);
         if (rtRst.getResult() == false) {
             return ApiResult.of(tempRst, String.class)
                 .setCode(ResponseCode.MA_JWT_ISSUE_FAIL);
         }
 
-        // 로그인 일자 갱신
-        loginMemberDao.setLastLoginDate(Date.from(Instant.now()));
-        if ((tempRst = update(loginMemberDao)).getResult() == false) {
-            return ApiResult.of(tempRst, String.class)
-                .setCode(ResponseCode.MA_JWT_ISSUE_FAIL);
+        // 로그인 일자 갱신 (write-behind로 보관하지 못한 경우 즉시 수정)
+        final Instant loginTime = Instant.now();
+        if (lastLoginWriteBehindMgr.offer(loginMemberDao.getSeq(), loginTime.toEpochMilli()) == false) {
+            loginMemberDao.setLastLoginDate(Date.from(loginTime));
+            if ((tempRst = updateChanged(loginMemberDao)).getResult() == false) {
+                return ApiResult.of(tempRst, String.class)
+                    .setCode(ResponseCode.MA_JWT_ISSUE_FAIL);
+            }
         }
 
         return rtRst;
@@ -362,25 +634,29 @@ public class MembersService {
         Objects.requireNonNull(id, "'id' is null!");
         Objects.requireNonNull(password, "'password' is null!");
 
-        final MembersDao loginMemberDao = select(0L, id, null).getData();
+        final MembersDao loginMemberDao = selectLoginMember(id);
 
         // 회원 존재여부 검사
-        ApiResult<?> tempRst = MembersUtil.checkMemberExist(loginMemberDao);
-        if (tempRst.getResult() == false) {
-            return ApiResult.of(tempRst, String.class);
+        // [Note] 응답시간으로 회원 존재여부를 알 수 없도록, 회원이 없는 경우에도 같은 비용의 비밀번호 검증을 수행한다
+        if (loginMemberDao == null) {
+            passwordHashMgr.matchesDummy(password);
+            return ApiResult.of(false, String.class).setData(null)
+                .setCode(ResponseCode.M_NOT_EXIST_OR_WRONG_PW)
+                .setMessage("No such member!");
         }
 
         // 비밀번호 확인
+        ApiResult<?> tempRst = null;
         final String memberPw = loginMemberDao.getPassword();
         if (memberPw == null) {
             // 소셜 가입 후 비밀번호를 등록하지 않았으면 일반로그인 불가
+            passwordHashMgr.matchesDummy(password);
             return ApiResult.of(false, String.class).setData(null)
                 .setCode(ResponseCode.M_REQUIRE_PW_REGISTER)
                 .setMessage("Password is null! (id: " + loginMemberDao.getId() + ")");
         }
 
-        final String saltedPw = SecurityUtil.passwordSecureHashing(password, secureProps.getMemberPasswordServerSalt());
-        if ((tempRst = MembersUtil.checkMemberPassword(memberPw, saltedPw)).getResult() == false) {
+        if ((tempRst = checkPassword(memberPw, password)).getResult() == false) {
             return ApiResult.of(tempRst, String.class);
         }
 
@@ -389,21 +665,29 @@ public class MembersService {
             return ApiResult.of(tempRst, String.class).setData(null);
         }
 
+        // 이전 알고리즘/반복횟수의 비밀번호 해시는 현재 알고리즘으로 다시 해싱
+        if (passwordHashMgr.needsRehash(memberPw)) {
+            rehashPassword(loginMemberDao, password);
+        }
+
         // JWT 발급
         final long expSec = isKeepLoggedIn
             ? Long.parseLong(env.getProperty(ENVKEY_MEMBER_JWT_EXPIRED_IN_MS_KEEPLOGGEDIN))
             : Long.parseLong(env.getProperty(ENVKEY_MEMBER_JWT_EXPIRED_IN_MS));
-        final ApiResult<String> rtRst = issueMemberJwt(id, audience, expSec);
+        final ApiResult<String> rtRst = issueMemberJwt(loginMemberDao, audience, expSec);
         if (rtRst.getResult() == false) {
             return ApiResult.of(tempRst, String.class)
                 .setCode(ResponseCode.MA_JWT_ISSUE_FAIL);
         }
 
-        // 로그인 일자 갱신
-        loginMemberDao.setLastLoginDate(Date.from(Instant.now()));
-        if ((tempRst = update(loginMemberDao)).getResult() == false) {
-            return ApiResult.of(tempRst, String.class)
-                .setCode(ResponseCode.MA_JWT_ISSUE_FAIL);
+        // 로그인 일자 갱신 (write-behind로 보관하지 못한 경우 즉시 수정)
+        final Instant loginTime = Instant.now();
+        if (lastLoginWriteBehindMgr.offer(loginMemberDao.getSeq(), loginTime.toEpochMilli()) == false) {
+            loginMemberDao.setLastLoginDate(Date.from(loginTime));
+            if ((tempRst = updateChanged(loginMemberDao)).getResult() == false) {
+                return ApiResult.of(tempRst, String.class)
+                    .setCode(ResponseCode.MA_JWT_ISSUE_FAIL);
+            }
         }
 
         return rtRst;
@@ -415,13 +699,14 @@ public class MembersService {
      * @apiNote <code>ThreadStorage.get(TSKEY_JWT_MEMBERS_DAO)</code>값의 맴버를 조회합니다.
      */
     public ApiResult<SelectMemberInfoResDto> selectMemberBasicInfo() {
+        // [Note] 토큰 Claims로 구성된 회원 DAO는 일부 값만 갖고 있으므로 시퀀스로 다시 조회한다
         final MembersDao jwtMembersDao = (MembersDao) ThreadStorage.get(ControllerAop.TSKEY_JWT_MEMBERS_DAO);
-        return selectMemberBasicInfo(jwtMembersDao, 0L, null, null);
+        return selectMemberBasicInfo(null, jwtMembersDao.getSeq(), null, null);
     }
 
     /**
      * <p>멤버 정보를 조회하여 반환합니다.</p>
-     * @param membersDao : 조회 대상 멤버 DAO <code>(null -> select(seq, id, nickname)수행)</code>
+     * @param membersDao : 조회 대상 멤버 DAO <code>(null -> 시퀀스가 있다면 기본정보 컬럼만 조회, 그 외에는 select(seq, id, nickname)수행)</code>
      * @param seq : 조회대상 시퀀스 (optional)
      * @param id : 조회대상 아이디 (optional)
      * @param nickname : 조회대상 닉네임 (optional)
@@ -429,38 +714,155 @@ public class MembersService {
      */
     public ApiResult<SelectMemberInfoResDto> selectMemberBasicInfo(MembersDao membersDao, long seq, String id, String nickname) {
         final MembersDao jwtMembersDao = (MembersDao) ThreadStorage.get(ControllerAop.TSKEY_JWT_MEMBERS_DAO);
-        final MembersDao selMembersDao = (membersDao == null ? select(seq, id, nickname).getData() : membersDao);
+        final MembersDao selMembersDao = (membersDao != null ? membersDao :
+            (seq > 0L ? selectInfoMember(seq) : select(seq, id, nickname).getData()));
         final boolean isAdminAuthority = MembersUtil.checkMemberAuthority(jwtMembersDao, MembersCode.MEMBERS_AUTHORITY_MANAGER).getResult();
 
-        // 회원 존재여부 검사
-        ApiResult<?> tempRst = MembersUtil.checkMemberExist(selMembersDao);
+        // 회원 존재여부 및 요청자 권한 검사
+        final ApiResult<Void> tempRst = checkSelectableMember(jwtMembersDao, isAdminAuthority, selMembersDao);
         if (tempRst.getResult() == false) {
             return ApiResult.of(tempRst, SelectMemberInfoResDto.class);
         }
 
-        // 관리자 권한이 아닌 경우 추가 검사
-        if (isAdminAuthority == false) {
-            // 요청자 일치여부 검사
-            tempRst = MembersUtil.checkMemberSameSeq(jwtMembersDao, selMembersDao);
-            if (isAdminAuthority == false && tempRst.getResult() == false) {
-                return ApiResult.of(tempRst, SelectMemberInfoResDto.class);
+        // 조회결과 생성
+        final SelectMemberInfoResDto rtDto = makeSelectMemberInfoResDto(selMembersDao);
+        return ApiResult.of(true, SelectMemberInfoResDto.class).setCode(ResponseCode.A_SUCCESS).setData(rtDto);
+    }
+
+    /**
+     * <p>여러 회원의 기본정보를 한 번에 조회합니다.</p>
+     * @param seqs : 조회대상 시퀀스 목록 (nullable)
+     * @param ids : 조회대상 아이디 목록 (nullable)
+     * @return true: 조회 수행 <code>(data: 요청 순서와 같은 순서의 회원별 조회 결과)</code>
+     * <li>false: 요청 회원 수가 없거나 최대치<code>(member.select.max-batch)</code>를 초과한 경우</li>
+     * @apiNote 권한 검사는 {@link #selectMemberBasicInfo(MembersDao, long, String, String)}와 같이 회원별로 수행합니다.
+     * 캐시에 없는 회원들은 한 번의 쿼리<code>(selectInfoBySeqsOrIds)</code>로 조회합니다.
+     */
+    public ApiResult<SelectMembersInfoResDto> selectMemberBasicInfos(List<Long> seqs, List<String> ids) {
+        final List<Long> reqSeqs = (seqs == null ? Collections.emptyList() : seqs);
+        final List<String> reqIds = (ids == null ? Collections.emptyList() : ids);
+        final int reqCnt = reqSeqs.size() + reqIds.size();
+        final int maxBatch = Integer.parseInt(env.getProperty(ENVKEY_MEMBER_SELECT_MAX_BATCH, "100"));
+        if (reqCnt == 0 || reqCnt > maxBatch) {
+            return ApiResult.of(false, SelectMembersInfoResDto.class).setCode(ResponseCode.A_FAIL)
+                .setMessage("Invalid member count! (size: " + reqCnt + " / max: " + maxBatch + ")");
+        }
+
+        // 캐시 조회
+        final Map<Long, MembersDao> seqMemberMap = new HashMap<>();
+        final Map<String, MembersDao> idMemberMap = new HashMap<>(); // 소문자 아이디 -> 회원 (id 컬럼은 대소문자를 구분하지 않음)
+        final Set<Long> lookupSeqs = new LinkedHashSet<>();     // DB조회가 필요한 시퀀스 (중복제거)
+        final Set<String> lookupIds = new LinkedHashSet<>();    // DB조회가 필요한 소문자 아이디 (중복제거)
+
+        for (Long seq : reqSeqs) {
+            if (seq == null || seq <= 0L || seqMemberMap.containsKey(seq) || membersCacheMgr.isNegativeBySeq(seq)) {
+                continue;
+            }
+
+            final MembersDao cachedDao = membersCacheMgr.getBySeq(seq);
+            if (cachedDao != null) {
+                seqMemberMap.put(seq, cachedDao);
+            }
+            else if (lookupSeqs.add(seq)) {
+                membersCacheMgr.recordMiss();
+            }
+        }
+
+        for (String id : reqIds) {
+            if (StringUtil.isEmpty(id)) {
+                continue;
+            }
+
+            final String idKey = id.toLowerCase(Locale.ROOT);
+            if (idMemberMap.containsKey(idKey) || membersCacheMgr.isNegativeById(id)) {
+                continue;
+            }
+
+            final MembersDao cachedDao = membersCacheMgr.getById(id);
+            if (cachedDao != null) {
+                idMemberMap.put(idKey, cachedDao);
+            }
+            else if (lookupIds.add(idKey)) {
+                membersCacheMgr.recordMiss();
             }
         }
 
-        // 조회결과 생성
-        final SelectMemberInfoResDto rtDto = SelectMemberInfoResDto.builder()
-            .seq(selMembersDao.getSeq())
-            .id(selMembersDao.getId())
-            .name(selMembersDao.getName())
-            .nickname(selMembersDao.getNickname())
-            .status(MembersCode.getNameFromSeq(selMembersDao.getStatus()))
-            .authority(MembersCode.getNameFromSeq(selMembersDao.getAuthority()))
-            .authAgency(MembersCode.getNameFromSeq(selMembersDao.getAuthAgency()))
-            .joinDate(StringUtil.format(selMembersDao.getJoinDate()))
-            .lastLoginDate(StringUtil.format(selMembersDao.getLastLoginDate()))
+        // 남은 회원을 한 번의 쿼리로 조회
+        if (lookupSeqs.isEmpty() == false || lookupIds.isEmpty() == false) {
+            for (MembersInfoDao infoDao : membersMapper.selectInfoBySeqsOrIds(new ArrayList<>(lookupSeqs), new ArrayList<>(lookupIds))) {
+                final MembersDao membersDao = infoDao.toMembersDao();
+                seqMemberMap.put(membersDao.getSeq(), membersDao);
+                idMemberMap.put(membersDao.getId().toLowerCase(Locale.ROOT), membersDao);
+            }
+        }
+
+        // 회원별 권한 검사 및 조회결과 생성
+        final MembersDao jwtMembersDao = (MembersDao) ThreadStorage.get(ControllerAop.TSKEY_JWT_MEMBERS_DAO);
+        final boolean isAdminAuthority = MembersUtil.checkMemberAuthority(jwtMembersDao, MembersCode.MEMBERS_AUTHORITY_MANAGER).getResult();
+        final List<SelectMembersInfoResDto.Item> items = new ArrayList<>(reqCnt);
+
+        for (Long seq : reqSeqs) {
+            final MembersDao selMembersDao = (seq == null ? null : seqMemberMap.get(seq));
+            items.add(makeSelectMembersInfoItem(jwtMembersDao, isAdminAuthority, selMembersDao, seq, null));
+        }
+
+        for (String id : reqIds) {
+            final MembersDao selMembersDao = (id == null ? null : idMemberMap.get(id.toLowerCase(Locale.ROOT)));
+            items.add(makeSelectMembersInfoItem(jwtMembersDao, isAdminAuthority, selMembersDao, null, id));
+        }
+
+        final SelectMembersInfoResDto rtDto = SelectMembersInfoResDto.builder().members(items).build();
+        return ApiResult.of(true, SelectMembersInfoResDto.class).setCode(ResponseCode.A_SUCCESS).setData(rtDto);
+    }
+
+    /**
+     * <p>회원 목록을 시퀀스 오름차순으로 조회합니다. (매니저용)</p>
+     * @param cursor : 이전 페이지 응답의 <code>next_cursor</code> <code>(null -> 첫 페이지)</code>
+     * @param size : 페이지 크기 <code>(null -> member.list.default-size, 최대 member.list.max-size)</code>
+     * @param status : 회원 상태 필터 <code>(MembersCode 시퀀스, nullable)</code>
+     * @param authority : 권한 필터 <code>(MembersCode 시퀀스, nullable)</code>
+     * @param authAgency : 인증기관 필터 <code>(MembersCode 시퀀스, nullable)</code>
+     * @param joinDateFrom : 가입일자 시작 <code>(yyyy-MM-dd HH:mm:ss, UTC, 포함, nullable)</code>
+     * @param joinDateTo : 가입일자 끝 <code>(yyyy-MM-dd HH:mm:ss, UTC, 미포함, nullable)</code>
+     * @return true: 조회 성공 (data: {@link SelectMembersListResDto})<li>false: 커서나 가입일자 형식이 잘못된 경우</li>
+     * @apiNote OFFSET 대신 커서에 담긴 마지막 시퀀스 이후부터 조회하므로(keyset) 페이지 위치와 관계없이 비용이 같습니다.
+     */
+    public ApiResult<SelectMembersListResDto> selectMembersList(String cursor, Integer size,
+        Long status, Long authority, Long authAgency, String joinDateFrom, String joinDateTo) {
+        final long afterSeq;
+        final Instant joinDateFromInst;
+        final Instant joinDateToInst;
+        try {
+            afterSeq = decodeListCursor(cursor);
+            joinDateFromInst = parseListDate(joinDateFrom);
+            joinDateToInst = parseListDate(joinDateTo);
+        }
+        catch (IllegalArgumentException | DateTimeParseException e) {
+            return ApiResult.of(false, SelectMembersListResDto.class).setCode(ResponseCode.A_FAIL)
+                .setMessage("Invalid cursor or join date! (" + e.getMessage() + ")");
+        }
+
+        final int maxSize = Integer.parseInt(env.getProperty(ENVKEY_MEMBER_LIST_MAX_SIZE, "100"));
+        final int pageSize = Math.max(1, Math.min(maxSize,
+            (size != null ? size : Integer.parseInt(env.getProperty(ENVKEY_MEMBER_LIST_DEFAULT_SIZE, "20")))));
+
+        // [Note] 다음 페이지 존재여부 확인을 위해 한 건 더 조회한다
+        final List<MembersInfoDao> infoDaos = membersMapper.selectInfoList(
+            afterSeq, status, authority, authAgency, joinDateFromInst, joinDateToInst, pageSize + 1);
+        final boolean hasNext = (infoDaos.size() > pageSize);
+        final int rowCnt = Math.min(pageSize, infoDaos.size());
+
+        final List<SelectMemberInfoResDto> members = new ArrayList<>(rowCnt);
+        for (int i = 0; i < rowCnt; ++i) {
+            members.add(makeSelectMemberInfoResDto(infoDaos.get(i).toMembersDao()));
+        }
+
+        final SelectMembersListResDto rtDto = SelectMembersListResDto.builder()
+            .members(members)
+            .nextCursor(hasNext ? encodeListCursor(infoDaos.get(rowCnt - 1).getSeq()) : null)
             .build();
 
-        return ApiResult.of(true, SelectMemberInfoResDto.class).setCode(ResponseCode.A_SUCCESS).setData(rtDto);
+        return ApiResult.of(true, SelectMembersListResDto.class).setCode(ResponseCode.A_SUCCESS).setData(rtDto);
     }
 
     /**
@@ -474,57 +876,49 @@ public class MembersService {
      */
     public ApiResult<Void> updateMemberInfo(long seq, String oldPassword, String newPassword, String nickname, String name) {
         final MembersDao jwtMembersDao = (MembersDao) ThreadStorage.get(ControllerAop.TSKEY_JWT_MEMBERS_DAO);
-        final MembersDao selMembersDao = select(seq, null, null).getData();
         final boolean isAdminAuthority = MembersUtil.checkMemberAuthority(jwtMembersDao, MembersCode.MEMBERS_AUTHORITY_MANAGER).getResult();
 
-        // 회원 존재여부 검사
-        ApiResult<Void> tempRst = MembersUtil.checkMemberExist(selMembersDao);
-        if (tempRst.getResult() == false) {
-            return tempRst;
+        // 요청자 및 비밀번호 검사 (비밀번호 해싱은 비용이 크므로 버전 충돌로 재시도하기 전에 한 번만 수행)
+        final MembersDao selMembersDao = select(seq, null, null).getData();
+        final ApiResult<Void> chkRst = checkModifiableMember(jwtMembersDao, isAdminAuthority, selMembersDao, oldPassword);
+        if (chkRst.getResult() == false) {
+            return chkRst;
         }
 
-        // 관리자 권한이 아닌 경우 추가 검사
-        if (isAdminAuthority == false) {
-            // 요청자 일치여부 검사
-            tempRst = MembersUtil.checkMemberSameSeq(jwtMembersDao, selMembersDao);
+        final String newHashedPw = (newPassword == null ? null : passwordHashMgr.hash(newPassword));
+        final ApiResult<Void> updRst = updateWithRetry(selMembersDao, curMembersDao -> {
+            // 다시 조회한 회원 검사
+            final ApiResult<Void> tempRst = checkRetriedMember(isAdminAuthority, selMembersDao, curMembersDao);
             if (tempRst.getResult() == false) {
                 return tempRst;
             }
 
-            // 비밀번호 일치 검사
-            final String selPw = selMembersDao.getPassword();
-            final String inputPw = SecurityUtil.passwordSecureHashing(oldPassword, secureProps.getMemberPasswordServerSalt());
-            if ((tempRst = MembersUtil.checkMemberPassword(selPw, inputPw)).getResult() == false) {
-                return tempRst;
+            // 닉네임 중복검사
+            if (nickname != null) {
+                final MembersDao dupChkNicknameMembersDao = select(0L, null, nickname).getData();
+                if (dupChkNicknameMembersDao != null && curMembersDao.getSeq() != dupChkNicknameMembersDao.getSeq()) {
+                    return ApiResult.of(false)
+                        .setCode(ResponseCode.M_DUPLICATED_NICKNAME)
+                        .setMessage("Duplicated nickname! (nickname: " + nickname + ")");
+                }
             }
-        }
 
-        // 닉네임 중복검사
-        if (nickname != null) {
-            final MembersDao dupChkNicknameMembersDao = select(0L, null, nickname).getData();
-            if (dupChkNicknameMembersDao != null && selMembersDao.getSeq() != dupChkNicknameMembersDao.getSeq()) {
-                return ApiResult.of(false)
-                    .setCode(ResponseCode.M_DUPLICATED_NICKNAME)
-                    .setMessage("Duplicated nickname! (nickname: " + nickname + ")");
-            }
-        }
-
-        // 업데이트 수행 (변경할 값으로 null을 전달받은 경우 기존값을 그대로 사용)
-        final MembersDao updMembersDao = selMembersDao;
-        final String updPassword = 
-            (newPassword == null 
-                ? selMembersDao.getPassword()
-                : SecurityUtil.passwordSecureHashing(newPassword, secureProps.getMemberPasswordServerSalt()));
-        final String updNickname = Optional.ofNullable(nickname).orElse(selMembersDao.getNickname());
-        final String updName = Optional.ofNullable(name).orElse(selMembersDao.getName());
-
-        updMembersDao.setPassword(updPassword);
-        updMembersDao.setNickname(updNickname);
-        updMembersDao.setName(updName);
-        
-        if (membersMapper.update(updMembersDao) != 1) {
-            return ApiResult.of(false).setCode(ResponseCode.M_CHAGNE_INFO_FAILED)
-                .setMessage("Fail to update! (seq: " + seq + ")");
+            // 변경할 값 적용 (변경할 값으로 null을 전달받은 경우 기존값을 그대로 사용)
+            final String updPassword = Optional.ofNullable(newHashedPw).orElse(curMembersDao.getPassword());
+            final String updNickname = Optional.ofNullable(nickname).orElse(curMembersDao.getNickname());
+            final String updName = Optional.ofNullable(name).orElse(curMembersDao.getName());
+
+            curMembersDao.setPassword(updPassword);
+            curMembersDao.setNickname(updNickname);
+            curMembersDao.setName(updName);
+            return ApiResult.of(true);
+        });
+
+        // 업데이트 결과 (검사 실패나 버전 충돌은 결과코드를 그대로 반환)
+        if (updRst.getResult() == false) {
+            return (ResponseCode.DB_UPDATE_FAIL.equals(updRst.getCode())
+                ? ApiResult.of(false).setCode(ResponseCode.M_CHAGNE_INFO_FAILED).setMessage("Fail to update! (seq: " + seq + ")")
+                : updRst);
         }
 
         return ApiResult.of(true).setCode(ResponseCode.A_SUCCESS);
@@ -541,39 +935,489 @@ public class MembersService {
         Objects.requireNonNull(password, "'password' is null!");
         
         final MembersDao jwtMembersDao = (MembersDao) ThreadStorage.get(ControllerAop.TSKEY_JWT_MEMBERS_DAO);
-        final MembersDao selMembersDao = select(seq, null, null).getData();
         final boolean isAdminAuthority = MembersUtil.checkMemberAuthority(jwtMembersDao, MembersCode.MEMBERS_AUTHORITY_MANAGER).getResult();
 
+        // 요청자 및 비밀번호 검사 (버전 충돌로 재시도하기 전에 한 번만 수행)
+        final MembersDao selMembersDao = select(seq, null, null).getData();
+        final ApiResult<Void> chkRst = checkModifiableMember(jwtMembersDao, isAdminAuthority, selMembersDao, password);
+        if (chkRst.getResult() == false) {
+            return chkRst;
+        }
+
+        final ApiResult<Void> updRst = updateWithRetry(selMembersDao, curMembersDao -> {
+            // 다시 조회한 회원 검사
+            final ApiResult<Void> tempRst = checkRetriedMember(isAdminAuthority, selMembersDao, curMembersDao);
+            if (tempRst.getResult() == false) {
+                return tempRst;
+            }
+
+            // 탈퇴일자 적용
+            curMembersDao.setDeregisterDate(Date.from(Instant.now()));
+            return ApiResult.of(true);
+        });
+
+        // 업데이트 결과 (검사 실패나 버전 충돌은 결과코드를 그대로 반환)
+        if (updRst.getResult() == false) {
+            return (ResponseCode.DB_UPDATE_FAIL.equals(updRst.getCode())
+                ? ApiResult.of(false).setCode(ResponseCode.M_DEREGISTER_FAILED).setMessage("Fail to update! (seq: " + seq + ")")
+                : updRst);
+        }
+
+        return ApiResult.of(true).setCode(ResponseCode.A_SUCCESS);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // Private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>MemberJwt의 서명, 유효기간, 폐기여부를 검증합니다. 검증된 토큰은 캐시하여 서명검증 및 파싱을 생략합니다.</p>
+     * @param memberJwt : 검사할 <code>member_jwt</code>문자열
+     * @return 검증된 토큰의 캐시 항목
+     * @throws ApiException 토큰 검증에 실패하거나 폐기된 토큰인 경우
+     */
+    private MemberJwtCacheManager.CachedJwt verifyMemberJwt(String memberJwt) {
+        MemberJwtCacheManager.CachedJwt cachedJwt = memberJwtCacheMgr.get(memberJwt);
+        if (cachedJwt == null) {
+            cachedJwt = memberJwtCacheMgr.put(memberJwt, MemberJwtUtil.validate(memberJwt, memberJwtKeyringMgr.getKeyring(), null));
+        }
+
+        // 폐기여부 검사 (폐기되지 않은 토큰은 블룸필터에서 바로 판정됨)
+        final String jti = cachedJwt.getJws().getBody().getId();
+        if (memberJwtRevocationMgr.isRevoked(jti)) {
+            throw ApiException.of("폐기된 토큰입니다. 다시 로그인 해주세요.", "Revoked MemberJwt! (jti: " + jti + ")");
+        }
+
+        return cachedJwt;
+    }
+
+    /**
+     * <p>검증된 토큰의 사용처를 요청 사용처와 비교합니다. 판정결과는 토큰별로 캐시합니다.</p>
+     * @param cachedJwt : 검증된 토큰의 캐시 항목
+     * @param audience : 요청 사용처
+     * @return true: 사용 가능<li>false: 사용 불가</li>
+     */
+    private boolean checkAudience(MemberJwtCacheManager.CachedJwt cachedJwt, String audience) {
+        Boolean isSameAud = cachedJwt.getAudienceVerdict(audience);
+        if (isSameAud == null) {
+            isSameAud = isSameAudience(cachedJwt.getJws().getBody().get(Claims.AUDIENCE), audience);
+            cachedJwt.putAudienceVerdict(audience, isSameAud);
+        }
+        return isSameAud;
+    }
+
+    /**
+     * <p>회원 DAO로 기본정보 조회결과를 생성합니다.</p>
+     */
+    private static SelectMemberInfoResDto makeSelectMemberInfoResDto(MembersDao membersDao) {
+        // [Note] 로그인한 적 없는 회원은 마지막 로그인 일자가 없다
+        final java.util.Date lastLoginDate = membersDao.getLastLoginDate();
+        return SelectMemberInfoResDto.builder()
+            .seq(membersDao.getSeq())
+            .id(membersDao.getId())
+            .name(membersDao.getName())
+            .nickname(membersDao.getNickname())
+            .status(MembersCode.getNameFromSeq(membersDao.getStatus()))
+            .authority(MembersCode.getNameFromSeq(membersDao.getAuthority()))
+            .authAgency(MembersCode.getNameFromSeq(membersDao.getAuthAgency()))
+            .joinDate(StringUtil.format(membersDao.getJoinDate()))
+            .lastLoginDate(lastLoginDate == null ? null : StringUtil.format(lastLoginDate))
+            .build();
+    }
+
+    /**
+     * <p>목록 조회의 마지막 시퀀스를 커서 문자열로 변환합니다.</p>
+     * @apiNote 단위 테스트를 위해 package-private입니다.
+     */
+    static String encodeListCursor(long lastSeq) {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((LIST_CURSOR_PREFIX + lastSeq).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p>커서 문자열에서 마지막 시퀀스를 얻습니다.</p>
+     * @return 마지막 시퀀스, 커서가 없다면 0.
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     * @apiNote 단위 테스트를 위해 package-private입니다.
+     */
+    static long decodeListCursor(String cursor) {
+        if (StringUtil.isEmpty(cursor)) {
+            return 0L;
+        }
+
+        final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (decoded.startsWith(LIST_CURSOR_PREFIX) == false) {
+            throw new IllegalArgumentException("Unknown cursor format!");
+        }
+        return Math.max(0L, Long.parseLong(decoded.substring(LIST_CURSOR_PREFIX.length())));
+    }
+
+    /**
+     * <p>'yyyy-MM-dd HH:mm:ss'(UTC) 문자열을 변환합니다. {@link StringUtil#format(java.util.Date)}의 역변환입니다.</p>
+     * @return 변환된 시간, 문자열이 없다면 null.
+     */
+    private static Instant parseListDate(String date) {
+        if (StringUtil.isEmpty(date)) {
+            return null;
+        }
+        return Instant.parse(date.trim().replace(' ', 'T') + "Z");
+    }
+
+    /**
+     * <p>회원 존재여부와 요청자 권한을 검사하여 일괄 조회의 회원별 결과를 생성합니다.</p>
+     */
+    private static SelectMembersInfoResDto.Item makeSelectMembersInfoItem(
+        MembersDao jwtMembersDao, boolean isAdminAuthority, MembersDao selMembersDao, Long seq, String id) {
+        final ApiResult<Void> tempRst = checkSelectableMember(jwtMembersDao, isAdminAuthority, selMembersDao);
+        if (tempRst.getResult() == false) {
+            return SelectMembersInfoResDto.Item.builder().seq(seq).id(id).code(tempRst.getCode()).build();
+        }
+
+        return SelectMembersInfoResDto.Item.builder()
+            .seq(seq)
+            .id(id)
+            .code(ResponseCode.A_SUCCESS)
+            .member(makeSelectMemberInfoResDto(selMembersDao))
+            .build();
+    }
+
+    /**
+     * <p>요청자가 회원정보를 조회할 수 있는지 검사합니다.</p>
+     * 관리자가 아닌 요청자는 본인만 조회할 수 있으며, 다른 회원의 존재여부를 알 수 없도록
+     * 존재하지 않는 회원과 다른 회원 모두 같은 결과<code>(M_NO_PERMISSION)</code>를 받습니다.
+     * @return true: 조회 가능<li>false: 회원이 없거나<code>(관리자만 구분하여 받음)</code> 권한이 없는 경우</li>
+     */
+    private static ApiResult<Void> checkSelectableMember(MembersDao jwtMembersDao, boolean isAdminAuthority, MembersDao selMembersDao) {
+        if (isAdminAuthority) {
+            return MembersUtil.checkMemberExist(selMembersDao);
+        }
+
+        // [Note] 메시지에도 조회대상의 시퀀스를 담지 않아야 존재여부가 드러나지 않는다
+        if (jwtMembersDao == null || selMembersDao == null || jwtMembersDao.getSeq() != selMembersDao.getSeq()) {
+            return ApiResult.of(false).setCode(ResponseCode.M_NO_PERMISSION).setMessage("No permissions!");
+        }
+        return ApiResult.of(true);
+    }
+
+    /**
+     * <p>쿼리 예외가 유니크키 위반(중복)인 경우 위반한 키 이름을 얻습니다.</p>
+     * @return 위반한 키 이름 <code>("Duplicate entry '...' for key 'nickname'" -> "nickname")</code>,
+     * 키 이름을 알 수 없다면 빈 문자열, 유니크키 위반이 아니라면 null.
+     */
+    private static String findDuplicatedKeyName(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if ((cause instanceof SQLException && ((SQLException) cause).getErrorCode() == MYSQL_ER_DUP_ENTRY) ||
+                cause instanceof DuplicateKeyException) {
+                final Matcher matcher = DUPLICATED_KEY_PATTERN.matcher(String.valueOf(cause.getMessage()));
+                return (matcher.find() ? matcher.group(1) : "");
+            }
+        }
+        return null;
+    }
+
+    private static IntrospectMemberJwtResDto.Verdict makeInactiveVerdict(String code) {
+        return IntrospectMemberJwtResDto.Verdict.builder().active(false).code(code).build();
+    }
+
+    private static IntrospectMemberJwtResDto.Verdict makeActiveVerdict(MembersDao membersDao, Claims claims) {
+        return IntrospectMemberJwtResDto.Verdict.builder()
+            .active(true)
+            .code(ResponseCode.MA_SUCCESS)
+            .seq(membersDao.getSeq())
+            .id(membersDao.getId())
+            .status(MembersCode.getNameFromSeq(membersDao.getStatus()))
+            .authority(MembersCode.getNameFromSeq(membersDao.getAuthority()))
+            .exp(claims.getExpiration() == null ? null : claims.getExpiration().getTime() / 1000L)
+            .build();
+    }
+
+    /**
+     * <p>토큰의 회원 상태/권한/보안버전이 로컬에서 확인된 값과 같은 경우 Claims로 회원 DAO를 구성합니다.</p>
+     * @param claims : 검증된 토큰의 Claims
+     * @return Claims로 구성된 회원 DAO<code>(seq, id, status, authority)</code>, DB조회가 필요하다면 null.
+     */
+    private MembersDao makeVerifiedMembersDao(Claims claims) {
+        if (memberSecVerMgr.isEnabled() == false) {
+            return null;
+        }
+
+        final Object seqObj = claims.get(MemberJwtUtil.CLAIM_KEY_MEMBER_SEQ);
+        final Object statusObj = claims.get(MemberJwtUtil.CLAIM_KEY_MEMBER_STATUS);
+        final Object authorityObj = claims.get(MemberJwtUtil.CLAIM_KEY_MEMBER_AUTHORITY);
+        final Object secVerObj = claims.get(MemberJwtUtil.CLAIM_KEY_MEMBER_SEC_VER);
+        if ((seqObj instanceof Number && statusObj instanceof Number &&
+             authorityObj instanceof Number && secVerObj instanceof Number) == false) {
+            return null; // 회원 Claims가 없는 토큰
+        }
+
+        final String id = claims.getSubject();
+        final long status = ((Number) statusObj).longValue();
+        final long authority = ((Number) authorityObj).longValue();
+        if (memberSecVerMgr.isVerified(id, ((Number) secVerObj).longValue(), status, authority) == false) {
+            return null;
+        }
+
+        return MembersDao.builder()
+            .seq(((Number) seqObj).longValue())
+            .id(id)
+            .status(status)
+            .authority(authority)
+            .build();
+    }
+
+    /**
+     * <p>입력한 비밀번호가 회원의 비밀번호 해시와 일치하는지 검사합니다.</p>
+     * @param originPw : 회원의 비밀번호 해시 (nullable, null인 경우 검사하지 않음)
+     * @param inputPw : 입력한 평문 비밀번호
+     * @return true: 일치<li>false: 불일치 <code>(M_NOT_EXIST_OR_WRONG_PW)</code></li>
+     * @apiNote 해싱은 {@link PasswordHashManager}의 스레드풀에서 수행됩니다.
+     */
+    private ApiResult<Void> checkPassword(String originPw, String inputPw) {
+        // [Note] 비밀번호 전달 혹은 로깅으로 인한 외부 노출이 발생하지 않도록 각별히 주의해야 합니다.
+        if (originPw == null) {
+            return ApiResult.of(true);
+        }
+
+        Objects.requireNonNull(inputPw, "'inputPw' is null!");
+        if (passwordHashMgr.matches(inputPw, originPw) == false) {
+            return ApiResult.of(false)
+                .setCode(ResponseCode.M_NOT_EXIST_OR_WRONG_PW)
+                .setMessage("Wrong password!");
+        }
+
+        return ApiResult.of(true);
+    }
+
+    /**
+     * <p>로그인에 성공한 회원의 비밀번호를 현재 알고리즘으로 다시 해싱하여 저장합니다.</p>
+     * 조회 이후 비밀번호가 바뀐 경우에는 저장하지 않으며, 실패하더라도 로그인은 계속 진행합니다. (다음 로그인 시 재시도)
+     * @param membersDao : 로그인한 회원 (기존 비밀번호 해시 포함)
+     * @param password : 로그인에 사용한 평문 비밀번호
+     */
+    private void rehashPassword(MembersDao membersDao, String password) {
+        try {
+            final String newPw = passwordHashMgr.hash(password);
+            if (membersMapper.updatePasswordIfUnchanged(membersDao.getSeq(), membersDao.getPassword(), newPw) != 0) {
+                membersCacheMgr.invalidate(membersDao.getSeq(), membersDao.getId(), membersDao.getNickname());
+            }
+        }
+        catch (RuntimeException e) {
+            logger.warn("Fail to rehash password. Retry on next login. (seq: {} / msg: {})", membersDao.getSeq(), e.getMessage());
+        }
+    }
+
+    /**
+     * <p>회원 정보 중 값이 바뀐 컬럼만 수정합니다.</p>
+     * @param membersDao : 수정할 회원 정보 (조회 후 setter로 값을 바꾼 DAO)
+     * @param isVersionChecked : 버전 검사 여부 <code>(true -> 버전이 같은 경우에만 수정하고 버전을 1 증가)</code>
+     */
+    private ApiResult<Void> updateChanged(MembersDao membersDao, boolean isVersionChecked) {
+        Objects.requireNonNull(membersDao, "'membersDao' is null!");
+        if (membersDao.isChanged() == false) {
+            return ApiResult.of(true).setCode(ResponseCode.DB_SUCCESS);
+        }
+
+        final Set<String> changedColumns = membersDao.getChangedColumns();
+        final boolean isSecurityChanged = (changedColumns.contains(MembersDao.COL_ID) ||
+            changedColumns.contains(MembersDao.COL_STATUS) ||
+            changedColumns.contains(MembersDao.COL_AUTHORITY) ||
+            changedColumns.contains(MembersDao.COL_DEREGISTER_DATE));
+
+        final boolean rtRst = (isVersionChecked
+            ? membersMapper.updateChangedWithVersion(membersDao)
+            : membersMapper.updateChanged(membersDao)) != 0;
+        membersCacheMgr.invalidate(membersDao.getSeq(), membersDao.getId(), membersDao.getNickname());
+        if (isSecurityChanged) {
+            memberSecVerMgr.touch(membersDao.getId()); // 상태/권한이 바뀌었으므로 다음 검증 시 DB 재확인
+        }
+        if (rtRst) {
+            membersDao.clearChangedColumns();
+            if (isVersionChecked) {
+                membersDao.setVersion(membersDao.getVersion() + 1L);
+            }
+        }
+
+        final String failCode = (isVersionChecked ? ResponseCode.M_CONFLICTED_UPDATE : ResponseCode.DB_UPDATE_FAIL);
+        return ApiResult.of(rtRst).setCode(rtRst ? ResponseCode.DB_SUCCESS : failCode)
+            .setMessage(rtRst ? null : "Fail to update member. (seq: " + membersDao.getSeq() + ", version: " + membersDao.getVersion() + ")");
+    }
+
+    /**
+     * <p>회원정보 수정/탈퇴 요청자를 검사합니다. 관리자가 아니라면 본인 여부와 비밀번호를 검사합니다.</p>
+     * @param jwtMembersDao : 요청자
+     * @param isAdminAuthority : 요청자의 관리자 권한 여부
+     * @param selMembersDao : 수정할 회원 (nullable)
+     * @param password : 입력한 평문 비밀번호
+     * @return true: 수정 가능<li>false: 수정 불가</li>
+     */
+    private ApiResult<Void> checkModifiableMember(MembersDao jwtMembersDao, boolean isAdminAuthority, MembersDao selMembersDao, String password) {
         // 회원 존재여부 검사
         ApiResult<Void> tempRst = MembersUtil.checkMemberExist(selMembersDao);
+        if (tempRst.getResult() == false || isAdminAuthority) {
+            return tempRst;
+        }
+
+        // 요청자 일치여부 검사
+        tempRst = MembersUtil.checkMemberSameSeq(jwtMembersDao, selMembersDao);
         if (tempRst.getResult() == false) {
             return tempRst;
         }
 
-        // 관리자 권한이 아닌 경우 추가 검사
-        if (isAdminAuthority == false) {
-            // 요청자 일치여부 검사
-            tempRst = MembersUtil.checkMemberSameSeq(jwtMembersDao, selMembersDao);
-            if (tempRst.getResult() == false) {
-                return tempRst;
+        // 비밀번호 일치 검사
+        return checkPassword(selMembersDao.getPassword(), password);
+    }
+
+    /**
+     * <p>버전 충돌 후 다시 조회한 회원을 검사합니다.</p>
+     * 관리자가 아닌 경우 비밀번호는 처음 조회한 회원으로 검증했으므로, 그 사이 비밀번호가 바뀌었다면 충돌로 처리합니다.
+     * @param isAdminAuthority : 요청자의 관리자 권한 여부
+     * @param verifiedMembersDao : 처음 조회하여 검사한 회원
+     * @param curMembersDao : 다시 조회한 회원 (nullable)
+     * @return true: 수정 가능<li>false: 회원이 없거나 <code>M_CONFLICTED_UPDATE</code></li>
+     */
+    private static ApiResult<Void> checkRetriedMember(boolean isAdminAuthority, MembersDao verifiedMembersDao, MembersDao curMembersDao) {
+        final ApiResult<Void> tempRst = MembersUtil.checkMemberExist(curMembersDao);
+        if (tempRst.getResult() == false) {
+            return tempRst;
+        }
+
+        if (isAdminAuthority == false && Objects.equals(verifiedMembersDao.getPassword(), curMembersDao.getPassword()) == false) {
+            return ApiResult.of(false)
+                .setCode(ResponseCode.M_CONFLICTED_UPDATE)
+                .setMessage("Password changed during update! (seq: " + curMembersDao.getSeq() + ")");
+        }
+
+        return ApiResult.of(true);
+    }
+
+    /**
+     * <p>조회된 회원을 수정합니다. 버전 충돌 시 최신 회원정보를 다시 조회하여 재시도합니다. (최대 <code>member.update.max-retry</code>회)</p>
+     * @param selMembersDao : 조회하여 검사를 마친 회원 (not null)
+     * @param modifier : 회원(재시도 시 다시 조회된 회원, 없다면 null)을 검사하고 setter로 값을 바꾸는 함수
+     * <code>(실패를 반환하면 수정하지 않고 그 결과를 반환)</code>
+     * @return true: 수정 성공<li>false: <code>modifier</code>의 실패 결과, 또는 재시도 후에도 충돌한 경우 <code>M_CONFLICTED_UPDATE</code></li>
+     * @apiNote 행 잠금 없이 동시 수정으로 인한 변경 유실을 막습니다. 재시도는 조회-수정-저장만 반복하므로,
+     * 비밀번호 검증처럼 비용이 큰 검사는 호출 전에 한 번만 수행합니다.
+     */
+    private ApiResult<Void> updateWithRetry(MembersDao selMembersDao, Function<MembersDao, ApiResult<Void>> modifier) {
+        final int maxRetry = Math.max(0, Integer.parseInt(env.getProperty(ENVKEY_MEMBER_UPDATE_MAX_RETRY, "3")));
+        final long seq = selMembersDao.getSeq();
+        ApiResult<Void> updRst = null;
+        for (int tryCnt = 0; tryCnt <= maxRetry; ++tryCnt) {
+            // [Note] 충돌 후에는 캐시를 거치지 않고 최신 회원정보를 조회한다
+            final MembersDao curMembersDao = (tryCnt == 0 ? selMembersDao : membersMapper.select(seq));
+            final ApiResult<Void> modifyRst = modifier.apply(curMembersDao);
+            if (modifyRst.getResult() == false) {
+                return modifyRst;
             }
 
-            // 비밀번호 일치 검사
-            final String selPw = selMembersDao.getPassword();
-            final String inputPw = SecurityUtil.passwordSecureHashing(password, secureProps.getMemberPasswordServerSalt());
-            if ((tempRst = MembersUtil.checkMemberPassword(selPw, inputPw)).getResult() == false) {
-                return tempRst;
+            updRst = updateChangedWithVersion(curMembersDao);
+            if (ResponseCode.M_CONFLICTED_UPDATE.equals(updRst.getCode()) == false) {
+                return updRst;
             }
         }
 
-        // 업데이트 수행
-        selMembersDao.setDeregisterDate(Date.from(Instant.now()));
+        return updRst;
+    }
+
+    /**
+     * <p>인증 확인용 회원정보<code>(seq, id, status, authority, deregister_date)</code>를 조회합니다.</p>
+     * 캐시에 보관된 회원은 DB조회 없이 반환하며, 그 외에는 필요한 컬럼만 조회하여 캐시합니다<code>(selectAuthById)</code>.
+     * @param id : 회원 아이디
+     * @return 회원 DAO (조회한 컬럼만 채워짐), 회원이 없다면 null.
+     */
+    private MembersDao selectAuthMember(String id) {
+        final long cacheGen = membersCacheMgr.getGeneration();
+        final MembersDao cachedDao = membersCacheMgr.getById(id);
+        if (cachedDao != null || membersCacheMgr.isNegativeById(id)) {
+            return cachedDao;
+        }
+
+        final MembersDao projectionDao = membersCacheMgr.getProjectionById(Projection.AUTH, id);
+        if (projectionDao != null) {
+            return projectionDao;
+        }
 
-        if (membersMapper.update(selMembersDao) != 1) {
-            return ApiResult.of(false).setCode(ResponseCode.M_DEREGISTER_FAILED)
-                .setMessage("Fail to update! (seq: " + seq + ")");
+        membersCacheMgr.recordMiss();
+        final MembersAuthDao authDao = membersMapper.selectAuthById(id);
+        if (authDao == null) {
+            membersCacheMgr.putNegative(0L, id, null, cacheGen);
+            return null;
         }
 
-        return ApiResult.of(true).setCode(ResponseCode.A_SUCCESS);
+        final MembersDao rtDao = authDao.toMembersDao();
+        membersCacheMgr.putProjection(Projection.AUTH, rtDao, cacheGen);
+        return rtDao;
+    }
+
+    /**
+     * <p>일반 로그인 확인용 회원정보<code>(seq, id, password, status, authority, deregister_date)</code>를 조회합니다.</p>
+     * 캐시에 보관된 회원은 DB조회 없이 반환하며, 그 외에는 필요한 컬럼만 조회하여 캐시합니다<code>(selectLoginById)</code>.
+     * @param id : 회원 아이디
+     * @return 회원 DAO (조회한 컬럼만 채워짐), 회원이 없다면 null.
+     */
+    private MembersDao selectLoginMember(String id) {
+        final long cacheGen = membersCacheMgr.getGeneration();
+        final MembersDao cachedDao = membersCacheMgr.getById(id);
+        if (cachedDao != null || membersCacheMgr.isNegativeById(id)) {
+            return cachedDao;
+        }
+
+        final MembersDao projectionDao = membersCacheMgr.getProjectionById(Projection.LOGIN, id);
+        if (projectionDao != null) {
+            return projectionDao;
+        }
+
+        membersCacheMgr.recordMiss();
+        final MembersLoginDao loginDao = membersMapper.selectLoginById(id);
+        if (loginDao == null) {
+            membersCacheMgr.putNegative(0L, id, null, cacheGen);
+            return null;
+        }
+
+        final MembersDao rtDao = loginDao.toMembersDao();
+        membersCacheMgr.putProjection(Projection.LOGIN, rtDao, cacheGen);
+        return rtDao;
+    }
+
+    /**
+     * <p>회원 기본정보<code>(비밀번호, 탈퇴일자 제외)</code>를 조회합니다.</p>
+     * 캐시에 보관된 회원은 DB조회 없이 반환하며, 그 외에는 필요한 컬럼만 조회하여 캐시합니다<code>(selectInfo)</code>.
+     * @param seq : 회원 시퀀스
+     * @return 회원 DAO (조회한 컬럼만 채워짐), 회원이 없다면 null.
+     */
+    private MembersDao selectInfoMember(long seq) {
+        final long cacheGen = membersCacheMgr.getGeneration();
+        final MembersDao cachedDao = membersCacheMgr.getBySeq(seq);
+        if (cachedDao != null || membersCacheMgr.isNegativeBySeq(seq)) {
+            return cachedDao;
+        }
+
+        final MembersDao projectionDao = membersCacheMgr.getProjectionBySeq(Projection.INFO, seq);
+        if (projectionDao != null) {
+            return projectionDao;
+        }
+
+        membersCacheMgr.recordMiss();
+        final MembersInfoDao infoDao = membersMapper.selectInfo(seq);
+        if (infoDao == null) {
+            membersCacheMgr.putNegative(seq, null, null, cacheGen);
+            return null;
+        }
+
+        final MembersDao rtDao = infoDao.toMembersDao();
+        membersCacheMgr.putProjection(Projection.INFO, rtDao, cacheGen);
+        return rtDao;
+    }
+
+    /**
+     * <p>토큰의 사용처와 요청 사용처를 비교합니다.</p>
+     * @param jwtAud : 토큰의 사용처(aud), 문자열 또는 문자열 목록
+     * @param audience : 요청 사용처
+     * @return true: 사용 가능<li>false: 사용 불가</li>
+     * @see AudienceMatcher
+     */
+    private boolean isSameAudience(Object jwtAud, String audience) {
+        return AudienceMatcher.matches(jwtAud, audience);
     }
 }
\ No newline at end of file
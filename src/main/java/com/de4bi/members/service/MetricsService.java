@@ -0,0 +1,113 @@
+package com.de4bi.members.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.de4bi.common.data.ApiResult;
+import com.de4bi.members.controller.dto.DataSourceMetricsResDto;
+import com.de4bi.members.controller.dto.InvocationMetricsResDto;
+import com.de4bi.members.controller.dto.PasswordHashMetricsResDto;
+import com.de4bi.members.data.code.ResponseCode;
+import com.de4bi.members.manager.DataSourceMetricsManager;
+import com.de4bi.members.manager.InvocationMetricsManager;
+import com.de4bi.members.manager.InvocationMetricsManager.Layer;
+import com.de4bi.members.manager.PasswordHashManager;
+
+import org.springframework.stereotype.Service;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * 서버 상태 지표에 대한 서비스입니다.
+ */
+@AllArgsConstructor
+@Service
+public class MetricsService {
+
+    ////////////////////////////////////////////////////////////////
+    // Fields
+    ////////////////////////////////////////////////////////////////
+
+    private final DataSourceMetricsManager dataSourceMetricsMgr;
+    private final PasswordHashManager passwordHashMgr;
+    private final InvocationMetricsManager invocationMetricsMgr;
+
+    ////////////////////////////////////////////////////////////////
+    // Public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * <p>커넥션 풀의 상태와 커넥션 획득/사용/생성 시간 분포를 조회합니다.</p>
+     * @return true: 조회 성공 (data: {@link DataSourceMetricsResDto})
+     */
+    public ApiResult<DataSourceMetricsResDto> selectDataSourceMetrics() {
+        final DataSourceMetricsResDto resDto = DataSourceMetricsResDto.builder()
+            .poolName(dataSourceMetricsMgr.getPoolName())
+            .activeConnections(dataSourceMetricsMgr.getActiveConnections())
+            .idleConnections(dataSourceMetricsMgr.getIdleConnections())
+            .pendingThreads(dataSourceMetricsMgr.getPendingThreads())
+            .totalConnections(dataSourceMetricsMgr.getTotalConnections())
+            .maxConnections(dataSourceMetricsMgr.getMaxConnections())
+            .minConnections(dataSourceMetricsMgr.getMinConnections())
+            .timeoutCount(dataSourceMetricsMgr.getTimeoutCount())
+            .acquire(dataSourceMetricsMgr.getAcquireSnapshot())
+            .usage(dataSourceMetricsMgr.getUsageSnapshot())
+            .creation(dataSourceMetricsMgr.getCreationSnapshot())
+            .build();
+
+        return ApiResult.of(true, DataSourceMetricsResDto.class).setCode(ResponseCode.A_SUCCESS).setData(resDto);
+    }
+
+    /**
+     * <p>비밀번호 해싱 스레드풀의 상태와 대기/해싱시간 분포를 조회합니다.</p>
+     * @return true: 조회 성공 (data: {@link PasswordHashMetricsResDto})
+     */
+    public ApiResult<PasswordHashMetricsResDto> selectPasswordHashMetrics() {
+        final PasswordHashMetricsResDto resDto = PasswordHashMetricsResDto.builder()
+            .iterations(passwordHashMgr.getIterations())
+            .threads(passwordHashMgr.getThreads())
+            .activeCount(passwordHashMgr.getActiveCount())
+            .queuedCount(passwordHashMgr.getQueuedCount())
+            .rejectCount(passwordHashMgr.getRejectCount())
+            .timeoutCount(passwordHashMgr.getTimeoutCount())
+            .queueWait(passwordHashMgr.getQueueWaitSnapshot())
+            .hashTime(passwordHashMgr.getHashTimeSnapshot())
+            .build();
+
+        return ApiResult.of(true, PasswordHashMetricsResDto.class).setCode(ResponseCode.A_SUCCESS).setData(resDto);
+    }
+
+    /**
+     * <p>Controller/Service/Mapper 메서드의 (결과코드별) 호출 소요시간 분포와 처리량을 조회합니다.</p>
+     * @return true: 조회 성공 (data: {@link InvocationMetricsResDto})
+     */
+    public ApiResult<InvocationMetricsResDto> selectInvocationMetrics() {
+        final long uptimeMs = invocationMetricsMgr.getUptimeMs();
+        final InvocationMetricsResDto resDto = InvocationMetricsResDto.builder()
+            .uptimeMs(uptimeMs)
+            .controllers(makeInvocationMetricsItems(Layer.CONTROLLER, uptimeMs))
+            .services(makeInvocationMetricsItems(Layer.SERVICE, uptimeMs))
+            .mappers(makeInvocationMetricsItems(Layer.MAPPER, uptimeMs))
+            .build();
+
+        return ApiResult.of(true, InvocationMetricsResDto.class).setCode(ResponseCode.A_SUCCESS).setData(resDto);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // Private methods
+    ////////////////////////////////////////////////////////////////
+
+    private List<InvocationMetricsResDto.Item> makeInvocationMetricsItems(Layer layer, long uptimeMs) {
+        final List<InvocationMetricsManager.Stat> stats = invocationMetricsMgr.getStats(layer);
+        final List<InvocationMetricsResDto.Item> rtList = new ArrayList<>(stats.size());
+        for (InvocationMetricsManager.Stat stat : stats) {
+            rtList.add(InvocationMetricsResDto.Item.builder()
+                .signature(stat.getSignature())
+                .code(stat.getCode())
+                .throughput(uptimeMs <= 0L ? 0.0d : stat.getLatency().getCount() * 1000.0d / uptimeMs)
+                .latency(stat.getLatency())
+                .build());
+        }
+        return rtList;
+    }
+}
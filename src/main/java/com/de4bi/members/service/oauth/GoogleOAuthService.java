@@ -15,6 +15,7 @@ import java.util.Objects;
 import com.de4bi.common.data.ApiResult;
 import com.de4bi.common.exception.ApiException;
 import com.de4bi.common.util.CipherUtil;
+import com.de4bi.common.util.IdUtil;
 import com.de4bi.common.util.JsonUtil;
 import com.de4bi.common.util.JwtUtil;
 import com.de4bi.common.util.RestHttpUtil;
@@ -26,7 +27,6 @@ import com.de4bi.members.spring.BootApplication;
 import com.de4bi.members.spring.SecureProperties;
 
 import org.apache.commons.codec.binary.Hex;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.tomcat.util.buf.HexUtils;
 
 import org.springframework.http.MediaType;
@@ -199,7 +199,7 @@ public class GoogleOAuthService implements IOAuthService {
      */
     @Override public ApiResult<String> makeLoginUrlForAuthCode(String returnParam, Object extObj) {
         final StringBuilder rtSb = new StringBuilder(256);
-        final String nonce = RandomStringUtils.randomAlphanumeric(32);
+        final String nonce = IdUtil.newNonce(32);
         final String state = makeState(returnParam, nonce).getData(); // {returnParam}:{sign}
 
         rtSb.append(OAUTH_CODE_URL).append("?client_id=").append(secureProperties.getGoogleOauthClientId())
@@ -1,14 +1,19 @@
 package com.de4bi.members.spring;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 import javax.sql.DataSource;
 
+import com.de4bi.members.manager.DataSourceMetricsManager;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.annotation.MapperScan;
-import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -24,6 +29,9 @@ import lombok.AllArgsConstructor;
  * mybatis연동을 위해 apllication.properties에서 설정값을
  * 읽는 코드와, DataSource를 생성하기 위해 SecureProperties로부터
  * DB접속 정보들을 읽어오는 부분으로 구성되어 있습니다.
+ * DataSource는 커넥션 풀(HikariCP)이며, 풀 크기/시간제한과 MariaDB 드라이버의
+ * PreparedStatement 캐시 설정은 application.properties의 {@code datasource.*}값을 사용합니다.
+ * SecureProperties에 복제본 URL이 설정된 경우, 조회 쿼리를 복제본으로 보내는 {@link ReplicaRoutingDataSource}를 사용합니다.
  */
 @AllArgsConstructor
 @Configuration
@@ -34,18 +42,42 @@ public class DataSourceConfig {
 
     private final SecureProperties secureProperties;
     private final Environment applicationProperties;
+    private final DataSourceMetricsManager dataSourceMetricsMgr;
 
-    @Bean
+    @Bean(destroyMethod = "close")
     @Primary
     public DataSource customDataSource() {
-        return DataSourceBuilder.create()
-            .driverClassName(secureProperties.getDataSourceDriverClassName())
-            .url(secureProperties.getDataSoruceUrl())
-            .username(secureProperties.getDataSoruceUserName())
-            .password(secureProperties.getDataSorucePassword())
-            .build();
+        // 주 DB (풀 상태 및 커넥션 획득/사용시간 수집)
+        final HikariConfig primaryConfig = makeHikariConfig(
+            applicationProperties.getProperty("datasource.pool.name", "de4bi-members-pool"),
+            secureProperties.getDataSoruceUrl());
+        primaryConfig.setMetricsTrackerFactory(dataSourceMetricsMgr);
+        final HikariDataSource primary = new HikariDataSource(primaryConfig);
+
+        // 읽기 전용 복제본 (설정되지 않은 경우 주 DB만 사용)
+        final List<HikariDataSource> replicas = new ArrayList<>();
+        for (String replicaUrl : secureProperties.getDataSourceReplicaUrls().split(",")) {
+            if (replicaUrl.trim().isEmpty()) {
+                continue;
+            }
+
+            final HikariConfig replicaConfig = makeHikariConfig(primaryConfig.getPoolName() + "-replica-" + replicas.size(), replicaUrl.trim());
+            replicaConfig.setMaximumPoolSize(getIntProperty("datasource.replica.maximum-pool-size", replicaConfig.getMaximumPoolSize()));
+            replicaConfig.setMinimumIdle(Math.min(replicaConfig.getMinimumIdle(), replicaConfig.getMaximumPoolSize()));
+            replicaConfig.setConnectionTimeout(getLongProperty("datasource.replica.connection-timeout-ms", 1000L));
+            replicaConfig.setInitializationFailTimeout(-1L); // 복제본이 응답하지 않아도 서버는 기동 (상태검사로 제외됨)
+            replicas.add(new HikariDataSource(replicaConfig));
+        }
+
+        if (replicas.isEmpty()) {
+            return primary;
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas,
+            getLongProperty("datasource.replica.health-check-interval-ms", 5000L),
+            getIntProperty("datasource.replica.health-check-timeout-sec", 1));
     }
-    
+
     @Bean
     public SqlSessionFactory sqlSessionFactory(DataSource customDataSource) throws Exception {
         final SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
@@ -68,4 +100,48 @@ public class DataSourceConfig {
     public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory sqlSessionFactory) throws Exception {
       return new SqlSessionTemplate(sqlSessionFactory);
     }
+
+    /**
+     * <p>풀 크기/시간제한과 MariaDB PreparedStatement 캐시 설정이 적용된 커넥션 풀 설정을 생성합니다.</p>
+     * @param poolName : 풀 이름
+     * @param jdbcUrl : 접속할 DB의 URL (계정 정보는 주 DB와 같은 값을 사용)
+     * @return 커넥션 풀 설정
+     */
+    private HikariConfig makeHikariConfig(String poolName, String jdbcUrl) {
+        final HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setDriverClassName(secureProperties.getDataSourceDriverClassName());
+        hikariConfig.setJdbcUrl(jdbcUrl);
+        hikariConfig.setUsername(secureProperties.getDataSoruceUserName());
+        hikariConfig.setPassword(secureProperties.getDataSorucePassword());
+
+        // 풀 크기 및 시간제한
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setMaximumPoolSize(getIntProperty("datasource.pool.maximum-pool-size", 10));
+        hikariConfig.setMinimumIdle(getIntProperty("datasource.pool.minimum-idle", 10));
+        hikariConfig.setConnectionTimeout(getLongProperty("datasource.pool.connection-timeout-ms", 3000L));
+        hikariConfig.setValidationTimeout(getLongProperty("datasource.pool.validation-timeout-ms", 1000L));
+        hikariConfig.setIdleTimeout(getLongProperty("datasource.pool.idle-timeout-ms", 600000L));
+        hikariConfig.setMaxLifetime(getLongProperty("datasource.pool.max-lifetime-ms", 1780000L));
+        hikariConfig.setLeakDetectionThreshold(getLongProperty("datasource.pool.leak-detection-threshold-ms", 0L));
+
+        // MariaDB PreparedStatement 캐시 (서버측 prepare 후 커넥션별로 재사용)
+        hikariConfig.addDataSourceProperty("useServerPrepStmts",
+            applicationProperties.getProperty("datasource.mariadb.use-server-prep-stmts", "true"));
+        hikariConfig.addDataSourceProperty("cachePrepStmts",
+            applicationProperties.getProperty("datasource.mariadb.cache-prep-stmts", "true"));
+        hikariConfig.addDataSourceProperty("prepStmtCacheSize",
+            applicationProperties.getProperty("datasource.mariadb.prep-stmt-cache-size", "250"));
+        hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit",
+            applicationProperties.getProperty("datasource.mariadb.prep-stmt-cache-sql-limit", "2048"));
+
+        return hikariConfig;
+    }
+
+    private int getIntProperty(String key, int defaultValue) {
+        return applicationProperties.getProperty(key, Integer.class, defaultValue);
+    }
+
+    private long getLongProperty(String key, long defaultValue) {
+        return applicationProperties.getProperty(key, Long.class, defaultValue);
+    }
 }
\ No newline at end of file
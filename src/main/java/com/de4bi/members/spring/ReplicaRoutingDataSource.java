@@ -0,0 +1,204 @@
+package com.de4bi.members.spring;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import com.de4bi.common.annotation.ReadFromPrimary;
+import com.de4bi.common.data.ThreadStorage;
+import com.de4bi.members.aop.MapperAop;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * <p>조회(select) 쿼리를 읽기 전용 복제본(replica)으로, 그 외 쿼리를 주(primary) DB로 보내는 DataSource입니다.</p>
+ * 쿼리 종류는 {@link MapperAop}가 매퍼 메서드 이름으로 판단하여 ThreadStorage에 기록합니다.
+ * <ul><li>{@link ReadFromPrimary}가 지정된 조회(토큰 검증 시 회원 상태/권한 확인)는 주 DB로 보냅니다.</li>
+ * <li>같은 요청에서 쓰기 이후의 조회는 복제 지연을 피하기 위해 주 DB로 보냅니다. (sticky primary)</li>
+ * <li>그 외 회원 조회는 복제본에서 수행하므로, 다른 요청에서 수정된 값이 복제 지연만큼 늦게 보일 수 있습니다.
+ * 회원 캐시에는 그 값이 캐시 유지시간 동안 남을 수 있으며, 회원정보 수정은 버전 검사(낙관적 잠금)로 지연된 값을 거릅니다.</li>
+ * <li>트랜잭션 중의 모든 쿼리는 주 DB로 보냅니다.</li>
+ * <li>복제본은 주기적으로 상태를 검사하며, 응답하지 않거나 커넥션 획득에 실패한 복제본은 다음 검사를 통과할 때까지 제외합니다.
+ * 사용 가능한 복제본이 없으면 주 DB를 사용합니다.</li>
+ * <li>여러 복제본은 순서대로(round-robin) 사용합니다.</li></ul>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    ////////////////////////////////////////////////////////////////
+    // nested class
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * 복제본과 상태입니다.
+     */
+    private static class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean isHealthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // fields
+    ////////////////////////////////////////////////////////////////
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final int healthCheckTimeoutSec;
+    private final AtomicInteger nextReplicaIdx = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    ////////////////////////////////////////////////////////////////
+    // constructor
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @param primary : 주 DB (not null)
+     * @param replicas : 복제본 목록 (비어있다면 모든 쿼리를 주 DB로 보냄)
+     * @param healthCheckIntervalMs : 복제본 상태검사 주기(ms)
+     * @param healthCheckTimeoutSec : 복제본 상태검사 제한시간(초)
+     */
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+        long healthCheckIntervalMs, int healthCheckTimeoutSec) {
+        this.primary = primary;
+        final List<Replica> replicaList = new ArrayList<>(replicas.size());
+        for (HikariDataSource replica : replicas) {
+            replicaList.add(new Replica(replica));
+        }
+        this.replicas = Collections.unmodifiableList(replicaList);
+        this.healthCheckTimeoutSec = Math.max(1, healthCheckTimeoutSec);
+
+        if (this.replicas.isEmpty()) {
+            this.healthChecker = null;
+            return;
+        }
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.healthChecker.scheduleWithFixedDelay(this::checkReplicas, healthCheckIntervalMs, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // DataSource
+    ////////////////////////////////////////////////////////////////
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        final Replica replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            }
+            catch (SQLException e) {
+                replica.isHealthy = false;
+                logger.warn("Replica connection failed! Fallback to primary. (pool: {} / msg: {})",
+                    replica.dataSource.getPoolName(), e.getMessage());
+            }
+        }
+
+        return this.primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Per-call credentials are not supported. Use getConnection() with pooled credentials.");
+    }
+
+    @Override
+    public void close() {
+        if (this.healthChecker != null) {
+            this.healthChecker.shutdownNow();
+        }
+        for (Replica replica : this.replicas) {
+            replica.dataSource.close();
+        }
+        this.primary.close();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // public methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return 주 DB
+     */
+    public HikariDataSource getPrimary() {
+        return this.primary;
+    }
+
+    /**
+     * @return 사용 가능한 복제본 수
+     */
+    public int getHealthyReplicaCount() {
+        int rtCnt = 0;
+        for (Replica replica : this.replicas) {
+            rtCnt += (replica.isHealthy ? 1 : 0);
+        }
+        return rtCnt;
+    }
+
+    ////////////////////////////////////////////////////////////////
+    // private methods
+    ////////////////////////////////////////////////////////////////
+
+    /**
+     * @return 현재 쿼리를 보낼 복제본, 주 DB를 사용해야 한다면 null.
+     */
+    private Replica selectReplica() {
+        if (this.replicas.isEmpty() ||
+            Boolean.TRUE.equals(ThreadStorage.get(MapperAop.TSKEY_DS_READ_ONLY)) == false ||
+            Boolean.TRUE.equals(ThreadStorage.get(MapperAop.TSKEY_DS_STICKY_PRIMARY)) ||
+            TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+
+        final int replicaCnt = this.replicas.size();
+        final int bgnIdx = (this.nextReplicaIdx.getAndIncrement() & Integer.MAX_VALUE) % replicaCnt;
+        for (int i = 0; i < replicaCnt; ++i) {
+            final Replica replica = this.replicas.get((bgnIdx + i) % replicaCnt);
+            if (replica.isHealthy) {
+                return replica;
+            }
+        }
+
+        return null;
+    }
+
+    private void checkReplicas() {
+        for (Replica replica : this.replicas) {
+            boolean isHealthy = false;
+            try (Connection conn = replica.dataSource.getConnection()) {
+                isHealthy = conn.isValid(this.healthCheckTimeoutSec);
+            }
+            catch (Throwable t) {
+                isHealthy = false;
+            }
+
+            if (replica.isHealthy != isHealthy) {
+                logger.warn("Replica health changed. (pool: {} / healthy: {})", replica.dataSource.getPoolName(), isHealthy);
+            }
+            replica.isHealthy = isHealthy;
+        }
+    }
+}
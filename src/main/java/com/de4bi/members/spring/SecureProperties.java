@@ -32,6 +32,10 @@ public class SecureProperties {
     @Value("${spring.datasource.password}")
     private String dataSorucePassword;
 
+    // 읽기 전용 복제본 URL 목록, 콤마(,)로 구분 (optional, 미설정 시 주 DB만 사용, 계정은 주 DB와 동일)
+    @Value("${spring.datasource.replica-urls:}")
+    private String dataSourceReplicaUrls;
+
     // custom.secure.keys
     @Value("${custom.secure.keys.member-password-server-salt}")
     private String memberPasswordServerSalt;
@@ -39,6 +43,12 @@ public class SecureProperties {
     @Value("${custom.secure.keys.member-jwt-secret}")
     private String memberJwtSecret;
 
+    // 아래 형식의 키를 콤마(,)로 구분 (optional, 미설정 시 member-jwt-secret만 사용)
+    // - HS256: kid:activateEpochSec:secret
+    // - ES256: kid:activateEpochSec:ES256:pkcs8PrivateKeyB64:x509PublicKeyB64 (개인키를 비우면 검증전용, 발급에 사용하지 않음)
+    @Value("${custom.secure.keys.member-jwt-keyring:}")
+    private String memberJwtKeyring;
+
     // custom.oauth.google
     @Value("${custom.oauth.google.client-id}")
     private String googleOauthClientId;
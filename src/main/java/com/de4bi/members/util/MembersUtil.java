@@ -13,6 +13,8 @@ import com.de4bi.members.data.code.MembersCode;
 import com.de4bi.members.data.dao.MembersDao;
 
 public class MembersUtil {
+
+    public static final long REJOINABLE_AFTER_DAYS = 30L; // 탈퇴 후 재가입 가능한 기간(일)
     
     /**
      * <p>기능 수행을 위한 회원 권한을 검사합니다.</p>
@@ -77,6 +79,22 @@ public class MembersUtil {
         return ApiResult.of(true);
     }
 
+    /**
+     * <p>회원의 보안버전을 계산합니다.</p>
+     * @param membersDao : 계산할 회원 DAO
+     * @return 상태, 권한, 탈퇴일자로부터 계산된 보안버전
+     * @apiNote 세 값 중 하나라도 바뀌면 다른 값이 계산되므로, 서버간 공유 없이 같은 회원 상태에 대해 같은 버전을 얻을 수 있습니다.
+     */
+    public static long makeSecurityVersion(MembersDao membersDao) {
+        Objects.requireNonNull(membersDao, "'membersDao' is null!");
+
+        final Date deregisterDate = membersDao.getDeregisterDate();
+        long rtVer = membersDao.getStatus();
+        rtVer = rtVer * 31L + membersDao.getAuthority();
+        rtVer = rtVer * 31L + (deregisterDate == null ? 0L : deregisterDate.getTime());
+        return rtVer;
+    }
+
     /**
      * <p>회원의 회원가입 가능 여부를 검사합니다.</p>
      * @param membersDao : 검사할 회원 DAO (nullable)
@@ -90,7 +108,7 @@ public class MembersUtil {
 
         // 탈퇴 이후로 1달 이내인 경우
         if (membersDao.getDeregisterDate() != null) {
-            final Instant joinableTime = membersDao.getDeregisterDate().toInstant().plus(30L, ChronoUnit.DAYS);
+            final Instant joinableTime = membersDao.getDeregisterDate().toInstant().plus(REJOINABLE_AFTER_DAYS, ChronoUnit.DAYS);
             if (Instant.now().isBefore(joinableTime)) {
                 final String joinableTimeStr = joinableTime.toString().replaceAll("[TZ]", " ");
                 return ApiResult.of(false).setCode(ResponseCode.M_RECENTLY_DEREGISTERED).addMsgParam(joinableTimeStr)
@@ -168,29 +186,4 @@ public class MembersUtil {
 
         return ApiResult.of(true);
     }
-
-    /**
-     * <p>회원 비밀번호를 검사합니다.</p>
-     * @param originPw : 회원 비밀번호 (nullable)
-     * @param inputPw : 검사할 비밀번호
-     * @return true: 비밀번호 일치<li>false: 비밀번호 불일치</li>
-     * @apiNote <code>originPw</code>가 null인 경우, 비밀번호 검사를 true로 통과합니다.
-     */
-    public static ApiResult<Void> checkMemberPassword(String originPw, String inputPw) {
-        // [Note] 이 메서드 내에서 비밀번호 전달 혹은 로깅으로 인한
-        // 외부 노출이 발생하지 않도록 각별히 주의해야 합니다.
-        if (originPw == null) {
-            return ApiResult.of(true);
-        }
-
-        Objects.requireNonNull(inputPw, "'inputPw' is null!");
-
-        if (originPw.equals(inputPw) == false) {
-            return ApiResult.of(false)
-                .setCode(ResponseCode.M_NOT_EXIST_OR_WRONG_PW)
-                .setMessage("Wrong password!");
-        }
-
-        return ApiResult.of(true);
-    }
 }
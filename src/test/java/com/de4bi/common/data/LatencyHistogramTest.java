@@ -0,0 +1,125 @@
+package com.de4bi.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+	@Test
+	void emptyHistogram() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+
+		assertEquals(0L, histogram.getPercentileNanos(50.0d));
+		assertEquals(0L, snapshot.getCount());
+		assertEquals(0L, snapshot.getMeanUs());
+		assertEquals(0L, snapshot.getP99Us());
+		assertEquals(0L, snapshot.getMaxUs());
+	}
+
+	@Test
+	void smallValuesAreExact() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 0L; value < 8L; ++value) {
+			histogram.record(value);
+		}
+
+		assertEquals(0L, histogram.getPercentileNanos(0.0d));
+		assertEquals(3L, histogram.getPercentileNanos(50.0d));
+		assertEquals(7L, histogram.getPercentileNanos(100.0d));
+	}
+
+	@Test
+	void percentileIsBucketUpperBound() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(1_000L); // 2^9 구간의 8번째 하위 구간 [960, 1023]
+		assertEquals(1_023L, histogram.getPercentileNanos(50.0d));
+
+		final LatencyHistogram exactHistogram = new LatencyHistogram();
+		exactHistogram.record(1_024L); // [1024, 1151]
+		assertEquals(1_151L, exactHistogram.getPercentileNanos(50.0d));
+	}
+
+	@Test
+	void relativeErrorIsBounded() {
+		final Random random = new Random(7L);
+		for (int i = 0; i < 10_000; ++i) {
+			final long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+			final LatencyHistogram histogram = new LatencyHistogram();
+			histogram.record(value);
+
+			final long percentile = histogram.getPercentileNanos(50.0d);
+			assertTrue(percentile >= value, "value: " + value + " / percentile: " + percentile);
+			assertTrue(percentile - value <= value / 8L, "value: " + value + " / percentile: " + percentile);
+		}
+	}
+
+	@Test
+	void extremeValues() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5L);
+		histogram.record(Long.MAX_VALUE);
+
+		assertEquals(0L, histogram.getPercentileNanos(50.0d));
+		assertEquals(Long.MAX_VALUE, histogram.getPercentileNanos(100.0d));
+	}
+
+	@Test
+	void percentilesOfUniformDistribution() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		for (long us = 1L; us <= 1_000L; ++us) {
+			histogram.record(us, TimeUnit.MICROSECONDS);
+		}
+
+		assertEquals(1_000L, histogram.getCount());
+		assertWithinBucket(500_000L, histogram.getPercentileNanos(50.0d));
+		assertWithinBucket(900_000L, histogram.getPercentileNanos(90.0d));
+		assertWithinBucket(990_000L, histogram.getPercentileNanos(99.0d));
+		assertWithinBucket(999_000L, histogram.getPercentileNanos(99.9d));
+	}
+
+	@Test
+	void snapshotCapsPercentilesAtMax() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(1_000_000L);
+		histogram.record(3_000_000L);
+
+		final LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+		assertEquals(2L, snapshot.getCount());
+		assertEquals(2_000L, snapshot.getMeanUs());
+		assertEquals(3_000L, snapshot.getMaxUs());
+		assertEquals(3_000L, snapshot.getP999Us()); // 구간 상한값(3,145,727ns)이 아닌 최대값
+		assertTrue(snapshot.getP50Us() >= 1_000L && snapshot.getP50Us() <= 1_125L);
+	}
+
+	@Test
+	void concurrentRecordsAreNotLost() throws InterruptedException {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; ++i) {
+			final long value = (i + 1) * 1_000L;
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 10_000; ++j) {
+					histogram.record(value);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(80_000L, histogram.getCount());
+		assertEquals(80_000L, histogram.getSnapshot().getCount());
+		assertEquals(8L, histogram.getSnapshot().getMaxUs());
+	}
+
+	private static void assertWithinBucket(long expected, long actual) {
+		assertTrue(actual >= expected && actual - expected <= expected / 8L, "expected: " + expected + " / actual: " + actual);
+	}
+}
@@ -0,0 +1,51 @@
+package com.de4bi.common.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class StripedLruMapTest {
+
+	@Test
+	void putGetRemove() {
+		final StripedLruMap<String, Long> lruMap = new StripedLruMap<>(160);
+
+		assertNull(lruMap.put("a", 1L));
+		assertEquals(1L, lruMap.put("a", 2L));
+		assertEquals(2L, lruMap.get("a"));
+		assertFalse(lruMap.remove("a", 1L));
+		assertTrue(lruMap.remove("a", 2L));
+		assertNull(lruMap.get("a"));
+		assertNull(lruMap.remove("a"));
+	}
+
+	@Test
+	void evictsIncrementallyWhenFull() {
+		final StripedLruMap<Integer, Integer> lruMap = new StripedLruMap<>(160);
+		for (int i = 0; i < 10_000; ++i) {
+			lruMap.put(i, i);
+		}
+
+		// 가득 찬 후에도 비워지지 않고 최근 항목은 남아있어야 함
+		assertTrue(lruMap.size() <= 160);
+		assertTrue(lruMap.size() > 100);
+		assertEquals(9_999, lruMap.get(9_999));
+		assertNull(lruMap.get(0));
+	}
+
+	@Test
+	void recentlyUsedEntryIsKept() {
+		final StripedLruMap<Integer, Integer> lruMap = new StripedLruMap<>(32); // 세그먼트당 2개
+		lruMap.put(0, 0);
+		lruMap.put(16, 16); // 같은 세그먼트
+		lruMap.get(0);
+		lruMap.put(32, 32);
+
+		assertEquals(0, lruMap.get(0));
+		assertNull(lruMap.get(16));
+		assertEquals(32, lruMap.get(32));
+	}
+}
@@ -0,0 +1,89 @@
+package com.de4bi.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+class AudienceMatcherTest {
+
+	@Test
+	void exactMatchIgnoresCase() {
+		assertTrue(AudienceMatcher.matches("members.de4bi.com", "members.de4bi.com"));
+		assertTrue(AudienceMatcher.matches("Members.DE4BI.com", "members.de4bi.COM"));
+		assertFalse(AudienceMatcher.matches("members.de4bi.com", "member.de4bi.com"));
+		assertFalse(AudienceMatcher.matches("members.de4bi.com", "members.de4bi.co"));
+	}
+
+	@Test
+	void labelCountMustBeSame() {
+		assertFalse(AudienceMatcher.matches("de4bi.com", "members.de4bi.com"));
+		assertFalse(AudienceMatcher.matches("*.de4bi.com", "a.members.de4bi.com"));
+		assertFalse(AudienceMatcher.matches("*.de4bi.com", "de4bi.com"));
+	}
+
+	@Test
+	void wildcardMatchesAnyLabelOnEitherSide() {
+		assertTrue(AudienceMatcher.matches("*.de4bi.com", "members.de4bi.com"));
+		assertTrue(AudienceMatcher.matches("members.de4bi.com", "*.de4bi.com"));
+		assertTrue(AudienceMatcher.matches("members.*.com", "members.de4bi.com"));
+		assertFalse(AudienceMatcher.matches("*.de4bi.com", "members.de4bi.net"));
+	}
+
+	@Test
+	void wildcardMustBeWholeLabel() {
+		assertFalse(AudienceMatcher.matches("mem*.de4bi.com", "members.de4bi.com"));
+	}
+
+	@Test
+	void commaSeparatedAlternatives() {
+		assertTrue(AudienceMatcher.matches("a.de4bi.com, members.de4bi.com", "members.de4bi.com"));
+		assertTrue(AudienceMatcher.matches("members.de4bi.com", "x.de4bi.com,members.de4bi.com"));
+		assertFalse(AudienceMatcher.matches("a.de4bi.com,b.de4bi.com", "c.de4bi.com"));
+	}
+
+	@Test
+	void collectionAudience() {
+		assertTrue(AudienceMatcher.matches(Arrays.asList("a.de4bi.com", "members.de4bi.com"), "members.de4bi.com"));
+		assertTrue(AudienceMatcher.matches(Arrays.asList(null, "*.de4bi.com"), "members.de4bi.com"));
+		assertFalse(AudienceMatcher.matches(Collections.singletonList("a.de4bi.com"), "members.de4bi.com"));
+		assertFalse(AudienceMatcher.matches(Collections.emptyList(), "members.de4bi.com"));
+	}
+
+	@Test
+	void nullOrUnsupportedAudienceDoesNotMatch() {
+		assertFalse(AudienceMatcher.matches(null, "members.de4bi.com"));
+		assertFalse(AudienceMatcher.matches("members.de4bi.com", null));
+		assertFalse(AudienceMatcher.matches(42L, "members.de4bi.com"));
+	}
+
+	@Test
+	void emptyAudienceMatchesOnlyEmpty() {
+		assertTrue(AudienceMatcher.matches("", ""));
+		assertFalse(AudienceMatcher.matches("", "members.de4bi.com"));
+		assertFalse(AudienceMatcher.matches("members.de4bi.com", ""));
+	}
+
+	@Test
+	void compiledPatternIsCached() {
+		assertSame(AudienceMatcher.compile("cached.de4bi.com"), AudienceMatcher.compile("cached.de4bi.com"));
+	}
+
+	@Test
+	void cacheKeepsCachingWhenFull() {
+		for (int i = 0; i < 10_000; ++i) {
+			AudienceMatcher.compile("client-" + i + ".de4bi.com");
+			if (i % 1_000 == 0) {
+				assertTrue(AudienceMatcher.matches("hot.de4bi.com", "*.de4bi.com"));
+			}
+		}
+
+		// 캐시가 가득 찬 후에도 새 패턴이 캐시되며, 매칭 결과는 캐시와 관계없이 같음
+		assertSame(AudienceMatcher.compile("late.de4bi.com"), AudienceMatcher.compile("late.de4bi.com"));
+		assertTrue(AudienceMatcher.matches("client-0.de4bi.com", "*.de4bi.com"));
+	}
+}
@@ -0,0 +1,198 @@
+package com.de4bi.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 스레드별로 재사용하는 MessageDigest/Cipher의 결과가 매번 새로 생성하던 이전 구현과 같은지 확인합니다.
+ */
+class CipherUtilTest {
+
+	private static final String[] HASHING_ALGORITHMS = { "MD5", "SHA-256" };
+	private static final IvParameterSpec IV = new IvParameterSpec(
+		Arrays.copyOfRange("ABC0abc1DEF2def3GHI4ghi5JKL6jkl7MNO8mno9PQR+pqr-STU_stu=VWX~vwx/YZ.yz".getBytes(), 0, 16));
+
+	private static final SecretKeySpec KEY_A = new SecretKeySpec("0123456789abcdef".getBytes(), "AES");
+	private static final SecretKeySpec KEY_B = new SecretKeySpec("fedcba9876543210".getBytes(), "AES");
+
+	@Test
+	void hashingMatchesPreviousImplementation() throws Exception {
+		final Random random = new Random(1L);
+		for (int i = 0; i < 200; ++i) {
+			final int hashingType = (i % 2 == 0 ? CipherUtil.MD5 : CipherUtil.SHA256);
+			final byte[] origin = randomBytes(random, 1 + random.nextInt(100));
+			final byte[] salt = (i % 3 == 0 ? null : randomBytes(random, random.nextInt(20)));
+
+			assertArrayEquals(legacyHashing(hashingType, origin, salt), CipherUtil.hashing(hashingType, origin, salt));
+		}
+
+		assertArrayEquals(legacyHashing(CipherUtil.SHA256, "password".getBytes(), null), CipherUtil.hashing(CipherUtil.SHA256, "password"));
+	}
+
+	@Test
+	void bufferHashingMatchesArrayHashing() {
+		final Random random = new Random(2L);
+		final byte[] origin = randomBytes(random, 64);
+		final byte[] salt = randomBytes(random, 16);
+		final byte[] expected = CipherUtil.hashing(CipherUtil.SHA256, origin, salt);
+
+		final ByteBuffer directOrigin = ByteBuffer.allocateDirect(origin.length);
+		directOrigin.put(origin).flip();
+		final ByteBuffer heapSalt = ByteBuffer.wrap(salt);
+
+		assertArrayEquals(expected, CipherUtil.hashing(CipherUtil.SHA256, directOrigin, heapSalt));
+		assertEquals(origin.length, directOrigin.position());
+		assertEquals(0, heapSalt.remaining());
+	}
+
+	@Test
+	void cipherMatchesPreviousImplementation() throws Exception {
+		final Random random = new Random(3L);
+		for (int i = 0; i < 200; ++i) {
+			// 키와 모드를 바꿔가며 호출하여 재초기화 생략 조건을 확인
+			final SecretKeySpec key = (random.nextBoolean() ? KEY_A : KEY_B);
+			final byte[] plain = randomBytes(random, 1 + random.nextInt(100));
+
+			final byte[] encrypted = CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, plain, key);
+			assertArrayEquals(legacyCipher(Cipher.ENCRYPT_MODE, plain, key), encrypted);
+			assertArrayEquals(plain, CipherUtil.decrypt(CipherUtil.AES_CBC_PKCS5, encrypted, key));
+		}
+	}
+
+	@Test
+	void sameKeyContentInOtherInstance() throws Exception {
+		final SecretKeySpec sameKeyA = new SecretKeySpec("0123456789abcdef".getBytes(), "AES");
+		final byte[] plain = "plain-text".getBytes();
+
+		assertArrayEquals(CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, plain, KEY_A),
+			CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, plain, sameKeyA));
+	}
+
+	@Test
+	void failedOperationDoesNotBreakNextCall() throws Exception {
+		final byte[] plain = "plain-text".getBytes();
+		final byte[] encrypted = CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, plain, KEY_A);
+
+		// 다른 키로 복호화(패딩 오류) 및 블록 크기가 맞지 않는 입력
+		assertThrows(IllegalStateException.class, () -> CipherUtil.decrypt(CipherUtil.AES_CBC_PKCS5, encrypted, KEY_B));
+		assertThrows(IllegalStateException.class, () -> CipherUtil.decrypt(CipherUtil.AES_CBC_PKCS5, new byte[5], KEY_A));
+
+		assertArrayEquals(plain, CipherUtil.decrypt(CipherUtil.AES_CBC_PKCS5, encrypted, KEY_A));
+		assertArrayEquals(legacyCipher(Cipher.ENCRYPT_MODE, plain, KEY_A), CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, plain, KEY_A));
+	}
+
+	@Test
+	void bufferCipherMatchesArrayCipher() {
+		final byte[] plain = randomBytes(new Random(4L), 100);
+		final byte[] expected = CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, plain, KEY_A);
+
+		final ByteBuffer plainBuf = ByteBuffer.allocateDirect(plain.length);
+		plainBuf.put(plain).flip();
+		final ByteBuffer cipherBuf = ByteBuffer.allocateDirect(plain.length + 16);
+		final int cipherLen = CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, plainBuf, cipherBuf, KEY_A);
+		cipherBuf.flip();
+
+		final byte[] encrypted = new byte[cipherLen];
+		cipherBuf.duplicate().get(encrypted);
+		assertArrayEquals(expected, encrypted);
+
+		final ByteBuffer decryptedBuf = ByteBuffer.allocate(cipherLen);
+		final int plainLen = CipherUtil.decrypt(CipherUtil.AES_CBC_PKCS5, cipherBuf, decryptedBuf, KEY_A);
+		assertEquals(plain.length, plainLen);
+		assertArrayEquals(plain, Arrays.copyOf(decryptedBuf.array(), plainLen));
+	}
+
+	@Test
+	void concurrentCallsMatchPreviousImplementation() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; ++t) {
+				final long seed = t;
+				futures.add(executor.submit(() -> {
+					final Random random = new Random(seed);
+					for (int i = 0; i < 500; ++i) {
+						final byte[] origin = randomBytes(random, 1 + random.nextInt(64));
+						final byte[] salt = randomBytes(random, 8);
+						assertArrayEquals(legacyHashing(CipherUtil.SHA256, origin, salt), CipherUtil.hashing(CipherUtil.SHA256, origin, salt));
+
+						final SecretKeySpec key = (random.nextBoolean() ? KEY_A : KEY_B);
+						assertArrayEquals(legacyCipher(Cipher.ENCRYPT_MODE, origin, key), CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, origin, key));
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(60L, TimeUnit.SECONDS);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void invalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> CipherUtil.hashing(-1, new byte[1], null));
+		assertThrows(NullPointerException.class, () -> CipherUtil.hashing(CipherUtil.SHA256, (byte[]) null, null));
+		assertThrows(IllegalArgumentException.class, () -> CipherUtil.hashing(CipherUtil.SHA256, new byte[0], null));
+		assertThrows(IllegalArgumentException.class, () -> CipherUtil.encrypt(CipherUtil.AES_CBC_PKCS5, new byte[0], KEY_A));
+	}
+
+	////////////////////////////////////////////////////////////////
+	// 이전 구현 (호출마다 getInstance, SALT를 이어붙인 배열 생성)
+	////////////////////////////////////////////////////////////////
+
+	private static byte[] legacyHashing(int hashingType, byte[] originBytes, byte[] saltBytes) {
+		byte[] hashingTargetBytes = originBytes;
+		if (saltBytes != null && saltBytes.length > 0) {
+			hashingTargetBytes = new byte[originBytes.length + saltBytes.length];
+			System.arraycopy(originBytes, 0, hashingTargetBytes, 0, originBytes.length);
+			System.arraycopy(saltBytes, 0, hashingTargetBytes, originBytes.length, saltBytes.length);
+		}
+
+		try {
+			final MessageDigest md = MessageDigest.getInstance(HASHING_ALGORITHMS[hashingType]);
+			md.update(hashingTargetBytes);
+			return md.digest();
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] legacyCipher(int opMode, byte[] inBytes, SecretKeySpec secretKeySpec) {
+		try {
+			final Cipher aesCipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+			aesCipher.init(opMode, secretKeySpec, IV);
+			return aesCipher.doFinal(inBytes);
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] randomBytes(Random random, int len) {
+		final byte[] rtBytes = new byte[len];
+		random.nextBytes(rtBytes);
+		return rtBytes;
+	}
+}
@@ -0,0 +1,222 @@
+package com.de4bi.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+class MemberJwtCodecTest {
+
+	private static final String SECRET = "member-jwt-codec-test-secret-0123456789";
+	private static final String OTHER_SECRET = "member-jwt-codec-other-secret-0123456789";
+
+	@Test
+	void ofReturnsSameCodecForSameSecret() {
+		assertSame(MemberJwtCodec.of(SECRET), MemberJwtCodec.of(SECRET));
+	}
+
+	@Test
+	void hs256RoundTrip() {
+		final MemberJwtCodec codec = MemberJwtCodec.of(SECRET);
+		final String jwt = codec.issue(headerMap(), claimsMap(60L));
+
+		final Jws<Claims> jws = codec.verify(jwt, null);
+		assertEquals("HS256", jws.getHeader().getAlgorithm());
+		assertEquals("pad-value", jws.getHeader().get(MemberJwtUtil.HEADER_KEY_PADDING));
+		assertEquals("jwt-id", jws.getBody().getId());
+		assertEquals("member@de4bi.com", jws.getBody().getSubject());
+		assertEquals("members.de4bi.com", jws.getBody().getAudience());
+	}
+
+	@Test
+	void hs256TokenIsReadableByJjwt() {
+		final String jwt = MemberJwtCodec.of(SECRET).issue(headerMap(), claimsMap(60L));
+
+		final Jws<Claims> jws = Jwts.parserBuilder().setSigningKey(MemberJwtUtil.makeSignKey(SECRET)).build().parseClaimsJws(jwt);
+		assertEquals("jwt-id", jws.getBody().getId());
+	}
+
+	@Test
+	void hs256VerifiesJjwtToken() {
+		final String jwt = Jwts.builder()
+			.setHeaderParam(MemberJwtUtil.HEADER_KEY_PADDING, "pad-value")
+			.setClaims(claimsMap(60L))
+			.signWith(MemberJwtUtil.makeSignKey(SECRET))
+			.compact();
+
+		assertEquals("member@de4bi.com", MemberJwtCodec.of(SECRET).verify(jwt, null).getBody().getSubject());
+	}
+
+	@Test
+	void verifyRejectsOtherSecret() {
+		final String jwt = MemberJwtCodec.of(OTHER_SECRET).issue(headerMap(), claimsMap(60L));
+		assertThrows(SignatureException.class, () -> MemberJwtCodec.of(SECRET).verify(jwt, null));
+	}
+
+	@Test
+	void verifyRejectsTamperedClaims() {
+		final MemberJwtCodec codec = MemberJwtCodec.of(SECRET);
+		final String[] parts = codec.issue(headerMap(), claimsMap(60L)).split("\\.");
+		final String otherClaims = codec.issue(headerMap(), claimsMap(3600L)).split("\\.")[1];
+
+		assertThrows(SignatureException.class, () -> codec.verify(parts[0] + "." + otherClaims + "." + parts[2], null));
+	}
+
+	@Test
+	void verifyRejectsExpiredToken() {
+		final MemberJwtCodec codec = MemberJwtCodec.of(SECRET);
+		final String jwt = codec.issue(headerMap(), claimsMap(-60L));
+		assertThrows(ExpiredJwtException.class, () -> codec.verify(jwt, null));
+	}
+
+	@Test
+	void verifyChecksRequiredClaims() {
+		final MemberJwtCodec codec = MemberJwtCodec.of(SECRET);
+		final String jwt = codec.issue(headerMap(), claimsMap(60L));
+
+		codec.verify(jwt, MemberJwtUtil.JwtClaims.builder().subject("member@de4bi.com").build());
+		assertThrows(IncorrectClaimException.class,
+			() -> codec.verify(jwt, MemberJwtUtil.JwtClaims.builder().subject("other@de4bi.com").build()));
+	}
+
+	@Test
+	void verifyRejectsUnsignedToken() {
+		final MemberJwtCodec codec = MemberJwtCodec.of(SECRET);
+		final String jwt = codec.issue(headerMap(), claimsMap(60L));
+		final String unsigned = jwt.substring(0, jwt.lastIndexOf('.') + 1);
+
+		assertThrows(UnsupportedJwtException.class, () -> codec.verify(unsigned, null));
+	}
+
+	@Test
+	void malformedTokenMessageDoesNotContainToken() {
+		final String jwt = "not-a-jwt-token-value";
+		final MalformedJwtException e = assertThrows(MalformedJwtException.class, () -> MemberJwtCodec.parseHeader(jwt));
+		assertFalse(e.getMessage().contains(jwt));
+	}
+
+	@Test
+	void es256RoundTrip() {
+		final MemberJwtCodec codec = es256Codec(EC_KEY_PAIR, true);
+		final String jwt = codec.issue(headerMap(), claimsMap(60L));
+
+		final Jws<Claims> jws = codec.verify(jwt, null);
+		assertEquals("ES256", jws.getHeader().getAlgorithm());
+		assertEquals("jwt-id", jws.getBody().getId());
+	}
+
+	@Test
+	void es256SignatureIsJoseFormat() {
+		// [Note] r, s의 상위 비트/선행 0 여부에 따라 DER 길이가 달라지므로 여러 번 서명하여 확인한다
+		final MemberJwtCodec codec = es256Codec(EC_KEY_PAIR, true);
+		for (int i = 0; i < 64; ++i) {
+			final String jwt = codec.issue(headerMap(), claimsMap(60L));
+			assertEquals(64, Base64.getUrlDecoder().decode(jwt.substring(jwt.lastIndexOf('.') + 1)).length);
+
+			final Jws<Claims> jws = Jwts.parserBuilder().setSigningKey(EC_KEY_PAIR.getPublic()).build().parseClaimsJws(jwt);
+			assertEquals("jwt-id", jws.getBody().getId());
+		}
+	}
+
+	@Test
+	void es256VerifiesJjwtToken() {
+		final MemberJwtCodec verifier = es256Codec(EC_KEY_PAIR, false);
+		for (int i = 0; i < 64; ++i) {
+			final String jwt = Jwts.builder()
+				.setClaims(claimsMap(60L))
+				.signWith(EC_KEY_PAIR.getPrivate(), SignatureAlgorithm.ES256)
+				.compact();
+			assertEquals("member@de4bi.com", verifier.verify(jwt, null).getBody().getSubject());
+		}
+	}
+
+	@Test
+	void es256RejectsOtherKey() {
+		final String jwt = es256Codec(newEcKeyPair(), true).issue(headerMap(), claimsMap(60L));
+		assertThrows(SignatureException.class, () -> es256Codec(EC_KEY_PAIR, false).verify(jwt, null));
+	}
+
+	@Test
+	void es256RejectsHs256Token() {
+		final String jwt = MemberJwtCodec.of(SECRET).issue(headerMap(), claimsMap(60L));
+		assertThrows(UnsupportedJwtException.class, () -> es256Codec(EC_KEY_PAIR, false).verify(jwt, null));
+	}
+
+	@Test
+	void es256VerifyOnlyCodecCannotIssue() {
+		assertThrows(JwtException.class, () -> es256Codec(EC_KEY_PAIR, false).issue(headerMap(), claimsMap(60L)));
+	}
+
+	@Test
+	void es256PublicJwk() {
+		final Map<String, Object> jwk = es256Codec(EC_KEY_PAIR, false).toPublicJwk("kid-1");
+		assertEquals("EC", jwk.get("kty"));
+		assertEquals("P-256", jwk.get("crv"));
+		assertEquals("kid-1", jwk.get("kid"));
+		assertEquals(32, Base64.getUrlDecoder().decode((String) jwk.get("x")).length);
+		assertEquals(32, Base64.getUrlDecoder().decode((String) jwk.get("y")).length);
+		assertNull(MemberJwtCodec.of(SECRET).toPublicJwk("kid-1"));
+	}
+
+	////////////////////////////////////////////////////////////////
+	// helper
+	////////////////////////////////////////////////////////////////
+
+	private static final KeyPair EC_KEY_PAIR = newEcKeyPair();
+
+	static KeyPair newEcKeyPair() {
+		try {
+			final KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+			generator.initialize(new ECGenParameterSpec("secp256r1"));
+			return generator.generateKeyPair();
+		}
+		catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	static MemberJwtCodec es256Codec(KeyPair keyPair, boolean withPrivateKey) {
+		final Base64.Encoder encoder = Base64.getEncoder();
+		return MemberJwtCodec.ofEs256(withPrivateKey ? encoder.encodeToString(keyPair.getPrivate().getEncoded()) : null,
+			encoder.encodeToString(keyPair.getPublic().getEncoded()));
+	}
+
+	static Map<String, Object> headerMap() {
+		final Map<String, Object> headerMap = new LinkedHashMap<>();
+		headerMap.put(MemberJwtUtil.HEADER_KEY_PADDING, "pad-value");
+		return headerMap;
+	}
+
+	static Map<String, Object> claimsMap(long expAfterSec) {
+		final long curTimeSec = System.currentTimeMillis() / 1000L;
+		final Map<String, Object> claimsMap = new LinkedHashMap<>();
+		claimsMap.put(Claims.ID, "jwt-id");
+		claimsMap.put(Claims.SUBJECT, "member@de4bi.com");
+		claimsMap.put(Claims.AUDIENCE, "members.de4bi.com");
+		claimsMap.put(Claims.ISSUED_AT, curTimeSec);
+		claimsMap.put(Claims.EXPIRATION, curTimeSec + expAfterSec);
+		claimsMap.put(Claims.NOT_BEFORE, curTimeSec - 1L);
+		return claimsMap;
+	}
+}
@@ -0,0 +1,130 @@
+package com.de4bi.common.util;
+
+import static com.de4bi.common.util.MemberJwtCodecTest.claimsMap;
+import static com.de4bi.common.util.MemberJwtCodecTest.headerMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.KeyPair;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+class MemberJwtKeyringTest {
+
+	private static final String LEGACY_SECRET = "member-jwt-keyring-legacy-secret-0123456789";
+	private static final String SECRET_A = "member-jwt-keyring-secret-a-0123456789";
+	private static final String SECRET_B = "member-jwt-keyring-secret-b-0123456789";
+
+	private static final long PAST_SEC = 1_000L;
+	private static final long FUTURE_SEC = System.currentTimeMillis() / 1000L + 86_400L;
+
+	@Test
+	void legacyKeyringIsReused() {
+		assertSame(MemberJwtKeyring.of(LEGACY_SECRET), MemberJwtKeyring.of(LEGACY_SECRET));
+	}
+
+	@Test
+	void legacyKeyringIssuesWithoutKid() {
+		final MemberJwtKeyring keyring = MemberJwtKeyring.of(LEGACY_SECRET);
+		final String jwt = keyring.issue(headerMap(), claimsMap(60L));
+
+		assertNull(MemberJwtCodec.parseHeader(jwt).getKeyId());
+		assertNull(keyring.getActiveKid());
+		assertEquals("jwt-id", keyring.verify(jwt, null).getBody().getId());
+	}
+
+	@Test
+	void issuesWithLatestActivatedKey() {
+		final MemberJwtKeyring keyring = MemberJwtKeyring.of(LEGACY_SECRET,
+			"kb:" + (PAST_SEC + 1L) + ":" + SECRET_B + ",ka:" + PAST_SEC + ":" + SECRET_A + ",kc:" + FUTURE_SEC + ":" + SECRET_A);
+
+		assertEquals("kb", keyring.getActiveKid());
+		assertEquals(FUTURE_SEC, keyring.getNextActivateTimeSec());
+		assertEquals("kb", MemberJwtCodec.parseHeader(keyring.issue(headerMap(), claimsMap(60L))).getKeyId());
+	}
+
+	@Test
+	void verifySelectsKeyByKid() {
+		final MemberJwtKeyring oldKeyring = MemberJwtKeyring.of(null, "ka:" + PAST_SEC + ":" + SECRET_A);
+		final MemberJwtKeyring newKeyring = MemberJwtKeyring.of(null,
+			"ka:" + PAST_SEC + ":" + SECRET_A + ",kb:" + (PAST_SEC + 1L) + ":" + SECRET_B);
+
+		// 이전 키로 발급된 토큰도 교체 후 keyring에서 검증됨
+		final String oldJwt = oldKeyring.issue(headerMap(), claimsMap(60L));
+		assertEquals("jwt-id", newKeyring.verify(oldJwt, null).getBody().getId());
+
+		// 새 키로 발급된 토큰은 새 키가 없는 keyring에서 검증되지 않음
+		final String newJwt = newKeyring.issue(headerMap(), claimsMap(60L));
+		assertEquals("kb", MemberJwtCodec.parseHeader(newJwt).getKeyId());
+		assertThrows(SignatureException.class, () -> oldKeyring.verify(newJwt, null));
+	}
+
+	@Test
+	void verifyUsesLegacySecretForTokenWithoutKid() {
+		final String legacyJwt = MemberJwtKeyring.of(LEGACY_SECRET).issue(headerMap(), claimsMap(60L));
+
+		assertEquals("jwt-id", MemberJwtKeyring.of(LEGACY_SECRET, "ka:" + PAST_SEC + ":" + SECRET_A).verify(legacyJwt, null).getBody().getId());
+		assertThrows(SignatureException.class, () -> MemberJwtKeyring.of(null, "ka:" + PAST_SEC + ":" + SECRET_A).verify(legacyJwt, null));
+	}
+
+	@Test
+	void verifyRejectsKidSignedWithOtherKey() {
+		final String jwt = MemberJwtKeyring.of(null, "ka:" + PAST_SEC + ":" + SECRET_B).issue(headerMap(), claimsMap(60L));
+		assertThrows(SignatureException.class, () -> MemberJwtKeyring.of(null, "ka:" + PAST_SEC + ":" + SECRET_A).verify(jwt, null));
+	}
+
+	@Test
+	void issueFailsWithoutActiveKey() {
+		final MemberJwtKeyring keyring = MemberJwtKeyring.of(null, "ka:" + FUTURE_SEC + ":" + SECRET_A);
+		assertNull(keyring.getActiveKid());
+		assertThrows(JwtException.class, () -> keyring.issue(headerMap(), claimsMap(60L)));
+	}
+
+	@Test
+	void publicJwksContainsOnlyEs256Keys() {
+		final KeyPair keyPair = MemberJwtCodecTest.newEcKeyPair();
+		final Base64.Encoder encoder = Base64.getEncoder();
+		final MemberJwtKeyring keyring = MemberJwtKeyring.of(null, "ka:" + PAST_SEC + ":" + SECRET_A +
+			",ke:" + (PAST_SEC + 1L) + ":ES256:" + encoder.encodeToString(keyPair.getPrivate().getEncoded()) +
+			":" + encoder.encodeToString(keyPair.getPublic().getEncoded()));
+
+		final String jwt = keyring.issue(headerMap(), claimsMap(60L));
+		assertEquals("ES256", MemberJwtCodec.parseHeader(jwt).getAlgorithm());
+		assertEquals("jwt-id", keyring.verify(jwt, null).getBody().getId());
+
+		final List<?> keys = (List<?>) keyring.getPublicJwks().get("keys");
+		assertEquals(1, keys.size());
+		assertEquals("ke", ((Map<?, ?>) keys.get(0)).get("kid"));
+	}
+
+	@Test
+	void verifyOnlyKeyIsNotActive() {
+		final KeyPair keyPair = MemberJwtCodecTest.newEcKeyPair();
+		final String publicKeyB64 = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+		final MemberJwtKeyring keyring = MemberJwtKeyring.of(null, "ka:" + PAST_SEC + ":" + SECRET_A +
+			",ke:" + (PAST_SEC + 1L) + ":ES256::" + publicKeyB64 + ",kf:" + FUTURE_SEC + ":ES256::" + publicKeyB64);
+
+		// 검증전용 키보다 이전에 활성화된 서명 가능한 키로 발급
+		assertEquals("ka", keyring.getActiveKid());
+		assertEquals(-1L, keyring.getNextActivateTimeSec());
+		assertEquals("ka", MemberJwtCodec.parseHeader(keyring.issue(headerMap(), claimsMap(60L))).getKeyId());
+		assertEquals(2, ((List<?>) keyring.getPublicJwks().get("keys")).size());
+	}
+
+	@Test
+	void invalidSpecIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> MemberJwtKeyring.of(null, null));
+		assertThrows(IllegalArgumentException.class, () -> MemberJwtKeyring.of(null, "ka:" + SECRET_A));
+		assertThrows(IllegalArgumentException.class, () -> MemberJwtKeyring.of(null, "ka:not-a-number:" + SECRET_A));
+		assertThrows(IllegalArgumentException.class,
+			() -> MemberJwtKeyring.of(null, "ka:" + PAST_SEC + ":" + SECRET_A + ",ka:" + (PAST_SEC + 1L) + ":" + SECRET_B));
+	}
+}
@@ -0,0 +1,40 @@
+package com.de4bi.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+
+class MemberJwtUtilTest {
+
+	private static final String SECRET = "member-jwt-util-secret-0123456789abcdef";
+
+	@Test
+	void privateClaimsDoNotOverrideRegisteredClaims() {
+		final long curTimeSec = System.currentTimeMillis() / 1000L;
+		final Map<String, Object> privateClaims = new HashMap<>();
+		privateClaims.put(Claims.SUBJECT, "admin@de4bi.com");
+		privateClaims.put(Claims.AUDIENCE, "*.*.*");
+		privateClaims.put(Claims.EXPIRATION, curTimeSec + 86_400L * 365L);
+		privateClaims.put(MemberJwtUtil.CLAIM_KEY_MEMBER_SEQ, 1L);
+
+		final String jwt = MemberJwtUtil.issue(null, MemberJwtUtil.JwtClaims.builder()
+			.id("jwt-id")
+			.subject("member@de4bi.com")
+			.audience("members.de4bi.com")
+			.issuedAt(curTimeSec)
+			.expiration(curTimeSec + 60L)
+			.privateClaims(privateClaims)
+			.build(), SECRET);
+
+		final Claims claims = MemberJwtKeyring.of(SECRET).verify(jwt, null).getBody();
+		assertEquals("member@de4bi.com", claims.getSubject());
+		assertEquals("members.de4bi.com", claims.getAudience());
+		assertEquals((curTimeSec + 60L) * 1000L, claims.getExpiration().getTime());
+		assertEquals(1, ((Number) claims.get(MemberJwtUtil.CLAIM_KEY_MEMBER_SEQ)).intValue());
+	}
+}
@@ -0,0 +1,95 @@
+package com.de4bi.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class Pbkdf2PasswordHasherTest {
+
+	private static final String PEPPER = "pepper";
+
+	private final Pbkdf2PasswordHasher hasher = new Pbkdf2PasswordHasher(1_000);
+
+	@Test
+	void hashFormat() {
+		final String encodedPw = hasher.hash("password", PEPPER);
+		final String[] parts = encodedPw.substring(Pbkdf2PasswordHasher.PREFIX.length()).split("\\$");
+
+		assertTrue(hasher.supports(encodedPw));
+		assertEquals(3, parts.length);
+		assertEquals("1000", parts[0]);
+	}
+
+	@Test
+	void hashUsesRandomSalt() {
+		assertNotEquals(hasher.hash("password", PEPPER), hasher.hash("password", PEPPER));
+	}
+
+	@Test
+	void matches() {
+		final String encodedPw = hasher.hash("password", PEPPER);
+
+		assertTrue(hasher.matches("password", PEPPER, encodedPw));
+		assertFalse(hasher.matches("Password", PEPPER, encodedPw));
+		assertFalse(hasher.matches("password", "other-pepper", encodedPw));
+		assertFalse(hasher.matches("password", null, encodedPw));
+	}
+
+	@Test
+	void matchesHashOfOtherIterations() {
+		final String encodedPw = new Pbkdf2PasswordHasher(500).hash("password", null);
+
+		assertTrue(hasher.matches("password", null, encodedPw));
+		assertTrue(hasher.needsRehash(encodedPw));
+		assertFalse(hasher.needsRehash(hasher.hash("password", null)));
+	}
+
+	@Test
+	void dummyHashHasCurrentCostAndNeverMatches() {
+		final String dummyHash = hasher.newDummyHash();
+
+		assertTrue(hasher.supports(dummyHash));
+		assertFalse(hasher.needsRehash(dummyHash));
+		assertFalse(hasher.matches("password", PEPPER, dummyHash));
+		assertFalse(hasher.matches("", null, dummyHash));
+	}
+
+	@Test
+	void malformedHashDoesNotMatch() {
+		final String encodedPw = hasher.hash("password", PEPPER);
+		final String[] parts = encodedPw.substring(Pbkdf2PasswordHasher.PREFIX.length()).split("\\$");
+		final String prefix = Pbkdf2PasswordHasher.PREFIX;
+
+		final String[] malformedPws = {
+			null,
+			"",
+			"plain-sha256-hash",
+			prefix,
+			prefix + parts[0] + "$" + parts[1],
+			prefix + "abc$" + parts[1] + "$" + parts[2],
+			prefix + "99999999999$" + parts[1] + "$" + parts[2],
+			prefix + "0$" + parts[1] + "$" + parts[2],
+			prefix + "-1$" + parts[1] + "$" + parts[2],
+			prefix + parts[0] + "$!!not-base64!!$" + parts[2],
+			prefix + parts[0] + "$" + parts[1] + "$!!not-base64!!",
+			prefix + parts[0] + "$$" + parts[2],
+			prefix + parts[0] + "$" + parts[1] + "$",
+		};
+
+		for (String malformedPw : malformedPws) {
+			assertFalse(hasher.matches("password", PEPPER, malformedPw), "encodedPw: " + malformedPw);
+			assertTrue(hasher.needsRehash(malformedPw), "encodedPw: " + malformedPw);
+		}
+	}
+
+	@Test
+	void invalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new Pbkdf2PasswordHasher(0));
+		assertThrows(NullPointerException.class, () -> hasher.hash(null, PEPPER));
+		assertThrows(NullPointerException.class, () -> hasher.matches(null, PEPPER, hasher.hash("password", PEPPER)));
+	}
+}
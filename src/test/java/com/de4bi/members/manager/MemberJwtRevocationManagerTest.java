@@ -0,0 +1,85 @@
+package com.de4bi.members.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class MemberJwtRevocationManagerTest {
+
+	private static final long HOUR_MS = 3_600_000L;
+
+	@Test
+	void revokedTokenIsRevokedUntilExp() {
+		final MemberJwtRevocationManager revocationMgr = newManager("1048576", "60");
+		revocationMgr.revoke("jti-1", System.currentTimeMillis() + HOUR_MS);
+
+		assertTrue(revocationMgr.isRevoked("jti-1"));
+		assertFalse(revocationMgr.isRevoked("jti-2"));
+		assertFalse(revocationMgr.isRevoked(null));
+	}
+
+	@Test
+	void expiredTokenIsNotRecorded() {
+		final MemberJwtRevocationManager revocationMgr = newManager("1048576", "60");
+		revocationMgr.revoke("jti-1", System.currentTimeMillis() - 1L);
+
+		assertFalse(revocationMgr.isRevoked("jti-1"));
+		assertEquals(0, revocationMgr.getSize());
+	}
+
+	@Test
+	void revocationEndsAtExp() throws InterruptedException {
+		final MemberJwtRevocationManager revocationMgr = newManager("1048576", "60");
+		revocationMgr.revoke("jti-1", System.currentTimeMillis() + 50L);
+		assertTrue(revocationMgr.isRevoked("jti-1"));
+
+		Thread.sleep(100L);
+		assertFalse(revocationMgr.isRevoked("jti-1"));
+	}
+
+	@Test
+	void bloomFalsePositiveIsResolvedByExactList() {
+		// 최소 크기(64bit) 필터를 가득 채워도 폐기되지 않은 토큰은 폐기로 판정되지 않음
+		final MemberJwtRevocationManager revocationMgr = newManager("64", "60");
+		final long expTimeMs = System.currentTimeMillis() + HOUR_MS;
+		for (int i = 0; i < 1_000; ++i) {
+			revocationMgr.revoke("revoked-" + i, expTimeMs);
+		}
+
+		for (int i = 0; i < 1_000; ++i) {
+			assertTrue(revocationMgr.isRevoked("revoked-" + i));
+			assertFalse(revocationMgr.isRevoked("active-" + i));
+		}
+	}
+
+	@Test
+	void purgeRemovesExpiredAndKeepsRevoked() throws InterruptedException {
+		// 정리 주기 0초: revoke()마다 정리 및 필터 재생성
+		final MemberJwtRevocationManager revocationMgr = newManager("1024", "60");
+		final MemberJwtRevocationManager purgingMgr = newManager("1024", "0");
+		for (MemberJwtRevocationManager mgr : new MemberJwtRevocationManager[] { revocationMgr, purgingMgr }) {
+			mgr.revoke("short-lived", System.currentTimeMillis() + 50L);
+			mgr.revoke("long-lived", System.currentTimeMillis() + HOUR_MS);
+		}
+
+		Thread.sleep(100L);
+		purgingMgr.revoke("after-purge", System.currentTimeMillis() + HOUR_MS);
+
+		assertEquals(2, purgingMgr.getSize());
+		assertFalse(purgingMgr.isRevoked("short-lived"));
+		assertTrue(purgingMgr.isRevoked("long-lived"));
+		assertTrue(purgingMgr.isRevoked("after-purge"));
+		assertEquals(2, revocationMgr.getSize());
+	}
+
+	private static MemberJwtRevocationManager newManager(String bloomBits, String purgeIntervalSec) {
+		final MockEnvironment env = new MockEnvironment()
+			.withProperty("member.jwt.revocation.bloom-bits", bloomBits)
+			.withProperty("member.jwt.revocation.bloom-hashes", "4")
+			.withProperty("member.jwt.revocation.purge-interval-sec", purgeIntervalSec);
+		return new MemberJwtRevocationManager(env);
+	}
+}
@@ -0,0 +1,299 @@
+package com.de4bi.members.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+
+import com.de4bi.members.data.dao.MembersDao;
+import com.de4bi.members.manager.MembersCacheManager.Projection;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class MembersCacheManagerTest {
+
+	@Test
+	void putIsReadableBySeqIdAndNickname() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		cacheMgr.put(member(1L, "a@de4bi.com", "nick-a"), cacheMgr.getGeneration());
+
+		assertEquals("a@de4bi.com", cacheMgr.getBySeq(1L).getId());
+		assertEquals(1L, cacheMgr.getById("a@de4bi.com").getSeq());
+		assertEquals(1L, cacheMgr.getByNickname("nick-a").getSeq());
+		assertNull(cacheMgr.getBySeq(2L));
+		assertEquals(1, cacheMgr.getSize());
+	}
+
+	@Test
+	void updateLastLoginDateKeepsEntry() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		cacheMgr.put(member(1L, "a@de4bi.com", "nick-a"), cacheMgr.getGeneration());
+		cacheMgr.putProjection(Projection.INFO, member(1L, "a@de4bi.com", "nick-a"), cacheMgr.getGeneration());
+
+		cacheMgr.updateLastLoginDate(1L, new Date(2_000L));
+		cacheMgr.updateLastLoginDate(1L, new Date(1_500L)); // 이전 일자는 무시
+		cacheMgr.updateLastLoginDate(2L, new Date(2_000L)); // 캐시에 없는 회원은 무시
+
+		assertEquals(2_000L, cacheMgr.getBySeq(1L).getLastLoginDate().getTime());
+		assertEquals(2_000L, cacheMgr.getProjectionBySeq(Projection.INFO, 1L).getLastLoginDate().getTime());
+		assertEquals("name", cacheMgr.getById("a@de4bi.com").getName());
+		assertNull(cacheMgr.getBySeq(2L));
+	}
+
+	@Test
+	void returnedDaoIsCopy() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		final MembersDao membersDao = member(1L, "a@de4bi.com", "nick-a");
+		cacheMgr.put(membersDao, cacheMgr.getGeneration());
+		membersDao.setName("changed");
+		membersDao.getJoinDate().setTime(0L);
+
+		final MembersDao cachedDao = cacheMgr.getBySeq(1L);
+		assertEquals("name", cachedDao.getName());
+		assertEquals(1_000L, cachedDao.getJoinDate().getTime());
+
+		cachedDao.setName("changed");
+		assertNotSame(cachedDao, cacheMgr.getBySeq(1L));
+		assertEquals("name", cacheMgr.getBySeq(1L).getName());
+	}
+
+	@Test
+	void putWithStaleGenerationIsIgnored() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		final long generation = cacheMgr.getGeneration();
+		cacheMgr.invalidate(1L, "a@de4bi.com", null); // DB조회 중 다른 요청이 수정한 경우
+
+		cacheMgr.put(member(1L, "a@de4bi.com", "nick-a"), generation);
+		cacheMgr.putNegative(0L, "a@de4bi.com", null, generation);
+		assertNull(cacheMgr.getBySeq(1L));
+		assertFalse(cacheMgr.isNegativeById("a@de4bi.com"));
+	}
+
+	@Test
+	void invalidateDoesNotCancelOtherMembersPut() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		final long generation = cacheMgr.getGeneration();
+		cacheMgr.invalidate(1L, "a@de4bi.com", "nick-a"); // 다른 회원의 수정
+
+		cacheMgr.put(member(2L, "b@de4bi.com", "nick-b"), generation);
+		cacheMgr.putProjection(Projection.AUTH, member(3L, "c@de4bi.com", "nick-c"), generation);
+		cacheMgr.putNegative(4L, null, null, generation);
+		assertEquals(2L, cacheMgr.getBySeq(2L).getSeq());
+		assertEquals(3L, cacheMgr.getProjectionById(Projection.AUTH, "c@de4bi.com").getSeq());
+		assertTrue(cacheMgr.isNegativeBySeq(4L));
+	}
+
+	@Test
+	void putIsCancelledWhenResultKeyWasInvalidated() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		final long generation = cacheMgr.getGeneration();
+		cacheMgr.invalidate(1L, null, null); // 아이디로 조회하는 중 시퀀스로만 무효화(삭제)된 경우
+
+		cacheMgr.put(member(1L, "a@de4bi.com", "nick-a"), generation);
+		cacheMgr.putProjection(Projection.LOGIN, member(1L, "a@de4bi.com", "nick-a"), generation);
+		assertNull(cacheMgr.getById("a@de4bi.com"));
+		assertNull(cacheMgr.getProjectionById(Projection.LOGIN, "a@de4bi.com"));
+	}
+
+	@Test
+	void invalidateRemovesOldIndexes() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		cacheMgr.put(member(1L, "a@de4bi.com", "nick-a"), cacheMgr.getGeneration());
+
+		// 닉네임이 바뀐 후 seq로만 무효화해도 이전 닉네임/아이디로 조회되지 않음
+		cacheMgr.invalidate(1L, null, "nick-b");
+		assertNull(cacheMgr.getBySeq(1L));
+		assertNull(cacheMgr.getById("a@de4bi.com"));
+		assertNull(cacheMgr.getByNickname("nick-a"));
+		assertEquals(0, cacheMgr.getSize());
+	}
+
+	@Test
+	void staleNicknameIndexIsMiss() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		cacheMgr.put(member(1L, "a@de4bi.com", "nick-a"), cacheMgr.getGeneration());
+		cacheMgr.put(member(1L, "a@de4bi.com", "nick-b"), cacheMgr.getGeneration());
+
+		assertNull(cacheMgr.getByNickname("nick-a"));
+		assertEquals(1L, cacheMgr.getByNickname("nick-b").getSeq());
+	}
+
+	@Test
+	void negativeCacheIsClearedByInvalidate() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		cacheMgr.putNegative(0L, "new@de4bi.com", null, cacheMgr.getGeneration());
+		cacheMgr.putNegative(0L, null, "new-nick", cacheMgr.getGeneration());
+		assertTrue(cacheMgr.isNegativeById("new@de4bi.com"));
+		assertTrue(cacheMgr.isNegativeByNickname("new-nick"));
+
+		cacheMgr.invalidate(7L, "new@de4bi.com", "new-nick"); // 가입
+		assertFalse(cacheMgr.isNegativeById("new@de4bi.com"));
+		assertFalse(cacheMgr.isNegativeByNickname("new-nick"));
+	}
+
+	@Test
+	void expiredEntryIsMiss() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "0");
+		cacheMgr.put(member(1L, "a@de4bi.com", "nick-a"), cacheMgr.getGeneration());
+		sleep(5L);
+
+		assertNull(cacheMgr.getBySeq(1L));
+		assertNull(cacheMgr.getById("a@de4bi.com"));
+	}
+
+	@Test
+	void sizeIsBoundedByLru() {
+		final MembersCacheManager cacheMgr = newManager("true", "16", "60"); // 세그먼트당 1개
+		for (long seq = 1L; seq <= 1_000L; ++seq) {
+			cacheMgr.put(member(seq, "m" + seq + "@de4bi.com", "nick-" + seq), cacheMgr.getGeneration());
+		}
+
+		assertTrue(cacheMgr.getSize() <= 16);
+		assertEquals(1_000L, cacheMgr.getBySeq(1_000L).getSeq());
+		assertNull(cacheMgr.getById("m1@de4bi.com"));
+	}
+
+	@Test
+	void disabledCacheStoresNothing() {
+		final MembersCacheManager cacheMgr = newManager("false", "1000", "60");
+		cacheMgr.put(member(1L, "a@de4bi.com", "nick-a"), cacheMgr.getGeneration());
+		cacheMgr.putNegative(2L, null, null, cacheMgr.getGeneration());
+
+		assertNull(cacheMgr.getBySeq(1L));
+		assertFalse(cacheMgr.isNegativeBySeq(2L));
+	}
+
+	@Test
+	void hitRatio() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		cacheMgr.put(member(1L, "a@de4bi.com", "nick-a"), cacheMgr.getGeneration());
+		cacheMgr.putNegative(3L, null, null, cacheMgr.getGeneration());
+		cacheMgr.getBySeq(1L);              // hit
+
+		// 미적중 조회 한 번: 전체/부정/부분 캐시를 모두 확인한 후 DB조회
+		assertNull(cacheMgr.getBySeq(2L));
+		assertFalse(cacheMgr.isNegativeBySeq(2L));
+		assertNull(cacheMgr.getProjectionBySeq(Projection.INFO, 2L));
+		cacheMgr.recordMiss();
+
+		assertNull(cacheMgr.getBySeq(3L));
+		assertTrue(cacheMgr.isNegativeBySeq(3L)); // negative hit
+
+		// 전체 회원정보 미적중 후 부분 회원정보 적중도 한 번만 집계
+		cacheMgr.putProjection(Projection.INFO, member(4L, "d@de4bi.com", "nick-d"), cacheMgr.getGeneration());
+		assertNull(cacheMgr.getBySeq(4L));
+		assertFalse(cacheMgr.isNegativeBySeq(4L));
+		assertEquals(4L, cacheMgr.getProjectionBySeq(Projection.INFO, 4L).getSeq());
+
+		assertEquals(2L, cacheMgr.getHitCount());
+		assertEquals(1L, cacheMgr.getNegativeHitCount());
+		assertEquals(1L, cacheMgr.getMissCount());
+		assertEquals(0.75d, cacheMgr.getHitRatio());
+	}
+
+	@Test
+	void negativeAndProjectionAreEvictedIncrementally() {
+		final MembersCacheManager cacheMgr = newManager("true", "160", "60");
+		for (long seq = 1L; seq <= 1_000L; ++seq) {
+			cacheMgr.putNegative(seq, null, null, cacheMgr.getGeneration());
+			cacheMgr.putProjection(Projection.INFO, member(10_000L + seq, "m" + seq + "@de4bi.com", "nick-" + seq), cacheMgr.getGeneration());
+		}
+
+		// 가득 찬 후에도 최근 항목은 남아있어야 함
+		assertTrue(cacheMgr.isNegativeBySeq(1_000L));
+		assertFalse(cacheMgr.isNegativeBySeq(1L));
+		assertEquals(11_000L, cacheMgr.getProjectionBySeq(Projection.INFO, 11_000L).getSeq());
+		assertNull(cacheMgr.getProjectionBySeq(Projection.INFO, 10_001L));
+	}
+
+	@Test
+	void projectionIsSeparateFromFullMember() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		final MembersDao authDao = MembersDao.builder().seq(1L).id("a@de4bi.com").status(2L).build();
+		cacheMgr.putProjection(Projection.AUTH, authDao, cacheMgr.getGeneration());
+
+		assertEquals(2L, cacheMgr.getProjectionById(Projection.AUTH, "a@de4bi.com").getStatus());
+		assertNull(cacheMgr.getProjectionById(Projection.LOGIN, "a@de4bi.com"));
+		assertNull(cacheMgr.getProjectionBySeq(Projection.INFO, 1L));
+		assertNull(cacheMgr.getById("a@de4bi.com")); // 전체 회원정보 조회에는 부분 회원정보가 반환되지 않음
+	}
+
+	@Test
+	void projectionIsClearedByInvalidate() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		final MembersDao membersDao = member(1L, "a@de4bi.com", "nick-a");
+		cacheMgr.putProjection(Projection.AUTH, membersDao, cacheMgr.getGeneration());
+		cacheMgr.putProjection(Projection.LOGIN, membersDao, cacheMgr.getGeneration());
+		cacheMgr.putProjection(Projection.INFO, membersDao, cacheMgr.getGeneration());
+
+		// 시퀀스로만 무효화(삭제)해도 아이디로 조회하는 부분 회원정보까지 제거됨
+		cacheMgr.invalidate(1L, null, null);
+		assertNull(cacheMgr.getProjectionById(Projection.AUTH, "a@de4bi.com"));
+		assertNull(cacheMgr.getProjectionById(Projection.LOGIN, "a@de4bi.com"));
+		assertNull(cacheMgr.getProjectionBySeq(Projection.INFO, 1L));
+
+		cacheMgr.putProjection(Projection.INFO, membersDao, cacheMgr.getGeneration());
+		cacheMgr.invalidate(0L, "a@de4bi.com", null);
+		assertNull(cacheMgr.getProjectionBySeq(Projection.INFO, 1L));
+	}
+
+	@Test
+	void projectionWithStaleGenerationIsIgnored() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		final long generation = cacheMgr.getGeneration();
+		cacheMgr.invalidate(1L, "a@de4bi.com", null);
+
+		cacheMgr.putProjection(Projection.LOGIN, member(1L, "a@de4bi.com", "nick-a"), generation);
+		assertNull(cacheMgr.getProjectionById(Projection.LOGIN, "a@de4bi.com"));
+	}
+
+	@Test
+	void projectionIsCopyAndExpires() {
+		final MembersCacheManager cacheMgr = newManager("true", "1000", "60");
+		cacheMgr.putProjection(Projection.INFO, member(1L, "a@de4bi.com", "nick-a"), cacheMgr.getGeneration());
+		cacheMgr.getProjectionBySeq(Projection.INFO, 1L).setName("changed");
+		assertEquals("name", cacheMgr.getProjectionBySeq(Projection.INFO, 1L).getName());
+
+		final MembersCacheManager expiringMgr = newManager("true", "1000", "0");
+		expiringMgr.putProjection(Projection.INFO, member(1L, "a@de4bi.com", "nick-a"), expiringMgr.getGeneration());
+		sleep(5L);
+		assertNull(expiringMgr.getProjectionBySeq(Projection.INFO, 1L));
+	}
+
+	////////////////////////////////////////////////////////////////
+	// helper
+	////////////////////////////////////////////////////////////////
+
+	static MembersCacheManager newManager(String enabled, String maxSize, String ttlSec) {
+		final MockEnvironment env = new MockEnvironment()
+			.withProperty("member.cache.enabled", enabled)
+			.withProperty("member.cache.max-size", maxSize)
+			.withProperty("member.cache.ttl-sec", ttlSec)
+			.withProperty("member.cache.negative-ttl-sec", "60");
+		return new MembersCacheManager(env);
+	}
+
+	static MembersDao member(long seq, String id, String nickname) {
+		return MembersDao.builder()
+			.seq(seq)
+			.id(id)
+			.password("password")
+			.nickname(nickname)
+			.name("name")
+			.joinDate(new Date(1_000L))
+			.build();
+	}
+
+	static void sleep(long ms) {
+		try {
+			Thread.sleep(ms);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.de4bi.members.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class MembersListCursorTest {
+
+	@Test
+	void roundTrip() {
+		for (long seq : new long[] { 1L, 20L, 1_234_567L, Long.MAX_VALUE }) {
+			assertEquals(seq, MembersService.decodeListCursor(MembersService.encodeListCursor(seq)));
+		}
+	}
+
+	@Test
+	void cursorIsUrlSafe() {
+		final String cursor = MembersService.encodeListCursor(Long.MAX_VALUE);
+		assertFalse(cursor.contains("+") || cursor.contains("/") || cursor.contains("="), "cursor: " + cursor);
+	}
+
+	@Test
+	void emptyCursorIsFirstPage() {
+		assertEquals(0L, MembersService.decodeListCursor(null));
+		assertEquals(0L, MembersService.decodeListCursor(""));
+	}
+
+	@Test
+	void negativeSeqIsFirstPage() {
+		assertEquals(0L, MembersService.decodeListCursor(encode("s-5")));
+	}
+
+	@Test
+	void invalidCursorIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> MembersService.decodeListCursor("!!not-base64!!"));
+		assertThrows(IllegalArgumentException.class, () -> MembersService.decodeListCursor(encode("x20")));
+		assertThrows(IllegalArgumentException.class, () -> MembersService.decodeListCursor(encode("s")));
+		assertThrows(IllegalArgumentException.class, () -> MembersService.decodeListCursor(encode("sabc")));
+		assertThrows(IllegalArgumentException.class, () -> MembersService.decodeListCursor(encode("s99999999999999999999")));
+	}
+
+	private static String encode(String decoded) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+	}
+}